@@ -48,6 +48,11 @@ abstract class BaseDriver implements Driver
         this.log = logging.getLog( DRIVER_LOG_NAME );
     }
 
+    RecordBufferLimits recordBufferLimits()
+    {
+        return contract.recordBufferLimits();
+    }
+
     @Override
     public boolean isEncrypted()
     {
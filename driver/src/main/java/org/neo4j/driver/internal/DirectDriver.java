@@ -45,12 +45,13 @@ public class DirectDriver extends BaseDriver
         super( contract, securityPlan, logging );
         this.address = address;
         this.connections = connections;
+        connections.warmUp( address );
     }
 
     @Override
     public Session session()
     {
-        return new NetworkSession( connections.acquire( address ) );
+        return new NetworkSession( connections.acquire( address ), recordBufferLimits() );
     }
 
     @Override
@@ -28,14 +28,26 @@ import org.neo4j.driver.v1.RetryLogic;
 public class DriverContract
 {
     private final RetryLogic retryLogic;
+    private final RecordBufferLimits recordBufferLimits;
 
     public DriverContract( RetryLogic retryLogic )
+    {
+        this( retryLogic, RecordBufferLimits.UNLIMITED );
+    }
+
+    public DriverContract( RetryLogic retryLogic, RecordBufferLimits recordBufferLimits )
     {
         this.retryLogic = retryLogic;
+        this.recordBufferLimits = recordBufferLimits;
     }
 
     public RetryLogic retryLogic()
     {
         return retryLogic;
     }
+
+    public RecordBufferLimits recordBufferLimits()
+    {
+        return recordBufferLimits;
+    }
 }
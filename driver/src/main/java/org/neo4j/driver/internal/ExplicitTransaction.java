@@ -18,15 +18,23 @@
  */
 package org.neo4j.driver.internal;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
 
 import org.neo4j.driver.internal.spi.Connection;
 import org.neo4j.driver.internal.spi.Collector;
 import org.neo4j.driver.internal.types.InternalTypeSystem;
+import org.neo4j.driver.internal.util.Futures;
 import org.neo4j.driver.v1.Record;
 import org.neo4j.driver.v1.Statement;
 import org.neo4j.driver.v1.StatementResult;
+import org.neo4j.driver.v1.StatementResultCursor;
 import org.neo4j.driver.v1.Transaction;
 import org.neo4j.driver.v1.Value;
 import org.neo4j.driver.v1.Values;
@@ -37,7 +45,6 @@ import org.neo4j.driver.v1.types.TypeSystem;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonMap;
 
-import static org.neo4j.driver.v1.Values.ofValue;
 import static org.neo4j.driver.v1.Values.value;
 
 class ExplicitTransaction implements Transaction
@@ -68,6 +75,8 @@ class ExplicitTransaction implements Transaction
 
     private final Runnable cleanup;
     private final Connection conn;
+    private final RecordBufferLimits recordBufferLimits;
+    private final UnconsumedResults unconsumedResults;
 
     private String bookmark = null;
     private State state = State.ACTIVE;
@@ -78,9 +87,16 @@ class ExplicitTransaction implements Transaction
     }
 
     ExplicitTransaction( Connection conn, Runnable cleanup, String bookmark )
+    {
+        this( conn, cleanup, bookmark, RecordBufferLimits.UNLIMITED );
+    }
+
+    ExplicitTransaction( Connection conn, Runnable cleanup, String bookmark, RecordBufferLimits recordBufferLimits )
     {
         this.conn = conn;
         this.cleanup = cleanup;
+        this.recordBufferLimits = recordBufferLimits;
+        this.unconsumedResults = new UnconsumedResults( recordBufferLimits );
 
         final Map<String, Value> parameters;
         if ( bookmark == null )
@@ -138,10 +154,117 @@ class ExplicitTransaction implements Transaction
         }
         finally
         {
+            unconsumedResults.discard();
             cleanup.run();
         }
     }
 
+    @Override
+    public CompletionStage<Void> commitAsync()
+    {
+        success();
+        if ( state != State.MARKED_SUCCESS )
+        {
+            final ClientException error = new ClientException(
+                    "Cannot commit this transaction, because it has been marked for rollback or has failed." );
+            final CompletableFuture<Void> rolledBack = new CompletableFuture<>();
+            closeAsync().whenComplete( new BiConsumer<Void,Throwable>()
+            {
+                @Override
+                public void accept( Void ignore, Throwable closeError )
+                {
+                    rolledBack.completeExceptionally( error );
+                }
+            } );
+            return rolledBack;
+        }
+        return closeAsync();
+    }
+
+    @Override
+    public CompletionStage<Void> rollbackAsync()
+    {
+        failure();
+        return closeAsync();
+    }
+
+    /**
+     * Complete the transaction the same way {@link #close()} does, without waiting for the server to reply.
+     */
+    CompletionStage<Void> closeAsync()
+    {
+        final State outcome;
+        final String statement;
+        if ( conn == null || !conn.isOpen() )
+        {
+            outcome = state;
+            statement = null;
+        }
+        else if ( state == State.MARKED_SUCCESS )
+        {
+            outcome = State.SUCCEEDED;
+            statement = "COMMIT";
+        }
+        else if ( state == State.MARKED_FAILED || state == State.ACTIVE )
+        {
+            outcome = State.ROLLED_BACK;
+            statement = "ROLLBACK";
+        }
+        else
+        {
+            outcome = state;
+            statement = null;
+        }
+
+        if ( statement == null )
+        {
+            unconsumedResults.discard();
+            cleanup.run();
+            return CompletableFuture.completedFuture( null );
+        }
+
+        final CompletableFuture<Void> closed = new CompletableFuture<>();
+        CompletionStage<Void> synced;
+        try
+        {
+            conn.run( statement, Collections.<String,Value>emptyMap(), Collector.NO_OP );
+            conn.pullAll( new BookmarkCollector( this ) );
+            synced = conn.syncAsync();
+        }
+        catch ( RuntimeException e )
+        {
+            synced = Futures.failed( e );
+        }
+        synced.whenComplete( new BiConsumer<Void,Throwable>()
+        {
+            @Override
+            public void accept( Void ignore, Throwable error )
+            {
+                try
+                {
+                    if ( error == null )
+                    {
+                        state = outcome;
+                    }
+                    unconsumedResults.discard();
+                    cleanup.run();
+                }
+                finally
+                {
+                    if ( error != null )
+                    {
+                        closed.completeExceptionally( Futures.unwrap( error ) );
+                    }
+                    else
+                    {
+                        closed.complete( null );
+                    }
+                }
+            }
+        } );
+        return closed;
+    }
+
     @Override
     @SuppressWarnings( "unchecked" )
     public StatementResult run( String statementText, Value statementParameters )
@@ -171,14 +294,52 @@ class ExplicitTransaction implements Transaction
 
     @Override
     public synchronized StatementResult run( Statement statement )
+    {
+        return unconsumedResults.add( start( statement ) );
+    }
+
+    @Override
+    public CompletionStage<StatementResultCursor> runAsync( String statementText )
+    {
+        return runAsync( statementText, Values.EmptyMap );
+    }
+
+    @Override
+    public CompletionStage<StatementResultCursor> runAsync( String statementText,
+            Map<String,Object> statementParameters )
+    {
+        Value params = statementParameters == null ? Values.EmptyMap : value( statementParameters );
+        return runAsync( statementText, params );
+    }
+
+    @Override
+    public CompletionStage<StatementResultCursor> runAsync( String statementText, Value statementParameters )
+    {
+        return runAsync( new Statement( statementText, statementParameters ) );
+    }
+
+    @Override
+    public synchronized CompletionStage<StatementResultCursor> runAsync( Statement statement )
+    {
+        try
+        {
+            return unconsumedResults.add( start( statement ) ).runAsync();
+        }
+        catch ( RuntimeException e )
+        {
+            return Futures.failed( e );
+        }
+    }
+
+    private InternalStatementResult start( Statement statement )
     {
         ensureNotFailed();
 
         try
         {
-            InternalStatementResult cursor = new InternalStatementResult( conn, this, statement );
+            InternalStatementResult cursor = new InternalStatementResult( conn, this, statement, recordBufferLimits );
             conn.run( statement.text(),
-                    statement.parameters().asMap( ofValue() ),
+                    statement.parameters(),
                     cursor.runResponseCollector() );
             conn.pullAll( cursor.pullAllResponseCollector() );
             conn.flush();
@@ -193,6 +354,68 @@ class ExplicitTransaction implements Transaction
         }
     }
 
+    /**
+     * Run the given statements and commit, sending them to the server along with the BEGIN queued when this
+     * transaction was created and the COMMIT, all at once, and waiting for all replies. The results are received in
+     * full before this returns.
+     * <p>
+     * If a statement fails, the server ignores the statements after it and the COMMIT, this transaction is marked as
+     * failed, and {@link #close()} rolls it back. If the COMMIT itself fails, the server has ended the transaction
+     * already and no more messages are sent for it.
+     *
+     * @param statements the statements to run, in order
+     * @return the results of the statements, in the same order
+     */
+    synchronized List<StatementResult> runAndCommit( List<Statement> statements )
+    {
+        ensureNotFailed();
+
+        final AtomicBoolean commitProcessed = new AtomicBoolean();
+        List<StatementResult> results = new ArrayList<>( statements.size() );
+        try
+        {
+            for ( Statement statement : statements )
+            {
+                InternalStatementResult cursor = new InternalStatementResult( conn, this, statement, recordBufferLimits );
+                conn.run( statement.text(),
+                        statement.parameters(),
+                        cursor.runResponseCollector() );
+                conn.pullAll( cursor.pullAllResponseCollector() );
+                results.add( cursor );
+            }
+            conn.run( "COMMIT", Collections.<String,Value>emptyMap(), new Collector.NoOperationCollector()
+            {
+                @Override
+                public void doneSuccess()
+                {
+                    commitProcessed.set( true );
+                }
+
+                @Override
+                public void doneFailure( Neo4jException error )
+                {
+                    commitProcessed.set( true );
+                }
+            } );
+            conn.pullAll( new BookmarkCollector( this ) );
+            conn.sync();
+            state = State.SUCCEEDED;
+            return results;
+        }
+        catch ( Neo4jException e )
+        {
+            if ( commitProcessed.get() )
+            {
+                state = State.FAILED;
+            }
+            else
+            {
+                failure();
+            }
+            throw e;
+        }
+    }
+
     @Override
     public boolean isOpen()
     {
@@ -23,6 +23,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 
+import org.neo4j.driver.internal.messaging.EncodedRecord;
 import org.neo4j.driver.internal.util.Extract;
 import org.neo4j.driver.internal.value.InternalValue;
 import org.neo4j.driver.internal.types.InternalMapAccessorWithDefaultValue;
@@ -41,12 +42,22 @@ public class InternalRecord extends InternalMapAccessorWithDefaultValue implemen
 {
     private final List<String> keys;
     private final Value[] values;
+    /** The fields when they are decoded on first access, otherwise null */
+    private final EncodedRecord encoded;
     private int hashcode = 0;
 
     public InternalRecord( List<String> keys, Value[] values )
     {
         this.keys = keys;
         this.values = values;
+        this.encoded = null;
+    }
+
+    public InternalRecord( List<String> keys, EncodedRecord encoded )
+    {
+        this.keys = keys;
+        this.values = null;
+        this.encoded = encoded;
     }
 
     @Override
@@ -58,7 +69,7 @@ public class InternalRecord extends InternalMapAccessorWithDefaultValue implemen
     @Override
     public List<Value> values()
     {
-        return Arrays.asList( values );
+        return Arrays.asList( encoded == null ? values : encoded.values() );
     }
 
     @Override
@@ -98,20 +109,49 @@ public class InternalRecord extends InternalMapAccessorWithDefaultValue implemen
         }
         else
         {
-            return values[fieldIndex];
+            return value( fieldIndex );
         }
     }
 
     @Override
     public Value get( int index )
     {
-        return index >= 0 && index < values.length ? values[index] : Values.NULL;
+        return index >= 0 && index < size() ? value( index ) : Values.NULL;
     }
 
     @Override
     public int size()
     {
-        return values.length;
+        return encoded == null ? values.length : encoded.size();
+    }
+
+    private Value value( int index )
+    {
+        return encoded == null ? values[index] : encoded.get( index );
+    }
+
+    long longAt( int index )
+    {
+        return encoded == null ? values[index].asLong() : encoded.getLong( index );
+    }
+
+    double doubleAt( int index )
+    {
+        return encoded == null ? values[index].asDouble() : encoded.getDouble( index );
+    }
+
+    boolean booleanAt( int index )
+    {
+        return encoded == null ? values[index].asBoolean() : encoded.getBoolean( index );
+    }
+
+    String stringAt( int index )
+    {
+        if ( encoded != null )
+        {
+            return encoded.getString( index );
+        }
+        return values[index].isNull() ? null : values[index].asString();
     }
 
     @Override
@@ -171,7 +211,7 @@ public class InternalRecord extends InternalMapAccessorWithDefaultValue implemen
     {
         if ( hashcode == 0 )
         {
-            hashcode = 31 * keys.hashCode() + Arrays.hashCode( values );
+            hashcode = 31 * keys.hashCode() + values().hashCode();
         }
         return hashcode;
     }
@@ -20,19 +20,26 @@ package org.neo4j.driver.internal;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.LinkedList;
 import java.util.List;
-import java.util.Queue;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
 
+import org.neo4j.driver.internal.messaging.EncodedRecord;
 import org.neo4j.driver.internal.spi.Connection;
 import org.neo4j.driver.internal.spi.Collector;
 import org.neo4j.driver.internal.summary.SummaryBuilder;
+import org.neo4j.driver.internal.util.Futures;
+import org.neo4j.driver.internal.util.KeyIndex;
+import org.neo4j.driver.internal.util.Supplier;
 import org.neo4j.driver.v1.Record;
 import org.neo4j.driver.v1.Statement;
 import org.neo4j.driver.v1.StatementResult;
+import org.neo4j.driver.v1.StatementResultCursor;
 import org.neo4j.driver.v1.Value;
 import org.neo4j.driver.v1.exceptions.ClientException;
 import org.neo4j.driver.v1.exceptions.NoSuchRecordException;
+import org.neo4j.driver.v1.reactive.Publisher;
 import org.neo4j.driver.v1.summary.Notification;
 import org.neo4j.driver.v1.summary.Plan;
 import org.neo4j.driver.v1.summary.ProfiledPlan;
@@ -44,12 +51,12 @@ import org.neo4j.driver.v1.util.Functions;
 
 import static java.util.Collections.emptyList;
 
-public class InternalStatementResult implements StatementResult
+public class InternalStatementResult implements StatementResult, StatementResultCursor
 {
     private final Connection connection;
     private final Collector runResponseCollector;
     private final Collector pullAllResponseCollector;
-    private final Queue<Record> recordBuffer = new LinkedList<>();
+    private final RecordBuffer recordBuffer;
 
     private List<String> keys = null;
     private ResultSummary summary = null;
@@ -58,8 +65,15 @@ public class InternalStatementResult implements StatementResult
     private boolean done = false;
 
     InternalStatementResult( Connection connection, ExplicitTransaction transaction, Statement statement )
+    {
+        this( connection, transaction, statement, RecordBufferLimits.UNLIMITED );
+    }
+
+    InternalStatementResult( Connection connection, ExplicitTransaction transaction, Statement statement,
+            RecordBufferLimits limits )
     {
         this.connection = connection;
+        this.recordBuffer = new RecordBuffer( limits );
         this.runResponseCollector = newRunResponseCollector();
         this.pullAllResponseCollector = newStreamResponseCollector( transaction, statement );
     }
@@ -71,7 +85,7 @@ public class InternalStatementResult implements StatementResult
             @Override
             public void keys( String[] names )
             {
-                keys = Arrays.asList( names );
+                keys = new KeyIndex( names );
             }
 
             @Override
@@ -100,7 +114,13 @@ public class InternalStatementResult implements StatementResult
             @Override
             public void record( Value[] fields )
             {
-                recordBuffer.add( new InternalRecord( keys, fields ) );
+                recordBuffer.add( keys, fields );
+            }
+
+            @Override
+            public void record( EncodedRecord record )
+            {
+                recordBuffer.add( keys, record );
             }
 
             @Override
@@ -274,6 +294,77 @@ public class InternalStatementResult implements StatementResult
         }
     }
 
+    /**
+     * @return true if all records have arrived, and none of them are held any more
+     */
+    boolean isConsumed()
+    {
+        return done && recordBuffer.holdsNothing();
+    }
+
+    /**
+     * Discard the records not consumed by the time the session or transaction of this result is closed, so that they
+     * no longer count towards the record buffer limits of the driver.
+     */
+    void discardUnconsumed()
+    {
+        recordBuffer.discard( new ClientException(
+                "The result was not consumed before its session or transaction was closed. Its records were " +
+                "discarded, to stay within the record buffer limits of the driver." ) );
+    }
+
+    @Override
+    public long[] longColumn( String key )
+    {
+        return column( key, new long[INITIAL_COLUMN_SIZE], LONGS );
+    }
+
+    @Override
+    public double[] doubleColumn( String key )
+    {
+        return column( key, new double[INITIAL_COLUMN_SIZE], DOUBLES );
+    }
+
+    @Override
+    public boolean[] booleanColumn( String key )
+    {
+        return column( key, new boolean[INITIAL_COLUMN_SIZE], BOOLEANS );
+    }
+
+    @Override
+    public String[] stringColumn( String key )
+    {
+        return column( key, new String[INITIAL_COLUMN_SIZE], STRINGS );
+    }
+
+    private <A> A column( String key, A column, ColumnReader<A> reader )
+    {
+        int index = columnIndex( key );
+        int capacity = INITIAL_COLUMN_SIZE;
+        int size = 0;
+        while ( tryFetchNext() )
+        {
+            position += 1;
+            if ( size == capacity )
+            {
+                capacity *= 2;
+                column = reader.copyOf( column, capacity );
+            }
+            reader.read( (InternalRecord) recordBuffer.poll(), index, column, size++ );
+        }
+        return reader.copyOf( column, size );
+    }
+
+    private int columnIndex( String key )
+    {
+        int index = keys().indexOf( key );
+        if ( index == -1 )
+        {
+            throw new NoSuchElementException( "Unknown key: " + key );
+        }
+        return index;
+    }
+
     @Override
     public ResultSummary consume()
     {
@@ -294,6 +385,144 @@ public class InternalStatementResult implements StatementResult
         return summary;
     }
 
+    /**
+     * @return a stage completed with this result once the server has replied to its statement
+     */
+    CompletionStage<StatementResultCursor> runAsync()
+    {
+        return receiveAsyncUntil( new Supplier<Boolean>()
+        {
+            @Override
+            public Boolean get()
+            {
+                return keys != null;
+            }
+        }, new Supplier<StatementResultCursor>()
+        {
+            @Override
+            public StatementResultCursor get()
+            {
+                return InternalStatementResult.this;
+            }
+        } );
+    }
+
+    @Override
+    public CompletionStage<Record> nextAsync()
+    {
+        return receiveAsyncUntil( new Supplier<Boolean>()
+        {
+            @Override
+            public Boolean get()
+            {
+                return !recordBuffer.isEmpty() || done;
+            }
+        }, new Supplier<Record>()
+        {
+            @Override
+            public Record get()
+            {
+                Record record = recordBuffer.poll();
+                if ( record != null )
+                {
+                    position += 1;
+                }
+                return record;
+            }
+        } );
+    }
+
+    @Override
+    public CompletionStage<ResultSummary> forEachAsync( final Consumer<Record> action )
+    {
+        return receiveAsyncUntil( new Supplier<Boolean>()
+        {
+            @Override
+            public Boolean get()
+            {
+                Record record;
+                while ( (record = recordBuffer.peek()) != null )
+                {
+                    action.accept( record );
+                    recordBuffer.poll();
+                    position += 1;
+                }
+                return done;
+            }
+        }, summary() );
+    }
+
+    @Override
+    public CompletionStage<List<Record>> listAsync()
+    {
+        final List<Record> records = new ArrayList<>();
+        return receiveAsyncUntil( new Supplier<Boolean>()
+        {
+            @Override
+            public Boolean get()
+            {
+                Record record;
+                while ( (record = recordBuffer.poll()) != null )
+                {
+                    records.add( record );
+                    position += 1;
+                }
+                return done;
+            }
+        }, new Supplier<List<Record>>()
+        {
+            @Override
+            public List<Record> get()
+            {
+                return records;
+            }
+        } );
+    }
+
+    @Override
+    public CompletionStage<ResultSummary> consumeAsync()
+    {
+        return receiveAsyncUntil( new Supplier<Boolean>()
+        {
+            @Override
+            public Boolean get()
+            {
+                recordBuffer.clear();
+                return done;
+            }
+        }, summary() );
+    }
+
+    @Override
+    public Publisher<Record> publisher()
+    {
+        return new RecordPublisher( this );
+    }
+
+    private Supplier<ResultSummary> summary()
+    {
+        return new Supplier<ResultSummary>()
+        {
+            @Override
+            public ResultSummary get()
+            {
+                return summary;
+            }
+        };
+    }
+
+    private <T> CompletionStage<T> receiveAsyncUntil( Supplier<Boolean> finished, Supplier<T> result )
+    {
+        return Futures.repeatUntil( finished, new Supplier<CompletionStage<Void>>()
+        {
+            @Override
+            public CompletionStage<Void> get()
+            {
+                return connection.receiveOneAsync();
+            }
+        }, result );
+    }
+
     @Override
     public void remove()
     {
@@ -313,4 +542,76 @@ public class InternalStatementResult implements StatementResult
 
         return true;
     }
+
+    private static final int INITIAL_COLUMN_SIZE = 16;
+
+    /**
+     * Reads one field of records into an array of the given type.
+     */
+    private interface ColumnReader<A>
+    {
+        A copyOf( A column, int length );
+
+        void read( InternalRecord record, int index, A column, int position );
+    }
+
+    private static final ColumnReader<long[]> LONGS = new ColumnReader<long[]>()
+    {
+        @Override
+        public long[] copyOf( long[] column, int length )
+        {
+            return Arrays.copyOf( column, length );
+        }
+
+        @Override
+        public void read( InternalRecord record, int index, long[] column, int position )
+        {
+            column[position] = record.longAt( index );
+        }
+    };
+
+    private static final ColumnReader<double[]> DOUBLES = new ColumnReader<double[]>()
+    {
+        @Override
+        public double[] copyOf( double[] column, int length )
+        {
+            return Arrays.copyOf( column, length );
+        }
+
+        @Override
+        public void read( InternalRecord record, int index, double[] column, int position )
+        {
+            column[position] = record.doubleAt( index );
+        }
+    };
+
+    private static final ColumnReader<boolean[]> BOOLEANS = new ColumnReader<boolean[]>()
+    {
+        @Override
+        public boolean[] copyOf( boolean[] column, int length )
+        {
+            return Arrays.copyOf( column, length );
+        }
+
+        @Override
+        public void read( InternalRecord record, int index, boolean[] column, int position )
+        {
+            column[position] = record.booleanAt( index );
+        }
+    };
+
+    private static final ColumnReader<String[]> STRINGS = new ColumnReader<String[]>()
+    {
+        @Override
+        public String[] copyOf( String[] column, int length )
+        {
+            return Arrays.copyOf( column, length );
+        }
+
+        @Override
+        public void read( InternalRecord record, int index, String[] column, int position )
+        {
+            column[position] = record.stringAt( index );
+        }
+    };
 }
@@ -21,27 +21,36 @@ package org.neo4j.driver.internal;
 import org.neo4j.driver.internal.logging.DevNullLogger;
 import org.neo4j.driver.internal.spi.Connection;
 import org.neo4j.driver.internal.types.InternalTypeSystem;
+import org.neo4j.driver.internal.util.Futures;
 import org.neo4j.driver.v1.Logger;
 import org.neo4j.driver.v1.Record;
 import org.neo4j.driver.v1.Session;
 import org.neo4j.driver.v1.Statement;
 import org.neo4j.driver.v1.StatementResult;
+import org.neo4j.driver.v1.StatementResultCursor;
 import org.neo4j.driver.v1.Transaction;
 import org.neo4j.driver.v1.Value;
 import org.neo4j.driver.v1.Values;
 import org.neo4j.driver.v1.exceptions.ClientException;
 import org.neo4j.driver.v1.exceptions.ServiceUnavailableException;
+import org.neo4j.driver.v1.summary.ResultSummary;
 import org.neo4j.driver.v1.types.TypeSystem;
 
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
 
 import static org.neo4j.driver.v1.Values.value;
 
 public class NetworkSession implements Session
 {
     protected Connection connection;
+    private final RecordBufferLimits recordBufferLimits;
+    private final UnconsumedResults unconsumedResults;
     private final String sessionId;
     private final Logger logger;
 
@@ -68,8 +77,15 @@ public class NetworkSession implements Session
     private AtomicBoolean isOpen = new AtomicBoolean( true );
 
     public NetworkSession( Connection connection )
+    {
+        this( connection, RecordBufferLimits.UNLIMITED );
+    }
+
+    public NetworkSession( Connection connection, RecordBufferLimits recordBufferLimits )
     {
         this.connection = connection;
+        this.recordBufferLimits = recordBufferLimits;
+        this.unconsumedResults = new UnconsumedResults( recordBufferLimits );
 
         if( connection != null && connection.logger() != null )
         {
@@ -113,13 +129,54 @@ public class NetworkSession implements Session
     public StatementResult run( Statement statement )
     {
         ensureConnectionIsValidBeforeRunningSession();
-        return run( connection, statement );
+        return unconsumedResults.add( start( connection, statement, recordBufferLimits ) );
+    }
+
+    @Override
+    public CompletionStage<StatementResultCursor> runAsync( String statementText )
+    {
+        return runAsync( statementText, Values.EmptyMap );
+    }
+
+    @Override
+    public CompletionStage<StatementResultCursor> runAsync( String statementText,
+            Map<String,Object> statementParameters )
+    {
+        Value params = statementParameters == null ? Values.EmptyMap : value( statementParameters );
+        return runAsync( statementText, params );
+    }
+
+    @Override
+    public CompletionStage<StatementResultCursor> runAsync( String statementText, Value statementParameters )
+    {
+        return runAsync( new Statement( statementText, statementParameters ) );
+    }
+
+    @Override
+    public CompletionStage<StatementResultCursor> runAsync( Statement statement )
+    {
+        try
+        {
+            ensureConnectionIsValidBeforeRunningSession();
+            return unconsumedResults.add( start( connection, statement, recordBufferLimits ) ).runAsync();
+        }
+        catch ( RuntimeException e )
+        {
+            return Futures.failed( e );
+        }
     }
 
     public static StatementResult run( Connection connection, Statement statement )
     {
-        InternalStatementResult cursor = new InternalStatementResult( connection, null, statement );
-        connection.run( statement.text(), statement.parameters().asMap( Values.ofValue() ),
+        return start( connection, statement, RecordBufferLimits.UNLIMITED );
+    }
+
+    private static InternalStatementResult start( Connection connection, Statement statement,
+            RecordBufferLimits recordBufferLimits )
+    {
+        InternalStatementResult cursor =
+                new InternalStatementResult( connection, null, statement, recordBufferLimits );
+        connection.run( statement.text(), statement.parameters(),
                 cursor.runResponseCollector() );
         connection.pullAll( cursor.pullAllResponseCollector() );
         connection.flush();
@@ -183,9 +240,74 @@ public class NetworkSession implements Session
             connection.sync();
         }
         finally
+        {
+            unconsumedResults.discard();
+            closeConnection();
+        }
+    }
+
+    @Override
+    public CompletionStage<Void> closeAsync()
+    {
+        if ( !isOpen.compareAndSet( true, false ) )
+        {
+            return Futures.failed( new ClientException( "This session has already been closed." ) );
+        }
+
+        if ( !connection.isOpen() )
         {
             closeConnection();
+            return CompletableFuture.completedFuture( null );
+        }
+
+        final CompletableFuture<Void> closed = new CompletableFuture<>();
+        closeTransactionAsync().whenComplete( new BiConsumer<Void,Throwable>()
+        {
+            @Override
+            public void accept( Void ignore, Throwable txError )
+            {
+                if ( txError != null )
+                {
+                    // Best-effort
+                    logger.warn( "WARNING: Failed to close tx due to error: " + Futures.unwrap( txError ) );
+                }
+                // Releasing the connection validates it with a blocking round trip, which must not happen on the
+                // I/O thread that completed the sync
+                connection.syncAsync().whenCompleteAsync( new BiConsumer<Void,Throwable>()
+                {
+                    @Override
+                    public void accept( Void ignore, Throwable error )
+                    {
+                        try
+                        {
+                            unconsumedResults.discard();
+                            closeConnection();
+                        }
+                        finally
+                        {
+                            if ( error != null )
+                            {
+                                closed.completeExceptionally( Futures.unwrap( error ) );
+                            }
+                            else
+                            {
+                                closed.complete( null );
+                            }
+                        }
+                    }
+                } );
+            }
+        } );
+        return closed;
+    }
+
+    private synchronized CompletionStage<Void> closeTransactionAsync()
+    {
+        if ( currentTransaction == null )
+        {
+            return CompletableFuture.completedFuture( null );
         }
+        return currentTransaction.closeAsync();
     }
 
     private void closeConnection()
@@ -207,10 +329,54 @@ public class NetworkSession implements Session
     }
 
     @Override
-    public synchronized Transaction beginTransaction( String bookmark )
+    public Transaction beginTransaction( String bookmark )
+    {
+        return begin( bookmark );
+    }
+
+    @Override
+    public List<StatementResult> runInTransaction( List<Statement> statements )
+    {
+        return runInTransaction( statements, null );
+    }
+
+    @Override
+    public List<StatementResult> runInTransaction( List<Statement> statements, String bookmark )
+    {
+        try ( ExplicitTransaction tx = begin( bookmark ) )
+        {
+            List<StatementResult> results = tx.runAndCommit( statements );
+            for ( StatementResult result : results )
+            {
+                // closing the session gives back the room of whatever records the caller leaves unconsumed
+                unconsumedResults.add( (InternalStatementResult) result );
+            }
+            return results;
+        }
+    }
+
+    @Override
+    public ResultSummary execute( String statementTemplate, Value parameters )
+    {
+        return execute( new Statement( statementTemplate, parameters ) );
+    }
+
+    @Override
+    public ResultSummary execute( Statement statement )
+    {
+        ensureConnectionIsValidBeforeRunningSession();
+        InternalStatementResult result =
+                new InternalStatementResult( connection, null, statement, recordBufferLimits );
+        connection.run( statement.text(), statement.parameters(), result.runResponseCollector() );
+        connection.discardAll( result.pullAllResponseCollector() );
+        connection.flush();
+        return result.consume();
+    }
+
+    private synchronized ExplicitTransaction begin( String bookmark )
     {
         ensureConnectionIsValidBeforeOpeningTransaction();
-        currentTransaction = new ExplicitTransaction( connection, txCleanup, bookmark );
+        currentTransaction = new ExplicitTransaction( connection, txCleanup, bookmark, recordBufferLimits );
         connection.onError( new Runnable()
         {
             @Override
@@ -0,0 +1,280 @@
+/**
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+
+import org.neo4j.driver.internal.messaging.EncodedRecord;
+import org.neo4j.driver.internal.messaging.RecordSpillFile;
+import org.neo4j.driver.v1.Config.BufferOverflowPolicy;
+import org.neo4j.driver.v1.Record;
+import org.neo4j.driver.v1.Value;
+import org.neo4j.driver.v1.exceptions.ClientException;
+
+/**
+ * The records a result has received and not handed out yet, oldest first.
+ * <p>
+ * Records are held in memory within the given {@link RecordBufferLimits limits}. Records that do not fit are
+ * written to a {@link RecordSpillFile} with {@link BufferOverflowPolicy#SPILL}, and are otherwise discarded,
+ * failing the result once the records before them have been handed out.
+ * <p>
+ * Records may be handed out by another thread than the one adding them, for instance while an event loop thread
+ * decodes the replies to later statements of the same session. All methods lock the buffer, so that the records
+ * held and the spill file are only ever used by one thread at a time.
+ */
+class RecordBuffer
+{
+    private final RecordBufferLimits limits;
+    /** The room this buffer takes within the limits, and its spill file */
+    private final RecordBufferLimits.Reservation reservation;
+
+    // Guarded by this
+    private final Queue<Record> held = new ArrayDeque<>();
+    private List<String> spilledKeys;
+    /** The oldest spilled record, once it has been read back */
+    private Record unspilled;
+    /** Set once records have been discarded, to be thrown when the records before them have been handed out */
+    private ClientException overflow;
+
+    RecordBuffer( RecordBufferLimits limits )
+    {
+        this.limits = limits;
+        this.reservation = limits.register( this );
+    }
+
+    synchronized void add( List<String> keys, Value[] fields )
+    {
+        if ( fits() )
+        {
+            hold( new InternalRecord( keys, fields ) );
+        }
+        else if ( spill( keys ) )
+        {
+            try
+            {
+                reservation.spillFile.write( fields );
+            }
+            catch ( IOException e )
+            {
+                throw spillFailed( e );
+            }
+        }
+    }
+
+    synchronized void add( List<String> keys, EncodedRecord record )
+    {
+        if ( fits() )
+        {
+            hold( new InternalRecord( keys, record ) );
+        }
+        else if ( spill( keys ) )
+        {
+            try
+            {
+                reservation.spillFile.write( record );
+            }
+            catch ( IOException e )
+            {
+                throw spillFailed( e );
+            }
+        }
+    }
+
+    private boolean fits()
+    {
+        if ( !limits.isLimited() )
+        {
+            return true;
+        }
+        // Once records have been spilled or discarded, the ones that follow must not overtake them
+        return overflow == null && !hasSpilled() && limits.reserve( this );
+    }
+
+    private void hold( Record record )
+    {
+        if ( limits.isLimited() )
+        {
+            reservation.held++;
+        }
+        held.add( record );
+    }
+
+    /**
+     * @return true if the record that did not fit is to be spilled, false if it is to be discarded
+     */
+    private boolean spill( List<String> keys )
+    {
+        if ( overflow != null )
+        {
+            return false;
+        }
+        if ( limits.overflowPolicy() != BufferOverflowPolicy.SPILL )
+        {
+            overflow = limits.overflow();
+            return false;
+        }
+        if ( reservation.spillFile == null )
+        {
+            try
+            {
+                reservation.spillFile = new RecordSpillFile();
+            }
+            catch ( IOException e )
+            {
+                throw spillFailed( e );
+            }
+            spilledKeys = keys;
+        }
+        return true;
+    }
+
+    private boolean hasSpilled()
+    {
+        RecordSpillFile spilled = reservation.spillFile;
+        return unspilled != null || (spilled != null && spilled.size() > 0);
+    }
+
+    /**
+     * @return the number of records held in memory that count towards the limits
+     */
+    synchronized int held()
+    {
+        return reservation.held;
+    }
+
+    /**
+     * @return true if there are no records to hand out
+     * @throws ClientException if there are no records left before ones that were discarded
+     */
+    synchronized boolean isEmpty()
+    {
+        boolean empty = held.isEmpty() && !hasSpilled();
+        if ( empty && overflow != null )
+        {
+            throw overflow;
+        }
+        return empty;
+    }
+
+    /**
+     * @return the oldest record, without handing it out, or null if there are none
+     * @throws ClientException if there are no records left before ones that were discarded
+     */
+    synchronized Record peek()
+    {
+        Record record = held.peek();
+        if ( record == null )
+        {
+            record = unspill();
+        }
+        return record;
+    }
+
+    /**
+     * @return the oldest record, or null if there are none
+     * @throws ClientException if there are no records left before ones that were discarded
+     */
+    synchronized Record poll()
+    {
+        Record record = held.poll();
+        if ( record != null )
+        {
+            released( 1 );
+            return record;
+        }
+        record = unspill();
+        unspilled = null;
+        return record;
+    }
+
+    private Record unspill()
+    {
+        RecordSpillFile spilled = reservation.spillFile;
+        if ( unspilled == null && spilled != null && spilled.size() > 0 )
+        {
+            try
+            {
+                unspilled = new InternalRecord( spilledKeys, spilled.read() );
+            }
+            catch ( IOException e )
+            {
+                throw new ClientException( "Unable to read back records spilled to disk: " + e.getMessage(), e );
+            }
+            if ( spilled.size() == 0 )
+            {
+                // records held in memory again from now on, until they do not fit any more
+                reservation.closeSpillFile();
+            }
+        }
+        if ( unspilled == null && overflow != null )
+        {
+            throw overflow;
+        }
+        return unspilled;
+    }
+
+    /**
+     * @return true if no records are held in memory or spilled to disk
+     */
+    synchronized boolean holdsNothing()
+    {
+        return held.isEmpty() && !hasSpilled();
+    }
+
+    /**
+     * Discard all records received so far, and fail any later attempt to read them with the given error.
+     */
+    synchronized void discard( ClientException reason )
+    {
+        if ( overflow == null && !holdsNothing() )
+        {
+            overflow = reason;
+        }
+        clear();
+    }
+
+    /**
+     * Discard all records received so far.
+     */
+    synchronized void clear()
+    {
+        int count = held.size();
+        held.clear();
+        released( count );
+        unspilled = null;
+        reservation.closeSpillFile();
+    }
+
+    private void released( int count )
+    {
+        if ( limits.isLimited() )
+        {
+            reservation.held -= count;
+            limits.release( count );
+        }
+    }
+
+    private ClientException spillFailed( IOException e )
+    {
+        return new ClientException( "Unable to spill records to disk: " + e.getMessage(), e );
+    }
+}
@@ -0,0 +1,223 @@
+/**
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal;
+
+import java.io.IOException;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.neo4j.driver.internal.messaging.RecordSpillFile;
+import org.neo4j.driver.v1.Config.BufferOverflowPolicy;
+import org.neo4j.driver.v1.exceptions.ClientException;
+
+import static java.lang.String.format;
+
+/**
+ * Limits on how many records results hold in memory before they are consumed, shared by all results of a driver.
+ * Each result keeps its records in a {@link RecordBuffer}, which asks for room here before it holds on to one more.
+ * <p>
+ * Results are meant to be consumed or closed, which gives their room back. Results that are dropped instead, for
+ * instance together with a session that is never closed, give their room back once they have been garbage collected:
+ * every buffer is registered here with a {@link Reservation}, which outlives the buffer and is reclaimed the next
+ * time a buffer is registered or a record does not fit.
+ */
+public class RecordBufferLimits
+{
+    public static final RecordBufferLimits UNLIMITED = new RecordBufferLimits( 0, 0, BufferOverflowPolicy.FAIL );
+
+    private final int maxPerResult;
+    private final long maxPerDriver;
+    private final BufferOverflowPolicy overflowPolicy;
+
+    /** Records held by all results together */
+    private final AtomicLong buffered = new AtomicLong();
+
+    /** Reservations of the buffers that may still hold records, and those whose buffer has been collected */
+    private final Set<Reservation> reservations = Collections.newSetFromMap( new ConcurrentHashMap<Reservation,Boolean>() );
+    private final ReferenceQueue<RecordBuffer> abandoned = new ReferenceQueue<>();
+
+    /**
+     * @param maxPerResult most records a single result holds, zero for no limit
+     * @param maxPerDriver most records all results hold together, zero for no limit
+     * @param overflowPolicy what to do with records that do not fit
+     */
+    public RecordBufferLimits( int maxPerResult, long maxPerDriver, BufferOverflowPolicy overflowPolicy )
+    {
+        this.maxPerResult = maxPerResult;
+        this.maxPerDriver = maxPerDriver;
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    public boolean isLimited()
+    {
+        return maxPerResult > 0 || maxPerDriver > 0;
+    }
+
+    public BufferOverflowPolicy overflowPolicy()
+    {
+        return overflowPolicy;
+    }
+
+    /**
+     * @return the number of records all results hold together
+     */
+    public long buffered()
+    {
+        return buffered.get();
+    }
+
+    /**
+     * Keep track of the room a new buffer takes, so that it can be given back should the buffer be dropped.
+     *
+     * @param buffer the new buffer
+     * @return the reservation of the buffer
+     */
+    Reservation register( RecordBuffer buffer )
+    {
+        if ( !isLimited() )
+        {
+            return new Reservation( buffer, null );
+        }
+        reclaimAbandoned();
+        Reservation reservation = new Reservation( buffer, abandoned );
+        reservations.add( reservation );
+        return reservation;
+    }
+
+    /**
+     * Take room for one more record of the given result. This never waits for room, as records are added while
+     * messages are decoded, which may be on an event loop thread shared by many connections.
+     *
+     * @param result the result to hold the record
+     * @return true if the record may be held, false if it does not fit
+     */
+    boolean reserve( RecordBuffer result )
+    {
+        int heldByResult = result.held();
+        if ( maxPerResult > 0 && heldByResult >= maxPerResult )
+        {
+            return false;
+        }
+        // the room may be taken by results that have been dropped without being consumed
+        return reserveOne() || (reclaimAbandoned() && reserveOne());
+    }
+
+    private boolean reserveOne()
+    {
+        while ( true )
+        {
+            long current = buffered.get();
+            if ( maxPerDriver > 0 && current >= maxPerDriver )
+            {
+                return false;
+            }
+            if ( buffered.compareAndSet( current, current + 1 ) )
+            {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Give back the room of records that have been consumed or discarded.
+     * @param records the number of records
+     */
+    void release( int records )
+    {
+        if ( records == 0 )
+        {
+            return;
+        }
+        buffered.addAndGet( -records );
+    }
+
+    private boolean reclaimAbandoned()
+    {
+        boolean reclaimed = false;
+        Reference<? extends RecordBuffer> reference;
+        while ( (reference = abandoned.poll()) != null )
+        {
+            Reservation reservation = (Reservation) reference;
+            if ( reservations.remove( reservation ) )
+            {
+                release( reservation.held );
+                reservation.held = 0;
+                reservation.closeSpillFile();
+                reclaimed = true;
+            }
+        }
+        return reclaimed;
+    }
+
+    ClientException overflow()
+    {
+        return new ClientException( format(
+                "The result was not consumed in time and held as many records as allowed, %s. The records " +
+                "that followed were discarded. Consume results before running further statements in the same " +
+                "session, or configure the driver to spill records to disk.", describeLimits() ) );
+    }
+
+    private String describeLimits()
+    {
+        if ( maxPerResult > 0 && maxPerDriver > 0 )
+        {
+            return format( "%d per result and %d for all results", maxPerResult, maxPerDriver );
+        }
+        return maxPerResult > 0 ? format( "%d per result", maxPerResult ) : format( "%d for all results", maxPerDriver );
+    }
+
+    /**
+     * What a {@link RecordBuffer} holds on to outside of itself: its room within the limits, and the file its records
+     * spill to. Used by the buffer under its own lock while it is reachable, and reclaimed here once it is not.
+     */
+    static final class Reservation extends WeakReference<RecordBuffer>
+    {
+        /** Records held in memory that count towards the limits */
+        volatile int held;
+        /** Records that did not fit in memory, all newer than the ones held */
+        volatile RecordSpillFile spillFile;
+
+        private Reservation( RecordBuffer buffer, ReferenceQueue<RecordBuffer> queue )
+        {
+            super( buffer, queue );
+        }
+
+        void closeSpillFile()
+        {
+            RecordSpillFile file = spillFile;
+            if ( file != null )
+            {
+                spillFile = null;
+                try
+                {
+                    file.close();
+                }
+                catch ( IOException e )
+                {
+                    // nothing more to read from it anyway
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,183 @@
+/**
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+
+import org.neo4j.driver.internal.util.Futures;
+import org.neo4j.driver.v1.Record;
+import org.neo4j.driver.v1.StatementResultCursor;
+import org.neo4j.driver.v1.reactive.Publisher;
+import org.neo4j.driver.v1.reactive.Subscriber;
+import org.neo4j.driver.v1.reactive.Subscription;
+
+/**
+ * Publishes the records of a cursor, pulling the next record only while the subscriber has outstanding demand.
+ * <p>
+ * Records are pulled one {@link StatementResultCursor#nextAsync()} at a time, so at most one record is decoded ahead
+ * of what the subscriber asked for. The rest of the result stays undecoded in the connection, which stops reading
+ * from the socket once it holds enough of it, leaving the server to wait on TCP flow control.
+ */
+class RecordPublisher implements Publisher<Record>
+{
+    private final StatementResultCursor cursor;
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+
+    RecordPublisher( StatementResultCursor cursor )
+    {
+        this.cursor = cursor;
+    }
+
+    @Override
+    public void subscribe( Subscriber<? super Record> subscriber )
+    {
+        if ( subscriber == null )
+        {
+            throw new NullPointerException( "Subscriber can't be null" );
+        }
+        if ( !subscribed.compareAndSet( false, true ) )
+        {
+            subscriber.onSubscribe( CANCELLED );
+            subscriber.onError( new IllegalStateException( "The records of a result can only be published once." ) );
+            return;
+        }
+        subscriber.onSubscribe( new RecordSubscription( cursor, subscriber ) );
+    }
+
+    private static final Subscription CANCELLED = new Subscription()
+    {
+        @Override
+        public void request( long n )
+        {
+        }
+
+        @Override
+        public void cancel()
+        {
+        }
+    };
+
+    private static class RecordSubscription implements Subscription, BiConsumer<Record,Throwable>
+    {
+        private final StatementResultCursor cursor;
+        private final Subscriber<? super Record> subscriber;
+
+        private final AtomicLong demand = new AtomicLong();
+        /** Number of times the drain loop was asked to run, only the thread that raises it from zero drains */
+        private final AtomicInteger drainRequests = new AtomicInteger();
+
+        private volatile boolean receiving;
+        private volatile boolean terminated;
+        private volatile boolean cancelled;
+
+        RecordSubscription( StatementResultCursor cursor, Subscriber<? super Record> subscriber )
+        {
+            this.cursor = cursor;
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request( long n )
+        {
+            if ( n <= 0 )
+            {
+                cancel();
+                subscriber.onError( new IllegalArgumentException(
+                        "Requested number of records must be positive, but was " + n ) );
+                return;
+            }
+            long current;
+            long next;
+            do
+            {
+                current = demand.get();
+                next = current + n < 0 ? Long.MAX_VALUE : current + n;
+            }
+            while ( !demand.compareAndSet( current, next ) );
+            drain();
+        }
+
+        @Override
+        public void cancel()
+        {
+            // Whatever is left of the result is discarded when the session or transaction moves on
+            cancelled = true;
+        }
+
+        /**
+         * Pull the next record if there is demand and no pull is under way. A pull that completes straight away
+         * calls back into this method, which then only registers another round of the loop instead of recursing.
+         */
+        private void drain()
+        {
+            if ( drainRequests.getAndIncrement() != 0 )
+            {
+                return;
+            }
+            int missed = 1;
+            do
+            {
+                if ( !receiving && !terminated && !cancelled && demand.get() > 0 )
+                {
+                    receiving = true;
+                    cursor.nextAsync().whenComplete( this );
+                }
+                missed = drainRequests.addAndGet( -missed );
+            }
+            while ( missed != 0 );
+        }
+
+        @Override
+        public void accept( Record record, Throwable error )
+        {
+            if ( error != null )
+            {
+                terminated = true;
+                if ( !cancelled )
+                {
+                    subscriber.onError( Futures.unwrap( error ) );
+                }
+            }
+            else if ( record == null )
+            {
+                terminated = true;
+                if ( !cancelled )
+                {
+                    subscriber.onComplete();
+                }
+            }
+            else
+            {
+                if ( demand.get() != Long.MAX_VALUE )
+                {
+                    demand.decrementAndGet();
+                }
+                if ( !cancelled )
+                {
+                    subscriber.onNext( record );
+                }
+            }
+            receiving = false;
+            drain();
+        }
+    }
+}
@@ -59,7 +59,8 @@ public class RoutingDriver extends BaseDriver
     public Session session( final AccessMode mode )
     {
         Connection connection = acquireConnection( mode );
-        return new RoutingNetworkSession( new NetworkSession( connection ), mode, connection.address(), loadBalancer );
+        return new RoutingNetworkSession( new NetworkSession( connection, recordBufferLimits() ), mode,
+                connection.address(), loadBalancer );
     }
 
     private Connection acquireConnection( AccessMode role )
@@ -19,14 +19,21 @@
 package org.neo4j.driver.internal;
 
 
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 
 import org.neo4j.driver.internal.net.BoltServerAddress;
+import org.neo4j.driver.internal.util.Futures;
 import org.neo4j.driver.v1.AccessMode;
 import org.neo4j.driver.v1.Record;
 import org.neo4j.driver.v1.Session;
 import org.neo4j.driver.v1.Statement;
 import org.neo4j.driver.v1.StatementResult;
+import org.neo4j.driver.v1.StatementResultCursor;
 import org.neo4j.driver.v1.Transaction;
 import org.neo4j.driver.v1.Value;
 import org.neo4j.driver.v1.Values;
@@ -34,6 +41,7 @@ import org.neo4j.driver.v1.exceptions.ClientException;
 import org.neo4j.driver.v1.exceptions.Neo4jException;
 import org.neo4j.driver.v1.exceptions.ServiceUnavailableException;
 import org.neo4j.driver.v1.exceptions.SessionExpiredException;
+import org.neo4j.driver.v1.summary.ResultSummary;
 import org.neo4j.driver.v1.types.TypeSystem;
 
 import static java.lang.String.format;
@@ -101,6 +109,32 @@ public class RoutingNetworkSession implements Session
         }
     }
 
+    @Override
+    public CompletionStage<StatementResultCursor> runAsync( String statementText )
+    {
+        return runAsync( statementText, Values.EmptyMap );
+    }
+
+    @Override
+    public CompletionStage<StatementResultCursor> runAsync( String statementText,
+            Map<String,Object> statementParameters )
+    {
+        Value params = statementParameters == null ? Values.EmptyMap : value( statementParameters );
+        return runAsync( statementText, params );
+    }
+
+    @Override
+    public CompletionStage<StatementResultCursor> runAsync( String statementText, Value statementParameters )
+    {
+        return runAsync( new Statement( statementText, statementParameters ) );
+    }
+
+    @Override
+    public CompletionStage<StatementResultCursor> runAsync( Statement statement )
+    {
+        return routingCursor( delegate.runAsync( statement ), mode, onError, address );
+    }
+
     @Override
     public TypeSystem typeSystem()
     {
@@ -119,6 +153,52 @@ public class RoutingNetworkSession implements Session
         return new RoutingTransaction( delegate.beginTransaction(bookmark), mode, address, onError);
     }
 
+    @Override
+    public List<StatementResult> runInTransaction( List<Statement> statements )
+    {
+        return runInTransaction( statements, null );
+    }
+
+    @Override
+    public List<StatementResult> runInTransaction( List<Statement> statements, String bookmark )
+    {
+        try
+        {
+            return delegate.runInTransaction( statements, bookmark );
+        }
+        catch ( ServiceUnavailableException e )
+        {
+            throw sessionExpired( e, onError, address );
+        }
+        catch ( ClientException e )
+        {
+            throw filterFailureToWrite( e, mode, onError, address );
+        }
+    }
+
+    @Override
+    public ResultSummary execute( String statementTemplate, Value parameters )
+    {
+        return execute( new Statement( statementTemplate, parameters ) );
+    }
+
+    @Override
+    public ResultSummary execute( Statement statement )
+    {
+        try
+        {
+            return delegate.execute( statement );
+        }
+        catch ( ServiceUnavailableException e )
+        {
+            throw sessionExpired( e, onError, address );
+        }
+        catch ( ClientException e )
+        {
+            throw filterFailureToWrite( e, mode, onError, address );
+        }
+    }
+
     @Override
     public String lastBookmark()
     {
@@ -154,6 +234,12 @@ public class RoutingNetworkSession implements Session
         }
     }
 
+    @Override
+    public CompletionStage<Void> closeAsync()
+    {
+        return routingErrors( delegate.closeAsync(), mode, onError, address );
+    }
+
     @Override
     public String server()
     {
@@ -196,6 +282,55 @@ public class RoutingNetworkSession implements Session
         return new SessionExpiredException( format( "Server at %s is no longer available", address.toString() ), e );
     }
 
+    static CompletionStage<StatementResultCursor> routingCursor( CompletionStage<StatementResultCursor> stage,
+            final AccessMode mode, final RoutingErrorHandler onError, final BoltServerAddress address )
+    {
+        return routingErrors( stage.thenApply( new Function<StatementResultCursor,StatementResultCursor>()
+        {
+            @Override
+            public StatementResultCursor apply( StatementResultCursor cursor )
+            {
+                return new RoutingStatementResultCursor( cursor, mode, address, onError );
+            }
+        } ), mode, onError, address );
+    }
+
+    /**
+     * The asynchronous counterpart of catching errors with {@link #sessionExpired} and {@link #filterFailureToWrite}.
+     */
+    static <T> CompletionStage<T> routingErrors( CompletionStage<T> stage, final AccessMode mode,
+            final RoutingErrorHandler onError, final BoltServerAddress address )
+    {
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        stage.whenComplete( new BiConsumer<T,Throwable>()
+        {
+            @Override
+            public void accept( T value, Throwable error )
+            {
+                Throwable cause = error == null ? null : Futures.unwrap( error );
+                if ( cause == null )
+                {
+                    result.complete( value );
+                }
+                else if ( cause instanceof ServiceUnavailableException )
+                {
+                    result.completeExceptionally(
+                            sessionExpired( (ServiceUnavailableException) cause, onError, address ) );
+                }
+                else if ( cause instanceof ClientException )
+                {
+                    result.completeExceptionally(
+                            filterFailureToWrite( (ClientException) cause, mode, onError, address ) );
+                }
+                else
+                {
+                    result.completeExceptionally( cause );
+                }
+            }
+        } );
+        return result;
+    }
+
     private static boolean isFailedToWrite( ClientException e )
     {
         return e.code().equals( "Neo.ClientError.Cluster.NotALeader" ) ||
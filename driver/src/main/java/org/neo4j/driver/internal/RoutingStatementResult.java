@@ -169,6 +169,74 @@ public class RoutingStatementResult implements StatementResult
         }
     }
 
+    @Override
+    public long[] longColumn( String key )
+    {
+        try
+        {
+            return delegate.longColumn( key );
+        }
+        catch ( ServiceUnavailableException e )
+        {
+            throw sessionExpired( e, onError, address );
+        }
+        catch ( ClientException e )
+        {
+            throw filterFailureToWrite( e, mode, onError, address );
+        }
+    }
+
+    @Override
+    public double[] doubleColumn( String key )
+    {
+        try
+        {
+            return delegate.doubleColumn( key );
+        }
+        catch ( ServiceUnavailableException e )
+        {
+            throw sessionExpired( e, onError, address );
+        }
+        catch ( ClientException e )
+        {
+            throw filterFailureToWrite( e, mode, onError, address );
+        }
+    }
+
+    @Override
+    public boolean[] booleanColumn( String key )
+    {
+        try
+        {
+            return delegate.booleanColumn( key );
+        }
+        catch ( ServiceUnavailableException e )
+        {
+            throw sessionExpired( e, onError, address );
+        }
+        catch ( ClientException e )
+        {
+            throw filterFailureToWrite( e, mode, onError, address );
+        }
+    }
+
+    @Override
+    public String[] stringColumn( String key )
+    {
+        try
+        {
+            return delegate.stringColumn( key );
+        }
+        catch ( ServiceUnavailableException e )
+        {
+            throw sessionExpired( e, onError, address );
+        }
+        catch ( ClientException e )
+        {
+            throw filterFailureToWrite( e, mode, onError, address );
+        }
+    }
+
     @Override
     public void remove()
     {
@@ -0,0 +1,88 @@
+/**
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal;
+
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
+
+import org.neo4j.driver.internal.net.BoltServerAddress;
+import org.neo4j.driver.v1.AccessMode;
+import org.neo4j.driver.v1.Record;
+import org.neo4j.driver.v1.StatementResultCursor;
+import org.neo4j.driver.v1.reactive.Publisher;
+import org.neo4j.driver.v1.summary.ResultSummary;
+
+import static org.neo4j.driver.internal.RoutingNetworkSession.routingErrors;
+
+/**
+ * A cursor that safely handles routing errors.
+ */
+public class RoutingStatementResultCursor implements StatementResultCursor
+{
+    private final StatementResultCursor delegate;
+    private final AccessMode mode;
+    private final BoltServerAddress address;
+    private final RoutingErrorHandler onError;
+
+    RoutingStatementResultCursor( StatementResultCursor delegate, AccessMode mode, BoltServerAddress address,
+            RoutingErrorHandler onError )
+    {
+        this.delegate = delegate;
+        this.mode = mode;
+        this.address = address;
+        this.onError = onError;
+    }
+
+    @Override
+    public List<String> keys()
+    {
+        return delegate.keys();
+    }
+
+    @Override
+    public CompletionStage<Record> nextAsync()
+    {
+        return routingErrors( delegate.nextAsync(), mode, onError, address );
+    }
+
+    @Override
+    public CompletionStage<ResultSummary> forEachAsync( Consumer<Record> action )
+    {
+        return routingErrors( delegate.forEachAsync( action ), mode, onError, address );
+    }
+
+    @Override
+    public CompletionStage<List<Record>> listAsync()
+    {
+        return routingErrors( delegate.listAsync(), mode, onError, address );
+    }
+
+    @Override
+    public CompletionStage<ResultSummary> consumeAsync()
+    {
+        return routingErrors( delegate.consumeAsync(), mode, onError, address );
+    }
+
+    @Override
+    public Publisher<Record> publisher()
+    {
+        return new RecordPublisher( this );
+    }
+}
@@ -20,12 +20,14 @@ package org.neo4j.driver.internal;
 
 
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
 
 import org.neo4j.driver.internal.net.BoltServerAddress;
 import org.neo4j.driver.v1.AccessMode;
 import org.neo4j.driver.v1.Record;
 import org.neo4j.driver.v1.Statement;
 import org.neo4j.driver.v1.StatementResult;
+import org.neo4j.driver.v1.StatementResultCursor;
 import org.neo4j.driver.v1.Transaction;
 import org.neo4j.driver.v1.Value;
 import org.neo4j.driver.v1.Values;
@@ -34,6 +36,8 @@ import org.neo4j.driver.v1.exceptions.ServiceUnavailableException;
 import org.neo4j.driver.v1.types.TypeSystem;
 
 import static org.neo4j.driver.internal.RoutingNetworkSession.filterFailureToWrite;
+import static org.neo4j.driver.internal.RoutingNetworkSession.routingCursor;
+import static org.neo4j.driver.internal.RoutingNetworkSession.routingErrors;
 import static org.neo4j.driver.internal.RoutingNetworkSession.sessionExpired;
 import static org.neo4j.driver.v1.Values.value;
 
@@ -99,6 +103,44 @@ public class RoutingTransaction implements Transaction
         }
     }
 
+    @Override
+    public CompletionStage<StatementResultCursor> runAsync( String statementText )
+    {
+        return runAsync( statementText, Values.EmptyMap );
+    }
+
+    @Override
+    public CompletionStage<StatementResultCursor> runAsync( String statementText,
+            Map<String,Object> statementParameters )
+    {
+        Value params = statementParameters == null ? Values.EmptyMap : value( statementParameters );
+        return runAsync( statementText, params );
+    }
+
+    @Override
+    public CompletionStage<StatementResultCursor> runAsync( String statementText, Value statementParameters )
+    {
+        return runAsync( new Statement( statementText, statementParameters ) );
+    }
+
+    @Override
+    public CompletionStage<StatementResultCursor> runAsync( Statement statement )
+    {
+        return routingCursor( delegate.runAsync( statement ), mode, onError, address );
+    }
+
+    @Override
+    public CompletionStage<Void> commitAsync()
+    {
+        return routingErrors( delegate.commitAsync(), mode, onError, address );
+    }
+
+    @Override
+    public CompletionStage<Void> rollbackAsync()
+    {
+        return routingErrors( delegate.rollbackAsync(), mode, onError, address );
+    }
+
     @Override
     public TypeSystem typeSystem()
     {
@@ -0,0 +1,70 @@
+/**
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * The results of a session or transaction that have not been consumed yet, to be discarded when it is closed.
+ * <p>
+ * Closing waits for all outstanding replies, which moves every remaining record of these results into their record
+ * buffers. Only with {@link RecordBufferLimits#isLimited() limits} in place do those records need discarding, to give
+ * their room back to the driver, so without limits no results are tracked and closed results stay readable.
+ */
+class UnconsumedResults
+{
+    private final RecordBufferLimits limits;
+    private final List<InternalStatementResult> results = new ArrayList<>();
+
+    UnconsumedResults( RecordBufferLimits limits )
+    {
+        this.limits = limits;
+    }
+
+    synchronized InternalStatementResult add( InternalStatementResult result )
+    {
+        if ( limits.isLimited() )
+        {
+            Iterator<InternalStatementResult> iterator = results.iterator();
+            while ( iterator.hasNext() )
+            {
+                if ( iterator.next().isConsumed() )
+                {
+                    iterator.remove();
+                }
+            }
+            results.add( result );
+        }
+        return result;
+    }
+
+    /**
+     * Discard the records of all results not consumed yet. Meant to be called once closing has received all replies.
+     */
+    synchronized void discard()
+    {
+        for ( InternalStatementResult result : results )
+        {
+            result.discardUnconsumed();
+        }
+        results.clear();
+    }
+}
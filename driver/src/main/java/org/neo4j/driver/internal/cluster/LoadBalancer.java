@@ -19,6 +19,7 @@
 package org.neo4j.driver.internal.cluster;
 
 import java.util.HashSet;
+import java.util.Set;
 
 import org.neo4j.driver.internal.RoutingErrorHandler;
 import org.neo4j.driver.internal.net.BoltServerAddress;
@@ -143,6 +144,10 @@ public final class LoadBalancer implements RoutingErrorHandler, AutoCloseable
                 {
                     connections.purge( address );
                 }
+                // and connect ahead of demand to the current ones
+                warmUp( cluster.readers() );
+                warmUp( cluster.writers() );
+                warmUp( cluster.routers() );
             }
             catch ( InterruptedException e )
             {
@@ -151,6 +156,14 @@ public final class LoadBalancer implements RoutingErrorHandler, AutoCloseable
         }
     }
 
+    private void warmUp( Set<BoltServerAddress> addresses )
+    {
+        for ( BoltServerAddress address : addresses )
+        {
+            connections.warmUp( address );
+        }
+    }
+
     private ClusterComposition lookupRoutingTable() throws InterruptedException, ServiceUnavailableException
     {
         int size = routers.size(), failures = 0;
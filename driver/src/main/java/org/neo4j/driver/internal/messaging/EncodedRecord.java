@@ -0,0 +1,239 @@
+/**
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.messaging;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import org.neo4j.driver.internal.packstream.ByteArrayInput;
+import org.neo4j.driver.internal.packstream.PackStream;
+import org.neo4j.driver.internal.packstream.StringInterner;
+import org.neo4j.driver.v1.Value;
+import org.neo4j.driver.v1.exceptions.ClientException;
+
+import static org.neo4j.driver.internal.packstream.PackStream.FALSE;
+import static org.neo4j.driver.internal.packstream.PackStream.FLOAT_64;
+import static org.neo4j.driver.internal.packstream.PackStream.INT_16;
+import static org.neo4j.driver.internal.packstream.PackStream.INT_32;
+import static org.neo4j.driver.internal.packstream.PackStream.INT_64;
+import static org.neo4j.driver.internal.packstream.PackStream.INT_8;
+import static org.neo4j.driver.internal.packstream.PackStream.NULL;
+import static org.neo4j.driver.internal.packstream.PackStream.STRING_16;
+import static org.neo4j.driver.internal.packstream.PackStream.STRING_32;
+import static org.neo4j.driver.internal.packstream.PackStream.STRING_8;
+import static org.neo4j.driver.internal.packstream.PackStream.TINY_STRING;
+import static org.neo4j.driver.internal.packstream.PackStream.TRUE;
+
+/**
+ * The fields of a RECORD message, kept in their PackStream encoding and only decoded once they are asked for.
+ * <p>
+ * Rows often carry many more columns than the application reads, so decoding lazily saves building the values of
+ * all the other ones. Once every field has been decoded, the encoded form is dropped.
+ */
+public class EncodedRecord
+{
+    private final int[] offsets;
+    private final Value[] values;
+    private final StringInterner interner;
+    /** The nodes and relationships of the result the record is part of, or null */
+    private final EntityCache entities;
+    private byte[] bytes;
+    private int undecoded;
+
+    /**
+     * @param bytes the encoded fields, one after the other
+     * @param offsets where each field starts in {@code bytes}, followed by where the last one ends
+     */
+    public EncodedRecord( byte[] bytes, int[] offsets )
+    {
+        this( bytes, offsets, new StringInterner() );
+    }
+
+    /**
+     * @param bytes the encoded fields, one after the other
+     * @param offsets where each field starts in {@code bytes}, followed by where the last one ends
+     * @param interner interns labels, relationship types and map keys when fields are decoded
+     */
+    public EncodedRecord( byte[] bytes, int[] offsets, StringInterner interner )
+    {
+        this( bytes, offsets, interner, null );
+    }
+
+    EncodedRecord( byte[] bytes, int[] offsets, StringInterner interner, EntityCache entities )
+    {
+        this.bytes = bytes;
+        this.offsets = offsets;
+        this.interner = interner;
+        this.entities = entities;
+        this.values = new Value[offsets.length - 1];
+        this.undecoded = values.length;
+    }
+
+    public int size()
+    {
+        return values.length;
+    }
+
+    public synchronized Value get( int index )
+    {
+        Value value = values[index];
+        if ( value == null )
+        {
+            value = values[index] = decode( index );
+            if ( --undecoded == 0 )
+            {
+                bytes = null;
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Read an integer field straight from its encoding, without decoding it into a value. Fields that are not
+     * encoded as integers are coerced as {@link Value#asLong()} would.
+     */
+    public synchronized long getLong( int index )
+    {
+        if ( values[index] == null )
+        {
+            int at = offsets[index];
+            byte marker = bytes[at];
+            if ( marker >= -16 )
+            {
+                // TINY_INT, the marker is the value
+                return marker;
+            }
+            switch ( marker )
+            {
+            case INT_8: return bytes[at + 1];
+            case INT_16: return (short) readBigEndian( at + 1, 2 );
+            case INT_32: return (int) readBigEndian( at + 1, 4 );
+            case INT_64: return readBigEndian( at + 1, 8 );
+            }
+        }
+        return get( index ).asLong();
+    }
+
+    /**
+     * Read a float field straight from its encoding, without decoding it into a value. Fields that are not
+     * encoded as floats are coerced as {@link Value#asDouble()} would.
+     */
+    public synchronized double getDouble( int index )
+    {
+        if ( values[index] == null && bytes[offsets[index]] == FLOAT_64 )
+        {
+            return Double.longBitsToDouble( readBigEndian( offsets[index] + 1, 8 ) );
+        }
+        return get( index ).asDouble();
+    }
+
+    /**
+     * Read a boolean field straight from its encoding, without decoding it into a value. Fields that are not
+     * encoded as booleans are coerced as {@link Value#asBoolean()} would.
+     */
+    public synchronized boolean getBoolean( int index )
+    {
+        if ( values[index] == null )
+        {
+            byte marker = bytes[offsets[index]];
+            if ( marker == TRUE || marker == FALSE )
+            {
+                return marker == TRUE;
+            }
+        }
+        return get( index ).asBoolean();
+    }
+
+    /**
+     * Read a string field straight from its encoding, without decoding it into a value. Null fields are read as
+     * null, and fields that are not encoded as strings are coerced as {@link Value#asString()} would.
+     */
+    public synchronized String getString( int index )
+    {
+        Value value = values[index];
+        if ( value == null )
+        {
+            byte marker = bytes[offsets[index]];
+            if ( marker == NULL )
+            {
+                return null;
+            }
+            if ( (marker & 0xF0) == (TINY_STRING & 0xF0) || marker == STRING_8 || marker == STRING_16 ||
+                 marker == STRING_32 )
+            {
+                int length = offsets[index + 1] - offsets[index];
+                try
+                {
+                    return new PackStream.Unpacker( new ByteArrayInput( bytes, offsets[index], length ) )
+                            .unpackString();
+                }
+                catch ( IOException e )
+                {
+                    throw new ClientException( "Unable to decode field " + index + " of record: " + e.getMessage(),
+                            e );
+                }
+            }
+            value = get( index );
+        }
+        return value.isNull() ? null : value.asString();
+    }
+
+    private long readBigEndian( int at, int length )
+    {
+        long value = 0;
+        for ( int i = at; i < at + length; i++ )
+        {
+            value = (value << 8) | (bytes[i] & 0xFF);
+        }
+        return value;
+    }
+
+    /**
+     * @return all fields, decoded
+     */
+    public Value[] values()
+    {
+        Value[] all = new Value[values.length];
+        for ( int i = 0; i < all.length; i++ )
+        {
+            all[i] = get( i );
+        }
+        return all;
+    }
+
+    private Value decode( int index )
+    {
+        int length = offsets[index + 1] - offsets[index];
+        try
+        {
+            return new PackStreamMessageFormatV1.Reader(
+                    new ByteArrayInput( bytes, offsets[index], length ), interner, entities ).unpackValue();
+        }
+        catch ( IOException e )
+        {
+            throw new ClientException( "Unable to decode field " + index + " of record: " + e.getMessage(), e );
+        }
+    }
+
+    @Override
+    public String toString()
+    {
+        return "EncodedRecord" + Arrays.toString( values() );
+    }
+}
@@ -0,0 +1,63 @@
+/**
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.messaging;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Remembers the UTF-8 encoding of the latest long texts a writer packed, so that sending the same statement again
+ * does not encode its text again.
+ * <p>
+ * Texts are looked up by identity, which is cheap and works because applications keep their statements in constants
+ * or {@link org.neo4j.driver.v1.PreparedStatement prepared statements} and pass the same instance every time. A
+ * slot is picked from the identity hash of the text, and a text that maps to a taken slot replaces the text in it.
+ * Not thread safe, each writer has its own.
+ */
+class EncodedTextCache
+{
+    /** Shorter texts are encoded every time, it is about as cheap as looking them up */
+    static final int MIN_CACHED_LENGTH = 64;
+    private static final int SLOTS = 32;
+
+    private final String[] texts = new String[SLOTS];
+    private final byte[][] encoded = new byte[SLOTS][];
+
+    /**
+     * @param text the text to encode, may be null
+     * @return the UTF-8 encoding of the text, or null for a null text
+     */
+    byte[] encode( String text )
+    {
+        if ( text == null )
+        {
+            return null;
+        }
+        if ( text.length() < MIN_CACHED_LENGTH )
+        {
+            return text.getBytes( UTF_8 );
+        }
+        int slot = System.identityHashCode( text ) & (SLOTS - 1);
+        if ( texts[slot] != text )
+        {
+            encoded[slot] = text.getBytes( UTF_8 );
+            texts[slot] = text;
+        }
+        return encoded[slot];
+    }
+}
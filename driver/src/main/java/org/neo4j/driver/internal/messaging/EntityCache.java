@@ -0,0 +1,83 @@
+/**
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.messaging;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.neo4j.driver.internal.InternalNode;
+import org.neo4j.driver.internal.InternalRelationship;
+
+/**
+ * The nodes and relationships decoded for a single result, by id, so that an entity that appears in many records
+ * of the result is decoded once and shared by all of them. Each kind keeps at most the given number of entities,
+ * dropping the least recently seen ones.
+ * <p>
+ * Records decoded lazily may be decoded by several threads, hence the locking.
+ */
+class EntityCache
+{
+    private final Map<Long,InternalNode> nodes;
+    private final Map<Long,InternalRelationship> relationships;
+
+    EntityCache( int maxSize )
+    {
+        this.nodes = new BoundedMap<>( maxSize );
+        this.relationships = new BoundedMap<>( maxSize );
+    }
+
+    synchronized InternalNode node( long id )
+    {
+        return nodes.get( id );
+    }
+
+    synchronized void add( InternalNode node )
+    {
+        nodes.put( node.id(), node );
+    }
+
+    synchronized InternalRelationship relationship( long id )
+    {
+        return relationships.get( id );
+    }
+
+    synchronized void add( InternalRelationship relationship )
+    {
+        relationships.put( relationship.id(), relationship );
+    }
+
+    private static class BoundedMap<V> extends LinkedHashMap<Long,V>
+    {
+        private static final long serialVersionUID = 4710582947431268105L;
+
+        private final int maxSize;
+
+        private BoundedMap( int maxSize )
+        {
+            super( 16, 0.75f, true );
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry( Map.Entry<Long,V> eldest )
+        {
+            return size() > maxSize;
+        }
+    }
+}
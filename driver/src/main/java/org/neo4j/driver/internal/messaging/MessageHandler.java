@@ -30,6 +30,8 @@ public interface MessageHandler
 
     void handleRunMessage( String statement, Map<String,Value> parameters ) throws IOException;
 
+    void handleRunMessage( String statement, Value parameters ) throws IOException;
+
     void handlePullAllMessage() throws IOException;
 
     void handleDiscardAllMessage() throws IOException;
@@ -43,6 +45,9 @@ public interface MessageHandler
 
     void handleRecordMessage( Value[] fields ) throws IOException;
 
+    /** A record whose fields are only decoded when they are accessed */
+    void handleRecordMessage( EncodedRecord record ) throws IOException;
+
     void handleFailureMessage( String code, String message ) throws IOException;
 
     void handleIgnoredMessage() throws IOException;
@@ -33,11 +33,14 @@ import org.neo4j.driver.internal.InternalPath;
 import org.neo4j.driver.internal.InternalRelationship;
 import org.neo4j.driver.internal.net.BufferingChunkedInput;
 import org.neo4j.driver.internal.net.ChunkedOutput;
+import org.neo4j.driver.internal.packstream.ByteArrayOutput;
 import org.neo4j.driver.internal.packstream.PackInput;
 import org.neo4j.driver.internal.packstream.PackOutput;
 import org.neo4j.driver.internal.packstream.PackStream;
 import org.neo4j.driver.internal.packstream.PackType;
+import org.neo4j.driver.internal.packstream.StringInterner;
 import org.neo4j.driver.internal.util.Iterables;
+import org.neo4j.driver.internal.value.BoundParametersValue;
 import org.neo4j.driver.internal.value.InternalValue;
 import org.neo4j.driver.internal.value.ListValue;
 import org.neo4j.driver.internal.value.MapValue;
@@ -102,6 +105,7 @@ public class PackStreamMessageFormatV1 implements MessageFormat
     {
         private final PackStream.Packer packer;
         private final Runnable onMessageComplete;
+        private final EncodedTextCache statements = new EncodedTextCache();
 
         /**
          * @param output interface to write messages to
@@ -126,7 +130,16 @@ public class PackStreamMessageFormatV1 implements MessageFormat
         public void handleRunMessage( String statement, Map<String,Value> parameters ) throws IOException
         {
             packer.packStructHeader( 2, MSG_RUN );
-            packer.pack( statement );
+            packer.packString( statements.encode( statement ) );
+            packRawMap( parameters );
+            onMessageComplete.run();
+        }
+
+        @Override
+        public void handleRunMessage( String statement, Value parameters ) throws IOException
+        {
+            packer.packStructHeader( 2, MSG_RUN );
+            packer.packString( statements.encode( statement ) );
             packRawMap( parameters );
             onMessageComplete.run();
         }
@@ -179,6 +192,12 @@ public class PackStreamMessageFormatV1 implements MessageFormat
             onMessageComplete.run();
         }
 
+        @Override
+        public void handleRecordMessage( EncodedRecord record ) throws IOException
+        {
+            handleRecordMessage( record.values() );
+        }
+
         @Override
         public void handleFailureMessage( String code, String message ) throws IOException
         {
@@ -215,6 +234,37 @@ public class PackStreamMessageFormatV1 implements MessageFormat
             }
         }
 
+        private void packRawMap( Value map ) throws IOException
+        {
+            if ( map instanceof BoundParametersValue )
+            {
+                packBoundParameters( (BoundParametersValue) map );
+                return;
+            }
+            if ( map.isEmpty() )
+            {
+                packer.packMapHeader( 0 );
+                return;
+            }
+            packer.packMapHeader( map.size() );
+            for ( String key : map.keys() )
+            {
+                packer.pack( key );
+                packValue( map.get( key ) );
+            }
+        }
+
+        private void packBoundParameters( BoundParametersValue parameters ) throws IOException
+        {
+            int size = parameters.size();
+            packer.packMapHeader( size );
+            for ( int i = 0; i < size; i++ )
+            {
+                packer.packString( parameters.encodedName( i ) );
+                packValue( parameters.value( i ) );
+            }
+        }
+
         private void packValue( Value value ) throws IOException
         {
             switch ( ( (InternalValue) value ).typeConstructor() )
@@ -381,13 +431,58 @@ public class PackStreamMessageFormatV1 implements MessageFormat
 
     public static class Reader implements MessageFormat.Reader
     {
+        private static final int INITIAL_RECORD_BUFFER_SIZE = 256;
+        private static final int MAX_RETAINED_RECORD_BUFFER_SIZE = 64 * 1024;
+
         private final PackStream.Unpacker unpacker;
         private final Runnable onMessageComplete;
+        /** Set when records are handed out in their encoded form, see {@link EncodedRecord} */
+        private final boolean lazyRecords;
+        /** Labels, relationship types and map keys, which recur throughout the stream */
+        private final StringInterner interner;
+        /** Most nodes and relationships shared within a result, zero to decode each one afresh */
+        private final int entityCacheSize;
+        /** The entities of the current result, created on first use */
+        private EntityCache entities;
+        private ByteArrayOutput recordBuffer;
 
         public Reader( PackInput input, Runnable onMessageComplete )
+        {
+            this( input, onMessageComplete, false );
+        }
+
+        public Reader( PackInput input, Runnable onMessageComplete, boolean lazyRecords )
+        {
+            this( input, onMessageComplete, lazyRecords, 0 );
+        }
+
+        /**
+         * @param entityCacheSize most nodes, and most relationships, decoded once and shared by all records of a
+         * result, zero to decode each one afresh
+         */
+        public Reader( PackInput input, Runnable onMessageComplete, boolean lazyRecords, int entityCacheSize )
+        {
+            this( input, onMessageComplete, lazyRecords, new StringInterner(), entityCacheSize, null );
+        }
+
+        /**
+         * Reader of the fields of an {@link EncodedRecord}, with the interner and entities of the reader that
+         * read the record.
+         */
+        Reader( PackInput input, StringInterner interner, EntityCache entities )
+        {
+            this( input, new NoOpRunnable(), false, interner, 0, entities );
+        }
+
+        private Reader( PackInput input, Runnable onMessageComplete, boolean lazyRecords, StringInterner interner,
+                int entityCacheSize, EntityCache entities )
         {
             unpacker = new PackStream.Unpacker( input );
             this.onMessageComplete = onMessageComplete;
+            this.lazyRecords = lazyRecords;
+            this.interner = interner;
+            this.entityCacheSize = entityCacheSize;
+            this.entities = entities;
         }
 
         @Override
@@ -404,6 +499,11 @@ public class PackStreamMessageFormatV1 implements MessageFormat
         {
             unpacker.unpackStructHeader();
             int type = unpacker.unpackStructSignature();
+            if ( type != MSG_RECORD && entityCacheSize > 0 )
+            {
+                // Any other message ends the records of a result, and entities are only shared within one
+                entities = null;
+            }
             switch ( type )
             {
             case MSG_RUN:
@@ -495,6 +595,12 @@ public class PackStreamMessageFormatV1 implements MessageFormat
         private void unpackRecordMessage(MessageHandler output) throws IOException
         {
             int fieldCount = (int) unpacker.unpackListHeader();
+            if ( lazyRecords )
+            {
+                output.handleRecordMessage( copyRecord( fieldCount ) );
+                onMessageComplete.run();
+                return;
+            }
             Value[] fields = new Value[fieldCount];
             for ( int i = 0; i < fieldCount; i++ )
             {
@@ -504,7 +610,30 @@ public class PackStreamMessageFormatV1 implements MessageFormat
             onMessageComplete.run();
         }
 
-        private Value unpackValue() throws IOException
+        private EncodedRecord copyRecord( int fieldCount ) throws IOException
+        {
+            if ( recordBuffer == null )
+            {
+                recordBuffer = new ByteArrayOutput( INITIAL_RECORD_BUFFER_SIZE );
+            }
+            recordBuffer.reset();
+            int[] offsets = new int[fieldCount + 1];
+            for ( int i = 0; i < fieldCount; i++ )
+            {
+                offsets[i] = recordBuffer.size();
+                unpacker.copyNext( recordBuffer );
+            }
+            offsets[fieldCount] = recordBuffer.size();
+            EncodedRecord record = new EncodedRecord( recordBuffer.toByteArray(), offsets, interner, entities() );
+            if ( recordBuffer.size() > MAX_RETAINED_RECORD_BUFFER_SIZE )
+            {
+                // Do not hold on to the space needed by an exceptionally large record
+                recordBuffer = null;
+            }
+            return record;
+        }
+
+        Value unpackValue() throws IOException
         {
             PackType type = unpacker.peekNextType();
             switch ( type )
@@ -561,32 +690,73 @@ public class PackStreamMessageFormatV1 implements MessageFormat
             long urn = unpacker.unpackLong();
             long startUrn = unpacker.unpackLong();
             long endUrn = unpacker.unpackLong();
-            String relType = unpacker.unpackString();
+            EntityCache entities = entities();
+            if ( entities != null )
+            {
+                InternalRelationship cached = entities.relationship( urn );
+                if ( cached != null )
+                {
+                    unpacker.skipNext();
+                    unpacker.skipNext();
+                    return new RelationshipValue( cached );
+                }
+            }
+            String relType = unpacker.unpackString( interner );
             Map<String,Value> props = unpackMap();
 
             InternalRelationship adapted = new InternalRelationship( urn, startUrn, endUrn, relType, props );
+            if ( entities != null )
+            {
+                entities.add( adapted );
+            }
             return new RelationshipValue( adapted );
         }
 
         private InternalNode unpackNode() throws IOException
         {
             long urn = unpacker.unpackLong();
+            EntityCache entities = entities();
+            if ( entities != null )
+            {
+                InternalNode cached = entities.node( urn );
+                if ( cached != null )
+                {
+                    // labels and properties
+                    unpacker.skipNext();
+                    unpacker.skipNext();
+                    return cached;
+                }
+            }
 
             int numLabels = (int) unpacker.unpackListHeader();
             List<String> labels = new ArrayList<>( numLabels );
             for ( int i = 0; i < numLabels; i++ )
             {
-                labels.add( unpacker.unpackString() );
+                labels.add( unpacker.unpackString( interner ) );
             }
             int numProps = (int) unpacker.unpackMapHeader();
             Map<String,Value> props = new HashMap<>();
             for ( int j = 0; j < numProps; j++ )
             {
-                String key = unpacker.unpackString();
+                String key = unpacker.unpackString( interner );
                 props.put( key, unpackValue() );
             }
 
-            return new InternalNode( urn, labels, props );
+            InternalNode node = new InternalNode( urn, labels, props );
+            if ( entities != null )
+            {
+                entities.add( node );
+            }
+            return node;
+        }
+
+        private EntityCache entities()
+        {
+            if ( entities == null && entityCacheSize > 0 )
+            {
+                entities = new EntityCache( entityCacheSize );
+            }
+            return entities;
         }
 
         private Value unpackPath() throws IOException
@@ -607,7 +777,7 @@ public class PackStreamMessageFormatV1 implements MessageFormat
                 ensureCorrectStructSize( "RELATIONSHIP", 3, unpacker.unpackStructHeader() );
                 ensureCorrectStructSignature( "UNBOUND_RELATIONSHIP", UNBOUND_RELATIONSHIP, unpacker.unpackStructSignature() );
                 long id = unpacker.unpackLong();
-                String relType = unpacker.unpackString();
+                String relType = unpacker.unpackString( interner );
                 Map<String,Value> props = unpackMap();
                 uniqRels[i] = new InternalRelationship( id, -1, -1, relType, props );
             }
@@ -677,7 +847,7 @@ public class PackStreamMessageFormatV1 implements MessageFormat
             Map<String,Value> map = new HashMap<>( size );
             for ( int i = 0; i < size; i++ )
             {
-                String key = unpacker.unpackString();
+                String key = unpacker.unpackString( interner );
                 map.put( key, unpackValue() );
             }
             return map;
@@ -0,0 +1,234 @@
+/**
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.messaging;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import org.neo4j.driver.internal.packstream.BufferedChannelInput;
+import org.neo4j.driver.internal.packstream.BufferedChannelOutput;
+import org.neo4j.driver.v1.Value;
+
+import static java.nio.file.StandardOpenOption.DELETE_ON_CLOSE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Records written to a temporary file, in the same encoding as they are received, to be read back in the order
+ * they were written. Records are read back as {@link EncodedRecord encoded records}, so that their fields are only
+ * decoded when accessed. The file is deleted when closed, or straight away where open files can be deleted.
+ * <p>
+ * Not thread safe: callers that write and read from different threads must use it under a lock of their own.
+ */
+public class RecordSpillFile implements AutoCloseable
+{
+    private static final int BUFFER_SIZE = 8192;
+
+    private final FileChannel out;
+    private final FileChannel in;
+    private final BufferedChannelOutput output;
+    private final PackStreamMessageFormatV1.Writer writer;
+    private final PackStreamMessageFormatV1.Reader reader;
+    private final RecordCapture capture = new RecordCapture();
+
+    /** Records written and not yet read back */
+    private int size;
+    private boolean unflushed;
+
+    public RecordSpillFile() throws IOException
+    {
+        Path path = Files.createTempFile( "neo4j-records-", ".spill" );
+        // Opened for reading first, as some platforms delete the file as soon as it is opened to be deleted on close
+        FileChannel reading = null;
+        try
+        {
+            reading = FileChannel.open( path, READ );
+            out = FileChannel.open( path, WRITE, DELETE_ON_CLOSE );
+        }
+        catch ( IOException e )
+        {
+            if ( reading != null )
+            {
+                reading.close();
+            }
+            Files.deleteIfExists( path );
+            throw e;
+        }
+        in = reading;
+        try
+        {
+            // Where possible, let the file go away with the process even if it is never closed
+            Files.deleteIfExists( path );
+        }
+        catch ( IOException e )
+        {
+            path.toFile().deleteOnExit();
+        }
+        output = new BufferedChannelOutput( out, BUFFER_SIZE );
+        writer = new PackStreamMessageFormatV1.Writer( output, new PackStreamMessageFormatV1.NoOpRunnable() );
+        reader = new PackStreamMessageFormatV1.Reader( new BufferedChannelInput( BUFFER_SIZE, in ),
+                new PackStreamMessageFormatV1.NoOpRunnable(), true );
+    }
+
+    public void write( Value[] fields ) throws IOException
+    {
+        writer.handleRecordMessage( fields );
+        written();
+    }
+
+    public void write( EncodedRecord record ) throws IOException
+    {
+        writer.handleRecordMessage( record );
+        written();
+    }
+
+    private void written()
+    {
+        size++;
+        unflushed = true;
+    }
+
+    /**
+     * @return the oldest record not read back yet, or null if all have been read back
+     */
+    public EncodedRecord read() throws IOException
+    {
+        if ( size == 0 )
+        {
+            return null;
+        }
+        if ( unflushed )
+        {
+            output.flush();
+            unflushed = false;
+        }
+        reader.read( capture );
+        size--;
+        EncodedRecord record = capture.record;
+        capture.record = null;
+        return record;
+    }
+
+    /**
+     * @return the number of records written and not yet read back
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    @Override
+    public void close() throws IOException
+    {
+        size = 0;
+        try
+        {
+            in.close();
+        }
+        finally
+        {
+            out.close();
+        }
+    }
+
+    private static class RecordCapture implements MessageHandler
+    {
+        private EncodedRecord record;
+
+        @Override
+        public void handleRecordMessage( EncodedRecord record )
+        {
+            this.record = record;
+        }
+
+        @Override
+        public void handleRecordMessage( Value[] fields ) throws IOException
+        {
+            throw unexpected( "RECORD" );
+        }
+
+        @Override
+        public void handleInitMessage( String clientNameAndVersion, Map<String,Value> authToken ) throws IOException
+        {
+            throw unexpected( "INIT" );
+        }
+
+        @Override
+        public void handleRunMessage( String statement, Map<String,Value> parameters ) throws IOException
+        {
+            throw unexpected( "RUN" );
+        }
+
+        @Override
+        public void handleRunMessage( String statement, Value parameters ) throws IOException
+        {
+            throw unexpected( "RUN" );
+        }
+
+        @Override
+        public void handlePullAllMessage() throws IOException
+        {
+            throw unexpected( "PULL_ALL" );
+        }
+
+        @Override
+        public void handleDiscardAllMessage() throws IOException
+        {
+            throw unexpected( "DISCARD_ALL" );
+        }
+
+        @Override
+        public void handleResetMessage() throws IOException
+        {
+            throw unexpected( "RESET" );
+        }
+
+        @Override
+        public void handleAckFailureMessage() throws IOException
+        {
+            throw unexpected( "ACK_FAILURE" );
+        }
+
+        @Override
+        public void handleSuccessMessage( Map<String,Value> meta ) throws IOException
+        {
+            throw unexpected( "SUCCESS" );
+        }
+
+        @Override
+        public void handleFailureMessage( String code, String message ) throws IOException
+        {
+            throw unexpected( "FAILURE" );
+        }
+
+        @Override
+        public void handleIgnoredMessage() throws IOException
+        {
+            throw unexpected( "IGNORED" );
+        }
+
+        private static IOException unexpected( String message )
+        {
+            return new IOException( "Unexpected " + message + " message in record spill file." );
+        }
+    }
+}
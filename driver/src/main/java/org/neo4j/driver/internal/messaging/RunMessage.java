@@ -21,9 +21,12 @@ package org.neo4j.driver.internal.messaging;
 import java.io.IOException;
 import java.util.Map;
 
+import org.neo4j.driver.internal.value.MapValue;
 import org.neo4j.driver.v1.Value;
+import org.neo4j.driver.v1.Values;
 
 import static java.lang.String.format;
+import static org.neo4j.driver.v1.Values.ofValue;
 
 /**
  * RUN request message
@@ -34,12 +37,23 @@ import static java.lang.String.format;
 public class RunMessage implements Message
 {
     private final String statement;
-    private final Map<String,Value> parameters;
+    private final Value parameters;
 
     public RunMessage( String statement, Map<String,Value> parameters )
     {
         this.statement = statement;
-        this.parameters = parameters;
+        this.parameters = parameters == null ? Values.EmptyMap : new MapValue( parameters );
+    }
+
+    /**
+     * @param statement the statement text
+     * @param parameters the parameters, written out entry by entry when the message is sent. Values that are not
+     * maps themselves, such as nodes, are copied into a map up front, failing here if they cannot be.
+     */
+    public RunMessage( String statement, Value parameters )
+    {
+        this.statement = statement;
+        this.parameters = parameters instanceof MapValue ? parameters : new MapValue( parameters.asMap( ofValue() ) );
     }
 
     @Override
@@ -51,7 +65,7 @@ public class RunMessage implements Message
     @Override
     public String toString()
     {
-        return format( "RUN \"%s\" %s", statement, parameters );
+        return format( "RUN \"%s\" %s", statement, parameters.asMap( ofValue() ) );
     }
 
     @Override
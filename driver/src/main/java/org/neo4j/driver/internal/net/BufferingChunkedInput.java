@@ -22,13 +22,16 @@ import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.channels.ClosedByInterruptException;
+import java.nio.channels.ClosedChannelException;
 import java.nio.channels.ReadableByteChannel;
 
 import org.neo4j.driver.internal.packstream.PackInput;
+import org.neo4j.driver.internal.packstream.Utf8;
 import org.neo4j.driver.internal.util.BytePrinter;
 import org.neo4j.driver.v1.exceptions.ClientException;
 import org.neo4j.driver.v1.exceptions.ServiceUnavailableException;
 
+import static java.lang.Math.max;
 import static java.lang.Math.min;
 
 /**
@@ -42,8 +45,32 @@ public class BufferingChunkedInput implements PackInput
 
     /**
      * Main buffer, everytime we read from the underlying channel we try to fill up the entire buffer.
+     * Borrowed from a pool, null once it has been released.
      */
-    private final ByteBuffer buffer;
+    private ByteBuffer buffer;
+    private PooledByteBuffer pooledBuffer;
+    private final ByteBufferPool bufferPool;
+
+    /**
+     * Adaptive sizing doubles the buffer after this many consecutive reads filled it up.
+     */
+    static final int GROW_AFTER_FULL_READS = 2;
+
+    /**
+     * Adaptive sizing halves the buffer after this many consecutive reads used less than a quarter of it.
+     */
+    static final int SHRINK_AFTER_SMALL_READS = 16;
+
+    /**
+     * Whether the buffer is resized between its initial capacity and {@link SocketSettings#MAX_BUFFER_SIZE}.
+     */
+    private final boolean adaptive;
+    private final int initialCapacity;
+    private int nextCapacity;
+    private int fullReads;
+    private int smallReads;
+
+    private final TransportCounters counters;
 
     /**
      * Scratch buffer used for obtaining results from the main buffer.
@@ -80,15 +107,61 @@ public class BufferingChunkedInput implements PackInput
      * @param bufferCapacity The capacity of the buffer.
      */
     public BufferingChunkedInput( ReadableByteChannel channel, int bufferCapacity )
+    {
+        this( channel, bufferCapacity, ByteBufferPool.SHARED );
+    }
+
+    /**
+     * Creates a BufferingChunkedInput from a given channel, with a buffer taken from the given pool.
+     * @param channel The channel to read from
+     * @param bufferCapacity The capacity of the buffer.
+     * @param bufferPool The pool to borrow the buffer from.
+     */
+    public BufferingChunkedInput( ReadableByteChannel channel, int bufferCapacity, ByteBufferPool bufferPool )
+    {
+        this( channel, bufferCapacity, bufferPool, false, new TransportCounters() );
+    }
+
+    /**
+     * Creates a BufferingChunkedInput from a given channel, sized and counted as the settings say.
+     * @param channel The channel to read from
+     * @param settings The buffer size, whether it adapts, and where to count reads and messages.
+     */
+    public BufferingChunkedInput( ReadableByteChannel channel, SocketSettings settings )
+    {
+        this( channel, settings.receiveBufferSize(), ByteBufferPool.SHARED, settings.adaptiveBufferSizing(),
+                settings.counters() );
+    }
+
+    private BufferingChunkedInput( ReadableByteChannel channel, int bufferCapacity, ByteBufferPool bufferPool,
+            boolean adaptive, TransportCounters counters )
     {
         assert bufferCapacity >= 1;
-        this.buffer = ByteBuffer.allocate( bufferCapacity ).order( ByteOrder.BIG_ENDIAN );
+        this.bufferPool = bufferPool;
+        this.pooledBuffer = bufferPool.acquire( bufferCapacity );
+        this.buffer = pooledBuffer.buffer().order( ByteOrder.BIG_ENDIAN );
         this.buffer.limit( 0 );
+        this.adaptive = adaptive;
+        this.initialCapacity = bufferCapacity;
+        this.nextCapacity = bufferCapacity;
+        this.counters = counters;
         this.scratchBuffer = ByteBuffer.allocate( 8 ).order( ByteOrder.BIG_ENDIAN );
         this.channel = channel;
         this.state = State.AWAITING_CHUNK;
     }
 
+    /**
+     * Give the buffer back to the pool, any data buffered but not yet read is discarded.
+     */
+    public void release()
+    {
+        if ( buffer != null )
+        {
+            buffer = null;
+            pooledBuffer.release();
+        }
+    }
+
     /*
      * Use only in tests
      */
@@ -97,6 +170,14 @@ public class BufferingChunkedInput implements PackInput
         return remainingChunkSize;
     }
 
+    /*
+     * Use only in tests
+     */
+    int bufferCapacity()
+    {
+        return buffer.capacity();
+    }
+
 
     @Override
     public boolean hasMoreData() throws IOException
@@ -147,9 +228,23 @@ public class BufferingChunkedInput implements PackInput
         return this;
     }
 
+    @Override
+    public String readString( int size ) throws IOException
+    {
+        assertNotReleased();
+        if ( state == State.IN_CHUNK && size <= remainingChunkSize && size <= buffer.remaining() )
+        {
+            // The whole string is buffered and within the current chunk, decode it where it is
+            remainingChunkSize -= size;
+            return Utf8.decode( buffer, size );
+        }
+        return Utf8.read( this, size );
+    }
+
     @Override
     public byte peekByte() throws IOException
     {
+        assertNotReleased();
         assertOneByteInBuffer();
         return buffer.get( buffer.position() );
     }
@@ -187,6 +282,7 @@ public class BufferingChunkedInput implements PackInput
                                                BytePrinter.hex( ByteBuffer.allocate( 2 )
                                                        .putShort( (short) remainingChunkSize ) ) );
                 }
+                counters.messageReceived();
             }
             catch ( IOException e )
             {
@@ -238,6 +334,7 @@ public class BufferingChunkedInput implements PackInput
      */
     private void read( ByteBuffer dst ) throws IOException
     {
+        assertNotReleased();
         while ( true )
         {
             switch ( state )
@@ -261,7 +358,7 @@ public class BufferingChunkedInput implements PackInput
                     remainingChunkSize -= bytesToRead;
                     if ( !buffer.hasRemaining() )
                     {
-                        readNextPacket( channel, buffer );
+                        fill();
                     }
                 }
                 else
@@ -312,7 +409,7 @@ public class BufferingChunkedInput implements PackInput
                 else if ( buffer.remaining() == 0 )
                 {
                     //no data in buffer, fill it up an try again
-                    readNextPacket( channel, buffer );
+                    fill();
                 }
                 else
                 {
@@ -332,6 +429,7 @@ public class BufferingChunkedInput implements PackInput
      */
     private void readChunkSize() throws IOException
     {
+        assertNotReleased();
         while ( true )
         {
             switch ( state )
@@ -342,7 +440,7 @@ public class BufferingChunkedInput implements PackInput
                     //buffer empty, block until you get at least at least one byte
                     while ( buffer.remaining() == 0 )
                     {
-                        readNextPacket( channel, buffer );
+                        fill();
                     }
                 }
                 else if ( buffer.remaining() >= 2 )
@@ -386,13 +484,81 @@ public class BufferingChunkedInput implements PackInput
                 else
                 {
                     //Buffer is empty, fill it up and try again
-                    readNextPacket( channel, buffer );
+                    fill();
                 }
                 break;
             }
         }
     }
 
+    private void assertNotReleased() throws ClosedChannelException
+    {
+        if ( buffer == null )
+        {
+            throw new ClosedChannelException();
+        }
+    }
+
+    /**
+     * Read the next packet into the buffer, which must be empty. When sizing adaptively the buffer is swapped for
+     * a larger or smaller one first if the reads before asked for it, which is the only time it holds no data.
+     * @throws IOException
+     */
+    private void fill() throws IOException
+    {
+        if ( nextCapacity != buffer.capacity() )
+        {
+            resize( nextCapacity );
+        }
+        readNextPacket( channel, buffer );
+        counters.channelRead();
+        if ( adaptive )
+        {
+            adapt( buffer.remaining() );
+        }
+    }
+
+    /**
+     * Decide on the capacity for the next read: grow when reads keep filling the buffer, as they do while a large
+     * result streams in, and shrink back towards the configured capacity when reads stay small for a while.
+     */
+    private void adapt( int read )
+    {
+        int capacity = buffer.capacity();
+        if ( read == capacity )
+        {
+            smallReads = 0;
+            if ( ++fullReads >= GROW_AFTER_FULL_READS && capacity < SocketSettings.MAX_BUFFER_SIZE )
+            {
+                nextCapacity = min( capacity * 2, SocketSettings.MAX_BUFFER_SIZE );
+                fullReads = 0;
+            }
+        }
+        else if ( read < capacity / 4 )
+        {
+            fullReads = 0;
+            if ( ++smallReads >= SHRINK_AFTER_SMALL_READS && capacity > initialCapacity )
+            {
+                nextCapacity = max( capacity / 2, initialCapacity );
+                smallReads = 0;
+            }
+        }
+        else
+        {
+            fullReads = 0;
+            smallReads = 0;
+        }
+    }
+
+    private void resize( int capacity )
+    {
+        PooledByteBuffer resized = bufferPool.acquire( capacity );
+        pooledBuffer.release();
+        pooledBuffer = resized;
+        buffer = resized.buffer().order( ByteOrder.BIG_ENDIAN );
+        buffer.limit( 0 );
+    }
+
     /**
      * Read data from the underlying channel into the buffer.
      * @param channel The channel to read from.
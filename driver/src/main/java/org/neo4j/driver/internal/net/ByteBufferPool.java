@@ -0,0 +1,137 @@
+/**
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.net;
+
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A pool of direct buffers, shared by all connections of the driver.
+ * <p>
+ * Sockets can only be read into and written from direct memory, so every heap buffer handed to a socket is first
+ * copied into a temporary direct buffer by the JDK. Keeping the I/O buffers of connections off-heap avoids that
+ * copy, and pooling them avoids the cost of allocating and freeing direct memory for every connection.
+ * <p>
+ * Buffers are pooled in size classes of powers of two, from {@value #MIN_POOLED_CAPACITY} up to
+ * {@value #MAX_POOLED_CAPACITY} bytes. Larger requests are served with direct buffers that are left to the garbage
+ * collector. Each size class keeps a bounded number of idle buffers, so the pool never holds on to more than a few
+ * megabytes that nobody uses.
+ */
+public class ByteBufferPool
+{
+    static final int MIN_POOLED_CAPACITY = 256;
+    static final int MAX_POOLED_CAPACITY = 64 * 1024;
+    private static final int DEFAULT_MAX_IDLE_BYTES_PER_CLASS = 2 * 1024 * 1024;
+
+    /** The pool used by connections unless told otherwise */
+    public static final ByteBufferPool SHARED = new ByteBufferPool( DEFAULT_MAX_IDLE_BYTES_PER_CLASS );
+
+    private final SizeClass[] sizeClasses;
+
+    public ByteBufferPool( int maxIdleBytesPerClass )
+    {
+        int classes = Integer.numberOfTrailingZeros( MAX_POOLED_CAPACITY ) -
+                      Integer.numberOfTrailingZeros( MIN_POOLED_CAPACITY ) + 1;
+        this.sizeClasses = new SizeClass[classes];
+        for ( int i = 0; i < classes; i++ )
+        {
+            int capacity = MIN_POOLED_CAPACITY << i;
+            sizeClasses[i] = new SizeClass( capacity, Math.max( 1, maxIdleBytesPerClass / capacity ) );
+        }
+    }
+
+    /**
+     * @param capacity the exact capacity of the buffer
+     * @return a cleared buffer of the given capacity, held by a single reference
+     */
+    public PooledByteBuffer acquire( int capacity )
+    {
+        SizeClass sizeClass = sizeClassFor( capacity );
+        if ( sizeClass == null )
+        {
+            return new PooledByteBuffer( null, ByteBuffer.allocateDirect( capacity ), capacity );
+        }
+        ByteBuffer memory = sizeClass.idle.poll();
+        if ( memory == null )
+        {
+            memory = ByteBuffer.allocateDirect( sizeClass.capacity );
+        }
+        else
+        {
+            sizeClass.idleCount.decrementAndGet();
+            memory.clear();
+        }
+        return new PooledByteBuffer( this, memory, capacity );
+    }
+
+    /**
+     * @return the number of buffers currently kept for reuse
+     */
+    public int idleBuffers()
+    {
+        int idle = 0;
+        for ( SizeClass sizeClass : sizeClasses )
+        {
+            idle += sizeClass.idleCount.get();
+        }
+        return idle;
+    }
+
+    void recycle( ByteBuffer memory )
+    {
+        SizeClass sizeClass = sizeClassFor( memory.capacity() );
+        if ( sizeClass != null && sizeClass.capacity == memory.capacity() &&
+             sizeClass.idleCount.incrementAndGet() <= sizeClass.maxIdle )
+        {
+            sizeClass.idle.add( memory );
+        }
+        else if ( sizeClass != null && sizeClass.capacity == memory.capacity() )
+        {
+            // Enough of these are idle already, let the garbage collector free this one
+            sizeClass.idleCount.decrementAndGet();
+        }
+    }
+
+    private SizeClass sizeClassFor( int capacity )
+    {
+        if ( capacity > MAX_POOLED_CAPACITY )
+        {
+            return null;
+        }
+        int rounded = Math.max( MIN_POOLED_CAPACITY, Integer.highestOneBit( Math.max( 1, capacity - 1 ) ) << 1 );
+        return sizeClasses[Integer.numberOfTrailingZeros( rounded ) -
+                           Integer.numberOfTrailingZeros( MIN_POOLED_CAPACITY )];
+    }
+
+    private static class SizeClass
+    {
+        private final int capacity;
+        private final int maxIdle;
+        private final Queue<ByteBuffer> idle = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger idleCount = new AtomicInteger();
+
+        SizeClass( int capacity, int maxIdle )
+        {
+            this.capacity = capacity;
+            this.maxIdle = maxIdle;
+        }
+    }
+}
@@ -25,6 +25,7 @@ import java.nio.channels.ClosedByInterruptException;
 import java.nio.channels.ReadableByteChannel;
 
 import org.neo4j.driver.internal.packstream.PackInput;
+import org.neo4j.driver.internal.packstream.Utf8;
 import org.neo4j.driver.internal.util.BytePrinter;
 import org.neo4j.driver.v1.exceptions.ClientException;
 
@@ -152,6 +153,12 @@ public class ChunkedInput implements PackInput
         return this;
     }
 
+    @Override
+    public String readString( int size ) throws IOException
+    {
+        return Utf8.read( this, size );
+    }
+
     @Override
     public byte peekByte()
     {
@@ -20,6 +20,8 @@ package org.neo4j.driver.internal.net;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.GatheringByteChannel;
 import java.nio.channels.WritableByteChannel;
 
 import org.neo4j.driver.internal.packstream.PackOutput;
@@ -31,10 +33,32 @@ public class ChunkedOutput implements PackOutput
 {
     public static final short MESSAGE_BOUNDARY = 0;
     public static final int CHUNK_HEADER_SIZE = 2;
+    public static final int MAX_CHUNK_SIZE = 0xFFFF;
 
-    private final ByteBuffer buffer;
+    /**
+     * Adaptive sizing doubles the buffer once a flush needed this many flushes before it to make room.
+     */
+    static final int GROW_AFTER_OVERFLOWS = 2;
+
+    /**
+     * Adaptive sizing halves the buffer after this many consecutive flushes used less than a quarter of it.
+     */
+    static final int SHRINK_AFTER_SMALL_FLUSHES = 32;
+
+    private final ByteBufferPool bufferPool;
+    private PooledByteBuffer pooledBuffer;
+    private ByteBuffer buffer;
     private final WritableByteChannel channel;
 
+    /** Whether the buffer is resized between its initial size and {@link SocketSettings#MAX_BUFFER_SIZE} */
+    private final boolean adaptive;
+    private final int initialSize;
+    /** Flushes made to make room since the last flush asked for */
+    private int overflows;
+    private int smallFlushes;
+
+    private final TransportCounters counters;
+
     /** The chunk header */
     private int currentChunkHeaderOffset;
     /** Are currently in the middle of writing a chunk? */
@@ -48,21 +72,120 @@ public class ChunkedOutput implements PackOutput
 
     public ChunkedOutput( int bufferSize, WritableByteChannel ch )
     {
-        buffer = ByteBuffer.allocate(  max( 16, bufferSize ) );
+        this( bufferSize, ch, ByteBufferPool.SHARED );
+    }
+
+    public ChunkedOutput( int bufferSize, WritableByteChannel ch, ByteBufferPool bufferPool )
+    {
+        this( bufferSize, ch, bufferPool, false, new TransportCounters() );
+    }
+
+    public ChunkedOutput( WritableByteChannel ch, SocketSettings settings )
+    {
+        this( settings.sendBufferSize(), ch, ByteBufferPool.SHARED, settings.adaptiveBufferSizing(),
+                settings.counters() );
+    }
+
+    private ChunkedOutput( int bufferSize, WritableByteChannel ch, ByteBufferPool bufferPool, boolean adaptive,
+            TransportCounters counters )
+    {
+        this.bufferPool = bufferPool;
+        initialSize = max( 16, bufferSize );
+        pooledBuffer = bufferPool.acquire( initialSize );
+        buffer = pooledBuffer.buffer();
         chunkOpen = false;
         channel = ch;
+        this.adaptive = adaptive;
+        this.counters = counters;
+    }
+
+    /**
+     * Give the buffer back to the pool, anything written but not yet flushed is discarded.
+     */
+    public void release()
+    {
+        if ( buffer != null )
+        {
+            buffer = null;
+            pooledBuffer.release();
+        }
+    }
+
+    /*
+     * Use only in tests
+     */
+    int bufferSize()
+    {
+        return buffer.capacity();
     }
 
     @Override
     public PackOutput flush() throws IOException
+    {
+        assertNotReleased();
+        int written = writeBuffer();
+        if ( adaptive )
+        {
+            adapt( written );
+        }
+        overflows = 0;
+        return this;
+    }
+
+    /**
+     * Write out the buffer because what comes next does not fit.
+     */
+    private void overflow() throws IOException
+    {
+        overflows++;
+        writeBuffer();
+    }
+
+    private int writeBuffer() throws IOException
     {
         closeChunkIfOpen();
 
         buffer.flip();
+        int written = buffer.remaining();
         channel.write( buffer );
+        counters.channelWrite();
         buffer.clear();
 
-        return this;
+        return written;
+    }
+
+    /**
+     * Resize the buffer, which is empty and has no open chunk right after a flush: grow when what was written
+     * since the last flush did not fit, and shrink back towards the configured size when flushes stay small.
+     */
+    private void adapt( int written )
+    {
+        int size = buffer.capacity();
+        if ( overflows >= GROW_AFTER_OVERFLOWS && size < SocketSettings.MAX_BUFFER_SIZE )
+        {
+            resize( Math.min( size * 2, SocketSettings.MAX_BUFFER_SIZE ) );
+            smallFlushes = 0;
+        }
+        else if ( written < size / 4 && size > initialSize )
+        {
+            if ( ++smallFlushes >= SHRINK_AFTER_SMALL_FLUSHES )
+            {
+                resize( max( size / 2, initialSize ) );
+                smallFlushes = 0;
+            }
+        }
+        else
+        {
+            smallFlushes = 0;
+        }
+    }
+
+    private void resize( int size )
+    {
+        PooledByteBuffer resized = bufferPool.acquire( size );
+        pooledBuffer.release();
+        pooledBuffer = resized;
+        buffer = resized.buffer();
     }
 
     @Override
@@ -108,6 +231,11 @@ public class ChunkedOutput implements PackOutput
     @Override
     public PackOutput writeBytes( byte[] data, int offset, int length ) throws IOException
     {
+        assertNotReleased();
+        if ( length - offset >= buffer.capacity() && channel instanceof GatheringByteChannel )
+        {
+            return writeBytesGathering( (GatheringByteChannel) channel, data, offset, length );
+        }
         while ( offset < length )
         {
             // Ensure there is an open chunk, and that it has at least one byte of space left
@@ -122,6 +250,38 @@ public class ChunkedOutput implements PackOutput
         return this;
     }
 
+    /**
+     * Write data that would not fit in the buffer anyway straight from the array, in chunks of the maximum size.
+     * Each chunk goes out in a single gathering write together with what is buffered so far and the chunk header,
+     * so the data is never copied into the buffer.
+     */
+    private PackOutput writeBytesGathering( GatheringByteChannel channel, byte[] data, int offset, int length )
+            throws IOException
+    {
+        closeChunkIfOpen();
+        ByteBuffer[] buffers = new ByteBuffer[2];
+        while ( offset < length )
+        {
+            int chunkSize = Math.min( MAX_CHUNK_SIZE, length - offset );
+            if ( buffer.remaining() < CHUNK_HEADER_SIZE )
+            {
+                overflow();
+            }
+            buffer.putShort( (short) chunkSize );
+            buffer.flip();
+            buffers[0] = buffer;
+            buffers[1] = ByteBuffer.wrap( data, offset, chunkSize );
+            while ( buffers[1].hasRemaining() )
+            {
+                channel.write( buffers );
+                counters.channelWrite();
+            }
+            buffer.clear();
+            offset += chunkSize;
+        }
+        return this;
+    }
+
     private void closeChunkIfOpen()
     {
         if( chunkOpen )
@@ -132,12 +292,21 @@ public class ChunkedOutput implements PackOutput
         }
     }
 
+    private void assertNotReleased() throws ClosedChannelException
+    {
+        if ( buffer == null )
+        {
+            throw new ClosedChannelException();
+        }
+    }
+
     private PackOutput ensure( int size ) throws IOException
     {
+        assertNotReleased();
         int toWriteSize = chunkOpen ? size : size + CHUNK_HEADER_SIZE;
         if ( buffer.remaining() < toWriteSize )
         {
-            flush();
+            overflow();
         }
 
         if ( !chunkOpen )
@@ -157,12 +326,13 @@ public class ChunkedOutput implements PackOutput
         {
             try
             {
+                assertNotReleased();
                 closeChunkIfOpen();
 
                 // Ensure there's space to write the message boundary
                 if ( buffer.remaining() < CHUNK_HEADER_SIZE )
                 {
-                    flush();
+                    overflow();
                 }
 
                 // Write message boundary
@@ -170,6 +340,7 @@ public class ChunkedOutput implements PackOutput
 
                 // Mark us as not currently in a chunk
                 chunkOpen = false;
+                counters.messageSent();
             }
             catch ( IOException e )
             {
@@ -19,6 +19,7 @@
 package org.neo4j.driver.internal.net;
 
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.neo4j.driver.internal.spi.Collector;
@@ -72,6 +73,20 @@ public class ConcurrencyGuardingConnection implements Connection
         }
     }
 
+    @Override
+    public void run( String statement, Value parameters, Collector collector )
+    {
+        try
+        {
+            markAsInUse();
+            delegate.run( statement, parameters, collector );
+        }
+        finally
+        {
+            markAsAvailable();
+        }
+    }
+
     @Override
     public void discardAll( Collector collector )
     {
@@ -170,6 +185,34 @@ public class ConcurrencyGuardingConnection implements Connection
         }
     }
 
+    @Override
+    public CompletionStage<Void> syncAsync()
+    {
+        try
+        {
+            markAsInUse();
+            return delegate.syncAsync();
+        }
+        finally
+        {
+            markAsAvailable();
+        }
+    }
+
+    @Override
+    public CompletionStage<Void> receiveOneAsync()
+    {
+        try
+        {
+            markAsInUse();
+            return delegate.receiveOneAsync();
+        }
+        finally
+        {
+            markAsAvailable();
+        }
+    }
+
     @Override
     public void close()
     {
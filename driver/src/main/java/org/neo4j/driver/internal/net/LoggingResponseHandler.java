@@ -21,6 +21,7 @@ package org.neo4j.driver.internal.net;
 import java.util.Arrays;
 import java.util.Map;
 
+import org.neo4j.driver.internal.messaging.EncodedRecord;
 import org.neo4j.driver.v1.Logger;
 import org.neo4j.driver.v1.Value;
 
@@ -54,6 +55,13 @@ public class LoggingResponseHandler extends SocketResponseHandler
         super.handleRunMessage( statement, parameters );
     }
 
+    @Override
+    public void handleRunMessage( String statement, Value parameters )
+    {
+        logger.debug( "S: RUN \"%s\" %s", statement, parameters );
+        super.handleRunMessage( statement, parameters );
+    }
+
     @Override
     public void handlePullAllMessage()
     {
@@ -96,6 +104,13 @@ public class LoggingResponseHandler extends SocketResponseHandler
         super.handleRecordMessage( fields );
     }
 
+    @Override
+    public void handleRecordMessage( EncodedRecord record )
+    {
+        logger.debug( "S: RECORD %s", Arrays.asList( record.values() ) );
+        super.handleRecordMessage( record );
+    }
+
     @Override
     public void handleFailureMessage( String code, String message )
     {
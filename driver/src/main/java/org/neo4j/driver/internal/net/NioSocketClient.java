@@ -0,0 +1,669 @@
+/**
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.net;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ByteChannel;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.SelectionKey;
+import java.util.LinkedList;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.neo4j.driver.internal.messaging.Message;
+import org.neo4j.driver.internal.security.SecurityPlan;
+import org.neo4j.driver.internal.security.TLSSocketChannel;
+import org.neo4j.driver.v1.Logger;
+import org.neo4j.driver.v1.exceptions.ClientException;
+import org.neo4j.driver.v1.exceptions.ServiceUnavailableException;
+
+import static java.nio.channels.SelectionKey.OP_READ;
+import static java.nio.channels.SelectionKey.OP_WRITE;
+
+/**
+ * A {@link SocketClient} whose socket is driven by a {@link SocketEventLoop} instead of the calling thread.
+ * <p>
+ * Connecting, the TLS handshake and protocol negotiation are performed in blocking mode by the thread that starts
+ * the client. After that the socket is switched to non-blocking mode and registered with the event loop, which from
+ * then on performs all socket reads and writes:
+ * <ul>
+ * <li>{@link #send(Queue)} encodes messages into buffers that the loop writes out as the socket becomes
+ * writable. With encryption, ciphertext the socket does not take right away is kept by the
+ * {@link TLSSocketChannel} and written out the same way;</li>
+ * <li>the loop reads whatever the server sends, frames it into complete messages, and decodes them into the
+ * response handler, completing the waiting {@link org.neo4j.driver.internal.spi.Collector collectors}.</li>
+ * </ul>
+ * Messages are only decoded once they are asked for: each call to {@link #receiveOne(SocketResponseHandler)}
+ * requests one more message from the loop and parks until it has been handled. This way collectors that are not
+ * thread safe only ever see one thread at a time, with a happens-before edge on every handoff.
+ * {@link #receiveOneAsync(SocketResponseHandler)} requests a message the same way without parking, and completes
+ * the returned stage from the loop once the message has been handled.
+ * <p>
+ * Received bytes and queued writes are kept in buffers from the {@link ByteBufferPool}. As the loop may be using
+ * them at any time, {@link #stop() stopping} the client closes the socket and returns the buffers from the loop.
+ */
+public class NioSocketClient extends SocketClient
+{
+    private static final int INITIAL_RECEIVE_BUFFER_SIZE = 8192;
+    /**
+     * Once this many received bytes are waiting to be decoded, and at least one complete message is among them,
+     * the loop stops reading until enough messages have been asked for. The server then blocks on a full TCP window
+     * rather than the client buffering an unbounded amount of results nobody is consuming yet.
+     */
+    static final int MAX_UNDECODED_BYTES = 64 * 1024;
+
+    private final SocketEventLoop eventLoop;
+    private final ByteBufferPool bufferPool = ByteBufferPool.SHARED;
+    private final Queue<PooledByteBuffer> pendingWrites = new ConcurrentLinkedQueue<>();
+    private volatile boolean stopped;
+
+    private final Runnable flushTask = new Runnable()
+    {
+        @Override
+        public void run()
+        {
+            flushPendingWrites();
+        }
+    };
+
+    private final Runnable dispatchTask = new Runnable()
+    {
+        @Override
+        public void run()
+        {
+            dispatch();
+        }
+    };
+
+    private final Runnable stopTask = new Runnable()
+    {
+        @Override
+        public void run()
+        {
+            closeQuietly();
+            releaseBuffers();
+            releasePendingWrites();
+            if ( receivedBuffer != null )
+            {
+                receivedBuffer.release();
+                receivedBuffer = null;
+                received = emptyBuffer();
+            }
+        }
+    };
+
+    private final Runnable readTask = new Runnable()
+    {
+        @Override
+        public void run()
+        {
+            try
+            {
+                onReadable();
+            }
+            catch ( Throwable e )
+            {
+                failed( e );
+            }
+        }
+    };
+
+    // Only accessed from the event loop
+    private SelectionKey key;
+    /** Bytes received from the socket and not yet decoded, in read mode */
+    private ByteBuffer received = emptyBuffer();
+    /** The pooled buffer backing {@link #received}, taken on the first read */
+    private PooledByteBuffer receivedBuffer;
+    /** Number of header bytes seen of the chunk header currently being framed, 0 or 1 */
+    private int chunkHeaderBytes;
+    private int chunkHeader;
+    /** Bytes left to skip of the chunk currently being framed */
+    private int chunkRemaining;
+    /** Number of complete messages received but not yet decoded */
+    private int framedMessages;
+    /** Set when the server closed the connection, messages received before that can still be decoded */
+    private boolean endOfStream;
+    /** Set while reading is suspended because too much has been received that nobody asked for yet */
+    private volatile boolean readPaused;
+
+    // Guarded by this
+    private SocketResponseHandler handler;
+    private int requestedMessages;
+    /** Stages of asynchronous receives, completed in order once their message has been handled */
+    private final Queue<CompletableFuture<Void>> receivers = new LinkedList<>();
+    private Throwable failure;
+
+    public NioSocketClient( BoltServerAddress address, SecurityPlan securityPlan, Logger logger,
+            SocketEventLoopGroup eventLoops )
+    {
+        this( address, securityPlan, logger, eventLoops, SocketSettings.defaultSettings() );
+    }
+
+    public NioSocketClient( BoltServerAddress address, SecurityPlan securityPlan, Logger logger,
+            SocketEventLoopGroup eventLoops, SocketSettings settings )
+    {
+        this( address, securityPlan, logger, eventLoops.next(), settings );
+    }
+
+    NioSocketClient( BoltServerAddress address, SecurityPlan securityPlan, Logger logger, SocketEventLoop eventLoop )
+    {
+        this( address, securityPlan, logger, eventLoop, SocketSettings.defaultSettings() );
+    }
+
+    NioSocketClient( BoltServerAddress address, SecurityPlan securityPlan, Logger logger, SocketEventLoop eventLoop,
+            SocketSettings settings )
+    {
+        super( address, securityPlan, logger, settings );
+        this.eventLoop = eventLoop;
+    }
+
+    @Override
+    public void start()
+    {
+        super.start();
+        try
+        {
+            socketChannel().configureBlocking( false );
+            setProtocol( protocolV1( new EventLoopChannel() ) );
+        }
+        catch ( IOException e )
+        {
+            super.stop();
+            throw new ClientException( "Unable to switch connection to non-blocking mode: " + e.getMessage(), e );
+        }
+        eventLoop.register( this, socketChannel() );
+    }
+
+    @Override
+    public void send( Queue<Message> messages ) throws IOException
+    {
+        if ( !isOpen() )
+        {
+            throw new ClosedChannelException();
+        }
+        super.send( messages );
+        if ( !pendingWrites.isEmpty() )
+        {
+            eventLoop.execute( flushTask );
+        }
+    }
+
+    @Override
+    public void receiveOne( SocketResponseHandler handler ) throws IOException
+    {
+        if ( eventLoop.inEventLoop() )
+        {
+            throw new ClientException( "Blocking receive is not allowed on an event loop thread." );
+        }
+
+        synchronized ( this )
+        {
+            this.handler = handler;
+            requestedMessages++;
+        }
+        eventLoop.execute( dispatchTask );
+        synchronized ( this )
+        {
+            while ( requestedMessages > 0 && failure == null )
+            {
+                try
+                {
+                    wait();
+                }
+                catch ( InterruptedException e )
+                {
+                    Thread.currentThread().interrupt();
+                    stop();
+                    throw new ServiceUnavailableException(
+                            "Connection to the database was lost because someone called `interrupt()` on the driver " +
+                            "thread waiting for a reply." );
+                }
+            }
+            requestedMessages = 0;
+            if ( failure != null )
+            {
+                Throwable error = failure;
+                if ( isOpen() )
+                {
+                    // Failures of a single message, such as unexpected responses, leave the connection usable
+                    failure = null;
+                }
+                throw rethrow( error );
+            }
+        }
+    }
+
+    @Override
+    public CompletionStage<Void> receiveOneAsync( SocketResponseHandler handler )
+    {
+        CompletableFuture<Void> received = new CompletableFuture<>();
+        synchronized ( this )
+        {
+            if ( failure != null && !isOpen() )
+            {
+                received.completeExceptionally( failure );
+                return received;
+            }
+            this.handler = handler;
+            receivers.add( received );
+        }
+        // Always go through the task queue, so that a receiver which asks for the next message from its callback
+        // does not recurse once per message
+        eventLoop.schedule( dispatchTask );
+        return received;
+    }
+
+    /**
+     * Stop the client straight away, and close the socket from the loop once it is done with any work already
+     * submitted for this client. Closing the channel also cancels its key, so the loop will not touch the buffers
+     * after it released them.
+     */
+    @Override
+    public void stop()
+    {
+        stopped = true;
+        synchronized ( this )
+        {
+            if ( failure == null )
+            {
+                failure = new ServiceUnavailableException( "The connection has been closed." );
+            }
+            failReceivers();
+            notifyAll();
+        }
+        eventLoop.execute( stopTask );
+    }
+
+    @Override
+    public boolean isOpen()
+    {
+        return !stopped && super.isOpen();
+    }
+
+    void registered( SelectionKey key )
+    {
+        this.key = key;
+        flushPendingWrites();
+    }
+
+    void onWritable() throws IOException
+    {
+        flushPendingWrites();
+    }
+
+    void onReadable() throws IOException
+    {
+        if ( readPaused || !isOpen() )
+        {
+            return;
+        }
+        ByteChannel channel = channel();
+        if ( receivedBuffer == null )
+        {
+            receivedBuffer = bufferPool.acquire( INITIAL_RECEIVE_BUFFER_SIZE );
+            received = receivedBuffer.buffer();
+            received.limit( 0 );
+        }
+        int read;
+        do
+        {
+            received.compact();
+            if ( !received.hasRemaining() )
+            {
+                grow();
+            }
+            int start = received.position();
+            // A TLS channel may hold on to already deciphered data, so always read until nothing more is available
+            read = channel.read( received );
+            received.flip();
+            if ( read > 0 )
+            {
+                frame( start, start + read );
+            }
+        }
+        while ( read > 0 && !tooMuchUndecoded() );
+
+        if ( read < 0 )
+        {
+            endOfStream = true;
+            closeQuietly();
+        }
+        else if ( tooMuchUndecoded() )
+        {
+            readPaused = true;
+            key.interestOps( key.interestOps() & ~OP_READ );
+        }
+        dispatch();
+    }
+
+    private boolean tooMuchUndecoded()
+    {
+        return framedMessages > 0 && received.remaining() >= MAX_UNDECODED_BYTES;
+    }
+
+    /**
+     * Resume reading once enough of what was received has been decoded. The read happens as a separate task,
+     * since a TLS channel may already hold data that the selector will not report.
+     */
+    private void resumeReading()
+    {
+        if ( readPaused && !tooMuchUndecoded() && key.isValid() )
+        {
+            readPaused = false;
+            key.interestOps( key.interestOps() | OP_READ );
+            eventLoop.schedule( readTask );
+        }
+    }
+
+    boolean isReadPaused()
+    {
+        return readPaused;
+    }
+
+    void failed( Throwable error )
+    {
+        synchronized ( this )
+        {
+            if ( failure == null )
+            {
+                failure = error;
+            }
+            failReceivers();
+            notifyAll();
+        }
+        closeQuietly();
+    }
+
+    /**
+     * Close the socket, keeping the buffers so that messages received before can still be decoded.
+     */
+    private void closeQuietly()
+    {
+        try
+        {
+            closeChannel();
+        }
+        catch ( Throwable e )
+        {
+            // best effort
+        }
+    }
+
+    private void flushPendingWrites()
+    {
+        if ( key == null )
+        {
+            // writes queued before registration are flushed as soon as the client is registered
+            return;
+        }
+        if ( !isOpen() )
+        {
+            releasePendingWrites();
+            return;
+        }
+
+        try
+        {
+            ByteChannel channel = channel();
+            PooledByteBuffer pending;
+            while ( (pending = pendingWrites.peek()) != null )
+            {
+                ByteBuffer buffer = pending.buffer();
+                channel.write( buffer );
+                if ( buffer.hasRemaining() )
+                {
+                    key.interestOps( key.interestOps() | OP_WRITE );
+                    return;
+                }
+                pendingWrites.poll().release();
+            }
+            if ( channel instanceof TLSSocketChannel && !((TLSSocketChannel) channel).flush() )
+            {
+                // all bytes have been encrypted, but not all of the ciphertext has been taken by the socket yet
+                key.interestOps( key.interestOps() | OP_WRITE );
+                return;
+            }
+            key.interestOps( key.interestOps() & ~OP_WRITE );
+        }
+        catch ( IOException e )
+        {
+            failed( new ServiceUnavailableException( "Unable to send messages to server: " + e.getMessage(), e ) );
+        }
+    }
+
+    private void releasePendingWrites()
+    {
+        PooledByteBuffer pending;
+        while ( (pending = pendingWrites.poll()) != null )
+        {
+            pending.release();
+        }
+    }
+
+    /**
+     * Decode as many framed messages as have been requested. Runs on the event loop.
+     */
+    private synchronized void dispatch()
+    {
+        try
+        {
+            while ( framedMessages > 0 && (requestedMessages > 0 || !receivers.isEmpty()) )
+            {
+                framedMessages--;
+                if ( requestedMessages > 0 )
+                {
+                    requestedMessages--;
+                    super.receiveOne( handler );
+                }
+                else
+                {
+                    receiveInto( receivers.poll() );
+                }
+            }
+            if ( (requestedMessages > 0 || !receivers.isEmpty()) && endOfStream && failure == null )
+            {
+                failure = new ServiceUnavailableException(
+                        "Connection terminated while receiving data. This can happen due to network " +
+                        "instabilities, or due to restarts of the database." );
+            }
+        }
+        catch ( Throwable e )
+        {
+            failure = e;
+        }
+        finally
+        {
+            if ( failure != null && !isOpen() )
+            {
+                failReceivers();
+            }
+            else if ( isOpen() )
+            {
+                resumeReading();
+            }
+            notifyAll();
+        }
+    }
+
+    private void receiveInto( CompletableFuture<Void> receiver )
+    {
+        try
+        {
+            super.receiveOne( handler );
+        }
+        catch ( Throwable e )
+        {
+            receiver.completeExceptionally( e );
+            return;
+        }
+        receiver.complete( null );
+    }
+
+    private void failReceivers()
+    {
+        CompletableFuture<Void> receiver;
+        while ( (receiver = receivers.poll()) != null )
+        {
+            receiver.completeExceptionally( failure );
+        }
+    }
+
+    /**
+     * Walk the chunk headers of newly received bytes to count complete messages, without decoding anything.
+     */
+    private void frame( int from, int to )
+    {
+        int i = from;
+        while ( i < to )
+        {
+            if ( chunkRemaining > 0 )
+            {
+                int skip = Math.min( chunkRemaining, to - i );
+                chunkRemaining -= skip;
+                i += skip;
+            }
+            else if ( chunkHeaderBytes == 0 )
+            {
+                chunkHeader = (received.get( i++ ) & 0xFF) << 8;
+                chunkHeaderBytes = 1;
+            }
+            else
+            {
+                int chunkSize = chunkHeader | (received.get( i++ ) & 0xFF);
+                chunkHeaderBytes = 0;
+                if ( chunkSize == 0 )
+                {
+                    framedMessages++;
+                }
+                else
+                {
+                    chunkRemaining = chunkSize;
+                }
+            }
+        }
+    }
+
+    private static ByteBuffer emptyBuffer()
+    {
+        ByteBuffer buffer = ByteBuffer.allocate( 0 );
+        buffer.limit( 0 );
+        return buffer;
+    }
+
+    /**
+     * Swap the full receive buffer, in write mode, for one of double the capacity with the same content.
+     */
+    private void grow()
+    {
+        PooledByteBuffer bigger = bufferPool.acquire( received.capacity() * 2 );
+        received.flip();
+        bigger.buffer().put( received );
+        receivedBuffer.release();
+        receivedBuffer = bigger;
+        received = bigger.buffer();
+    }
+
+    private static IOException rethrow( Throwable error ) throws IOException
+    {
+        if ( error instanceof IOException )
+        {
+            throw (IOException) error;
+        }
+        if ( error instanceof RuntimeException )
+        {
+            throw (RuntimeException) error;
+        }
+        if ( error instanceof Error )
+        {
+            throw (Error) error;
+        }
+        throw new ClientException( "Unable to process response: " + error.getMessage(), error );
+    }
+
+    @Override
+    public String toString()
+    {
+        return "Nio" + super.toString();
+    }
+
+    /**
+     * The channel the protocol reads from and writes to: reads are served from the received bytes and writes are
+     * queued for the event loop.
+     */
+    private class EventLoopChannel implements ByteChannel, GatheringByteChannel
+    {
+        @Override
+        public int read( ByteBuffer dst )
+        {
+            int length = Math.min( dst.remaining(), received.remaining() );
+            ByteBuffer slice = received.duplicate();
+            slice.limit( slice.position() + length );
+            dst.put( slice );
+            received.position( received.position() + length );
+            return length;
+        }
+
+        @Override
+        public int write( ByteBuffer src )
+        {
+            PooledByteBuffer copy = bufferPool.acquire( src.remaining() );
+            copy.buffer().put( src );
+            copy.buffer().flip();
+            pendingWrites.add( copy );
+            return copy.buffer().remaining();
+        }
+
+        @Override
+        public long write( ByteBuffer[] srcs, int offset, int length )
+        {
+            // Each buffer gets its own pooled copy, so large chunks are not copied a second time to be joined
+            long written = 0;
+            for ( int i = offset; i < offset + length; i++ )
+            {
+                if ( srcs[i].hasRemaining() )
+                {
+                    written += write( srcs[i] );
+                }
+            }
+            return written;
+        }
+
+        @Override
+        public long write( ByteBuffer[] srcs )
+        {
+            return write( srcs, 0, srcs.length );
+        }
+
+        @Override
+        public boolean isOpen()
+        {
+            return NioSocketClient.this.isOpen();
+        }
+
+        @Override
+        public void close()
+        {
+            // the socket is owned by the client
+        }
+    }
+}
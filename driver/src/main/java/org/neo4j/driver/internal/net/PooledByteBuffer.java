@@ -0,0 +1,87 @@
+/**
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.net;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A buffer borrowed from a {@link ByteBufferPool}, returned to it once every holder has released it.
+ * <p>
+ * The buffer starts out with a single reference, owned by whoever acquired it. Code that hands the buffer on while
+ * still using it {@link #retain() retains} it for the receiver, and each holder {@link #release() releases} its
+ * reference when done. The buffer must not be touched after its holder released it, as it may already be in use
+ * by another connection.
+ */
+public final class PooledByteBuffer
+{
+    private final ByteBufferPool pool;
+    private final ByteBuffer memory;
+    private final ByteBuffer buffer;
+    private final AtomicInteger references = new AtomicInteger( 1 );
+
+    PooledByteBuffer( ByteBufferPool pool, ByteBuffer memory, int capacity )
+    {
+        this.pool = pool;
+        this.memory = memory;
+        ByteBuffer view = memory.duplicate();
+        view.limit( capacity );
+        this.buffer = view.slice();
+    }
+
+    /**
+     * @return the buffer, of exactly the capacity that was asked for
+     */
+    public ByteBuffer buffer()
+    {
+        return buffer;
+    }
+
+    public PooledByteBuffer retain()
+    {
+        int current;
+        do
+        {
+            current = references.get();
+            if ( current <= 0 )
+            {
+                throw new IllegalStateException( "Buffer has already been released" );
+            }
+        }
+        while ( !references.compareAndSet( current, current + 1 ) );
+        return this;
+    }
+
+    /**
+     * @return true if this was the last reference and the buffer went back to the pool
+     */
+    public boolean release()
+    {
+        int remaining = references.decrementAndGet();
+        if ( remaining < 0 )
+        {
+            throw new IllegalStateException( "Buffer has already been released" );
+        }
+        if ( remaining == 0 && pool != null )
+        {
+            pool.recycle( memory );
+        }
+        return remaining == 0;
+    }
+}
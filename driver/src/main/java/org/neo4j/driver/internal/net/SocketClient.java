@@ -26,6 +26,8 @@ import java.nio.channels.ByteChannel;
 import java.nio.channels.SocketChannel;
 import java.security.GeneralSecurityException;
 import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 import org.neo4j.driver.internal.messaging.Message;
 import org.neo4j.driver.internal.messaging.MessageFormat;
@@ -50,18 +52,27 @@ public class SocketClient
     private final BoltServerAddress address;
     private final SecurityPlan securityPlan;
     private final Logger logger;
+    private final SocketSettings settings;
 
     private SocketProtocol protocol;
     private MessageFormat.Reader reader;
     private MessageFormat.Writer writer;
 
+    private SocketChannel socketChannel;
     private ByteChannel channel;
 
     public SocketClient( BoltServerAddress address, SecurityPlan securityPlan, Logger logger )
+    {
+        this( address, securityPlan, logger, SocketSettings.defaultSettings() );
+    }
+
+    public SocketClient( BoltServerAddress address, SecurityPlan securityPlan, Logger logger,
+            SocketSettings settings )
     {
         this.address = address;
         this.securityPlan = securityPlan;
         this.logger = logger;
+        this.settings = settings;
         this.channel = null;
     }
 
@@ -70,6 +81,40 @@ public class SocketClient
         this.channel = channel;
     }
 
+    ByteChannel channel()
+    {
+        return channel;
+    }
+
+    SocketChannel socketChannel()
+    {
+        return socketChannel;
+    }
+
+    void setProtocol( SocketProtocol protocol )
+    {
+        if ( this.protocol != null )
+        {
+            this.protocol.release();
+        }
+        this.protocol = protocol;
+        this.reader = protocol.reader();
+        this.writer = protocol.writer();
+    }
+
+    Logger logger()
+    {
+        return logger;
+    }
+
+    /**
+     * @return the protocol to speak once the server has chosen version 1, on top of the given channel
+     */
+    SocketProtocol protocolV1( ByteChannel channel ) throws IOException
+    {
+        return new SocketProtocolV1( channel, settings );
+    }
+
     void blockingRead( ByteBuffer buf ) throws IOException
     {
         while(buf.hasRemaining())
@@ -121,10 +166,9 @@ public class SocketClient
         try
         {
             logger.debug( "~~ [CONNECT] %s", address );
-            setChannel( ChannelFactory.create( address, securityPlan, logger ) );
-            protocol = negotiateProtocol();
-            reader = protocol.reader();
-            writer = protocol.writer();
+            socketChannel = ChannelFactory.open( address );
+            setChannel( ChannelFactory.create( socketChannel, address, securityPlan, logger ) );
+            setProtocol( negotiateProtocol() );
         }
         catch ( ConnectException e )
         {
@@ -186,7 +230,41 @@ public class SocketClient
         }
     }
 
+    /**
+     * Receive one message into the handler, completing the returned stage once it has been handled. A blocking
+     * client receives on the calling thread, so the stage is already complete when this method returns.
+     */
+    public CompletionStage<Void> receiveOneAsync( SocketResponseHandler handler )
+    {
+        CompletableFuture<Void> received = new CompletableFuture<>();
+        try
+        {
+            receiveOne( handler );
+            received.complete( null );
+        }
+        catch ( Throwable e )
+        {
+            received.completeExceptionally( e );
+        }
+        return received;
+    }
+
     public void stop()
+    {
+        try
+        {
+            closeChannel();
+        }
+        finally
+        {
+            releaseBuffers();
+        }
+    }
+
+    /**
+     * Close the channel but keep the buffers of the protocol, so that data already read can still be decoded.
+     */
+    void closeChannel()
     {
         try
         {
@@ -194,6 +272,7 @@ public class SocketClient
             {
                 channel.close();
                 setChannel( null );
+                socketChannel = null;
                 logger.debug( "~~ [DISCONNECT]" );
             }
         }
@@ -211,6 +290,14 @@ public class SocketClient
         }
     }
 
+    void releaseBuffers()
+    {
+        if ( protocol != null )
+        {
+            protocol.release();
+        }
+    }
+
     public boolean isOpen()
     {
         return channel != null && channel.isOpen();
@@ -258,7 +345,7 @@ public class SocketClient
         {
         case VERSION1:
             logger.debug( "S: [HANDSHAKE] -> 1" );
-            return new SocketProtocolV1( channel );
+            return protocolV1( channel );
         case NO_VERSION:
             throw new ClientException( "The server does not support any of the protocol versions supported by " +
                                        "this driver. Ensure that you are using driver and server versions that " +
@@ -282,14 +369,18 @@ public class SocketClient
 
     private static class ChannelFactory
     {
-        public static ByteChannel create( BoltServerAddress address, SecurityPlan securityPlan, Logger logger )
-                throws IOException, GeneralSecurityException
+        public static SocketChannel open( BoltServerAddress address ) throws IOException
         {
             SocketChannel soChannel = SocketChannel.open();
             soChannel.setOption( StandardSocketOptions.SO_REUSEADDR, true );
             soChannel.setOption( StandardSocketOptions.SO_KEEPALIVE, true );
             soChannel.connect( address.toSocketAddress() );
+            return soChannel;
+        }
 
+        public static ByteChannel create( SocketChannel soChannel, BoltServerAddress address,
+                SecurityPlan securityPlan, Logger logger ) throws IOException, GeneralSecurityException
+        {
             ByteChannel channel;
 
             if (securityPlan.requiresEncryption())
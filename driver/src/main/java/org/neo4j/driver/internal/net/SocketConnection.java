@@ -24,7 +24,10 @@ import java.util.LinkedList;
 import java.util.Map;
 import java.util.Queue;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
 
 import org.neo4j.driver.internal.messaging.InitMessage;
 import org.neo4j.driver.internal.messaging.Message;
@@ -32,6 +35,8 @@ import org.neo4j.driver.internal.messaging.RunMessage;
 import org.neo4j.driver.internal.security.SecurityPlan;
 import org.neo4j.driver.internal.spi.Collector;
 import org.neo4j.driver.internal.spi.Connection;
+import org.neo4j.driver.internal.util.Futures;
+import org.neo4j.driver.internal.util.Supplier;
 import org.neo4j.driver.v1.Logger;
 import org.neo4j.driver.v1.Logging;
 import org.neo4j.driver.v1.Value;
@@ -57,6 +62,27 @@ public class SocketConnection implements Connection
     private final Logger logger;
 
     public SocketConnection( BoltServerAddress address, SecurityPlan securityPlan, Logging logging )
+    {
+        this( address, securityPlan, logging, null );
+    }
+
+    /**
+     * @param eventLoops the event loops to drive this connection from, or {@code null} to use a blocking socket
+     * driven by the threads using the connection
+     */
+    public SocketConnection( BoltServerAddress address, SecurityPlan securityPlan, Logging logging,
+            SocketEventLoopGroup eventLoops )
+    {
+        this( address, securityPlan, logging, eventLoops, SocketSettings.defaultSettings() );
+    }
+
+    /**
+     * @param eventLoops the event loops to drive this connection from, or {@code null} to use a blocking socket
+     * driven by the threads using the connection
+     * @param settings how the connection reads, writes and decodes messages
+     */
+    public SocketConnection( BoltServerAddress address, SecurityPlan securityPlan, Logging logging,
+            SocketEventLoopGroup eventLoops, SocketSettings settings )
     {
         this.logger = logging.getLog( format( "conn-%s", UUID.randomUUID().toString() ) );
 
@@ -69,7 +95,14 @@ public class SocketConnection implements Connection
             this.responseHandler = new SocketResponseHandler();
         }
 
-        this.socket = new SocketClient( address, securityPlan, logger );
+        if ( eventLoops == null )
+        {
+            this.socket = new SocketClient( address, securityPlan, logger, settings );
+        }
+        else
+        {
+            this.socket = new NioSocketClient( address, securityPlan, logger, eventLoops, settings );
+        }
         socket.start();
     }
 
@@ -86,6 +119,12 @@ public class SocketConnection implements Connection
         queueMessage( new RunMessage( statement, parameters ), collector );
     }
 
+    @Override
+    public void run( String statement, Value parameters, Collector collector )
+    {
+        queueMessage( new RunMessage( statement, parameters ), collector );
+    }
+
     @Override
     public void discardAll( Collector collector )
     {
@@ -183,6 +222,84 @@ public class SocketConnection implements Connection
         }
     }
 
+    @Override
+    public CompletionStage<Void> syncAsync()
+    {
+        try
+        {
+            flush();
+        }
+        catch ( RuntimeException e )
+        {
+            return Futures.failed( e );
+        }
+        return Futures.repeatUntil( new Supplier<Boolean>()
+        {
+            @Override
+            public Boolean get()
+            {
+                return responseHandler.collectorsWaiting() == 0;
+            }
+        }, new Supplier<CompletionStage<Void>>()
+        {
+            @Override
+            public CompletionStage<Void> get()
+            {
+                return receiveOneAsync( false );
+            }
+        }, new Supplier<Void>()
+        {
+            @Override
+            public Void get()
+            {
+                assertNoServerFailure();
+                return null;
+            }
+        } );
+    }
+
+    @Override
+    public CompletionStage<Void> receiveOneAsync()
+    {
+        return receiveOneAsync( true );
+    }
+
+    private CompletionStage<Void> receiveOneAsync( final boolean failOnServerFailure )
+    {
+        final CompletableFuture<Void> received = new CompletableFuture<>();
+        socket.receiveOneAsync( responseHandler ).whenComplete( new BiConsumer<Void,Throwable>()
+        {
+            @Override
+            public void accept( Void ignore, Throwable error )
+            {
+                if ( error instanceof IOException )
+                {
+                    received.completeExceptionally( mapRecieveError( (IOException) error ) );
+                }
+                else if ( error != null )
+                {
+                    received.completeExceptionally( error );
+                }
+                else
+                {
+                    try
+                    {
+                        if ( failOnServerFailure )
+                        {
+                            assertNoServerFailure();
+                        }
+                        received.complete( null );
+                    }
+                    catch ( Neo4jException e )
+                    {
+                        received.completeExceptionally( e );
+                    }
+                }
+            }
+        } );
+        return received;
+    }
+
     private void assertNoServerFailure()
     {
         if ( responseHandler.serverFailureOccurred() )
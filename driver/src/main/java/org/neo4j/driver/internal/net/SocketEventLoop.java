@@ -0,0 +1,202 @@
+/**
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.net;
+
+import java.io.IOException;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.neo4j.driver.v1.Logger;
+import org.neo4j.driver.v1.exceptions.ClientException;
+
+/**
+ * A single selector thread that drives the I/O of a number of {@link NioSocketClient non-blocking clients}.
+ * <p>
+ * All reads, writes and interest changes for a registered client are performed on the loop thread. Other threads
+ * interact with the loop by {@link #execute(Runnable) submitting tasks}, which are run in submission order between
+ * two selects.
+ */
+class SocketEventLoop implements Runnable
+{
+    private final Selector selector;
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    private final Thread thread;
+    private final Logger logger;
+
+    private volatile boolean running = true;
+
+    SocketEventLoop( String name, Logger logger )
+    {
+        try
+        {
+            this.selector = Selector.open();
+        }
+        catch ( IOException e )
+        {
+            throw new ClientException( "Unable to open selector for event loop: " + e.getMessage(), e );
+        }
+        this.logger = logger;
+        this.thread = new Thread( this, name );
+        this.thread.setDaemon( true );
+    }
+
+    void start()
+    {
+        thread.start();
+    }
+
+    boolean inEventLoop()
+    {
+        return Thread.currentThread() == thread;
+    }
+
+    /**
+     * Run the given task on the loop thread. Tasks submitted from the loop thread itself, or after the loop has been
+     * shut down, are run straight away.
+     */
+    void execute( Runnable task )
+    {
+        if ( inEventLoop() || !running )
+        {
+            task.run();
+        }
+        else
+        {
+            schedule( task );
+        }
+    }
+
+    /**
+     * Run the given task on the loop thread after all tasks submitted so far, even when called from the loop
+     * thread. This keeps callbacks that submit more work from recursing on the loop's stack.
+     */
+    void schedule( Runnable task )
+    {
+        tasks.add( task );
+        selector.wakeup();
+    }
+
+    void register( final NioSocketClient client, final SocketChannel channel )
+    {
+        execute( new Runnable()
+        {
+            @Override
+            public void run()
+            {
+                try
+                {
+                    client.registered( channel.register( selector, SelectionKey.OP_READ, client ) );
+                }
+                catch ( ClosedChannelException e )
+                {
+                    client.failed( e );
+                }
+            }
+        } );
+    }
+
+    @Override
+    public void run()
+    {
+        while ( running )
+        {
+            try
+            {
+                selector.select();
+                runTasks();
+                processSelectedKeys();
+            }
+            catch ( Throwable e )
+            {
+                logger.error( "Unexpected error in event loop " + thread.getName(), e );
+            }
+        }
+        runTasks();
+        closeSelector();
+    }
+
+    void shutdown()
+    {
+        running = false;
+        selector.wakeup();
+    }
+
+    private void runTasks()
+    {
+        Runnable task;
+        while ( (task = tasks.poll()) != null )
+        {
+            task.run();
+        }
+    }
+
+    private void processSelectedKeys()
+    {
+        Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+        while ( keys.hasNext() )
+        {
+            SelectionKey key = keys.next();
+            keys.remove();
+
+            NioSocketClient client = (NioSocketClient) key.attachment();
+            try
+            {
+                if ( key.isValid() && key.isWritable() )
+                {
+                    client.onWritable();
+                }
+                if ( key.isValid() && key.isReadable() )
+                {
+                    client.onReadable();
+                }
+            }
+            catch ( CancelledKeyException e )
+            {
+                // the client was stopped while we were processing it
+            }
+            catch ( Throwable e )
+            {
+                client.failed( e );
+            }
+        }
+    }
+
+    private void closeSelector()
+    {
+        for ( SelectionKey key : selector.keys() )
+        {
+            ((NioSocketClient) key.attachment()).failed(
+                    new ClosedChannelException() );
+        }
+        try
+        {
+            selector.close();
+        }
+        catch ( IOException e )
+        {
+            logger.warn( "Unable to close selector of event loop %s: %s", thread.getName(), e.getMessage() );
+        }
+    }
+}
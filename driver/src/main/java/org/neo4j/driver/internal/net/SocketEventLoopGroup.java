@@ -0,0 +1,68 @@
+/**
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.net;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.neo4j.driver.v1.Logger;
+import org.neo4j.driver.v1.Logging;
+
+/**
+ * A fixed set of selector threads shared by all non-blocking connections of a driver. Connections are assigned to
+ * the loops round-robin, and stay on the loop they were assigned to for their whole lifetime.
+ */
+public class SocketEventLoopGroup implements AutoCloseable
+{
+    private final SocketEventLoop[] loops;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public SocketEventLoopGroup( int threads, Logging logging )
+    {
+        if ( threads < 1 )
+        {
+            throw new IllegalArgumentException( "An event loop group needs at least one thread, but was: " + threads );
+        }
+        Logger logger = logging.getLog( "event-loop" );
+        this.loops = new SocketEventLoop[threads];
+        for ( int i = 0; i < threads; i++ )
+        {
+            loops[i] = new SocketEventLoop( "neo4j-event-loop-" + i, logger );
+            loops[i].start();
+        }
+    }
+
+    SocketEventLoop next()
+    {
+        return loops[(next.getAndIncrement() & Integer.MAX_VALUE) % loops.length];
+    }
+
+    public int size()
+    {
+        return loops.length;
+    }
+
+    @Override
+    public void close()
+    {
+        for ( SocketEventLoop loop : loops )
+        {
+            loop.shutdown();
+        }
+    }
+}
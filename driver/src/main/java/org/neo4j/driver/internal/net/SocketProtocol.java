@@ -28,4 +28,9 @@ public interface SocketProtocol
     Writer writer();
 
     int version();
+
+    /**
+     * Give the buffers of the reader and writer back to the pool, neither can be used afterwards.
+     */
+    void release();
 }
@@ -31,16 +31,24 @@ public class SocketProtocolV1 implements SocketProtocol
     private final MessageFormat messageFormat;
     private final Reader reader;
     private final Writer writer;
+    private final ChunkedOutput output;
+    private final BufferingChunkedInput input;
 
     public SocketProtocolV1( ByteChannel channel ) throws IOException
+    {
+        this( channel, SocketSettings.defaultSettings() );
+    }
+
+    public SocketProtocolV1( ByteChannel channel, SocketSettings settings ) throws IOException
     {
         messageFormat = new PackStreamMessageFormatV1();
 
-        ChunkedOutput output = new ChunkedOutput( channel );
-        BufferingChunkedInput input = new BufferingChunkedInput( channel );
+        this.output = new ChunkedOutput( channel, settings );
+        this.input = new BufferingChunkedInput( channel, settings );
 
         this.writer = new PackStreamMessageFormatV1.Writer( output, output.messageBoundaryHook() );
-        this.reader = new PackStreamMessageFormatV1.Reader( input, input.messageBoundaryHook() );
+        this.reader = new PackStreamMessageFormatV1.Reader( input, input.messageBoundaryHook(),
+                settings.lazyRecordDecoding(), settings.entityCacheSize() );
     }
 
     @Override
@@ -60,4 +68,11 @@ public class SocketProtocolV1 implements SocketProtocol
     {
         return messageFormat.version();
     }
+
+    @Override
+    public void release()
+    {
+        output.release();
+        input.release();
+    }
 }
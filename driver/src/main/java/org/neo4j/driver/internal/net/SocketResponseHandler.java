@@ -22,6 +22,7 @@ import java.util.Map;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
 
+import org.neo4j.driver.internal.messaging.EncodedRecord;
 import org.neo4j.driver.internal.messaging.MessageHandler;
 import org.neo4j.driver.internal.spi.Collector;
 import org.neo4j.driver.internal.summary.InternalNotification;
@@ -56,6 +57,13 @@ public class SocketResponseHandler implements MessageHandler
         collector.record( fields );
     }
 
+    @Override
+    public void handleRecordMessage( EncodedRecord record )
+    {
+        Collector collector = collectors.element();
+        collector.record( record );
+    }
+
     @Override
     public void handleFailureMessage( String code, String message )
     {
@@ -254,6 +262,12 @@ public class SocketResponseHandler implements MessageHandler
 
     }
 
+    @Override
+    public void handleRunMessage( String statement, Value parameters )
+    {
+
+    }
+
     public void appendResultCollector( Collector collector )
     {
         assert collector != null;
@@ -0,0 +1,115 @@
+/**
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.net;
+
+/**
+ * How the chunked transport of each connection reads, writes and decodes.
+ */
+public class SocketSettings
+{
+    public static SocketSettings defaultSettings()
+    {
+        return new SocketSettings( DEFAULT_RECEIVE_BUFFER_SIZE, DEFAULT_SEND_BUFFER_SIZE, false, false,
+                new TransportCounters() );
+    }
+
+    // http://stackoverflow.com/questions/2613734/maximum-packet-size-for-a-tcp-connection
+    public static final int DEFAULT_RECEIVE_BUFFER_SIZE = 1400;
+    public static final int DEFAULT_SEND_BUFFER_SIZE = 8192;
+    /** The largest buffer adaptive sizing grows to, the size of the largest chunk plus its header */
+    public static final int MAX_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Size of the buffer received data is read into, the most read from the socket at once.
+     */
+    private final int receiveBufferSize;
+
+    /**
+     * Size of the buffer messages are encoded into, the most written to the socket at once.
+     */
+    private final int sendBufferSize;
+
+    /**
+     * Grow and shrink the buffers of each connection, between their configured size and {@link #MAX_BUFFER_SIZE},
+     * according to how much is actually read and written at once.
+     */
+    private final boolean adaptiveBufferSizing;
+
+    /**
+     * Keep records encoded until their fields are accessed.
+     */
+    private final boolean lazyRecordDecoding;
+
+    /**
+     * Most nodes and relationships decoded once and shared by all records of a result.
+     */
+    private final int entityCacheSize;
+
+    /**
+     * Where all connections count their reads, writes and messages.
+     */
+    private final TransportCounters counters;
+
+    public SocketSettings( int receiveBufferSize, int sendBufferSize, boolean adaptiveBufferSizing,
+            boolean lazyRecordDecoding, TransportCounters counters )
+    {
+        this( receiveBufferSize, sendBufferSize, adaptiveBufferSizing, lazyRecordDecoding, 0, counters );
+    }
+
+    public SocketSettings( int receiveBufferSize, int sendBufferSize, boolean adaptiveBufferSizing,
+            boolean lazyRecordDecoding, int entityCacheSize, TransportCounters counters )
+    {
+        this.receiveBufferSize = receiveBufferSize;
+        this.sendBufferSize = sendBufferSize;
+        this.adaptiveBufferSizing = adaptiveBufferSizing;
+        this.lazyRecordDecoding = lazyRecordDecoding;
+        this.entityCacheSize = entityCacheSize;
+        this.counters = counters;
+    }
+
+    public int receiveBufferSize()
+    {
+        return receiveBufferSize;
+    }
+
+    public int sendBufferSize()
+    {
+        return sendBufferSize;
+    }
+
+    public boolean adaptiveBufferSizing()
+    {
+        return adaptiveBufferSizing;
+    }
+
+    public boolean lazyRecordDecoding()
+    {
+        return lazyRecordDecoding;
+    }
+
+    public int entityCacheSize()
+    {
+        return entityCacheSize;
+    }
+
+    public TransportCounters counters()
+    {
+        return counters;
+    }
+}
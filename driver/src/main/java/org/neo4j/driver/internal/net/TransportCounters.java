@@ -0,0 +1,99 @@
+/**
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.net;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.lang.String.format;
+
+/**
+ * Counts how often connections read from and write to their channel, against the number of messages exchanged.
+ * On blocking sockets every read and write is a system call, so the ratios tell how well the buffer sizes fit the
+ * traffic: bulk reads of large results should take far less than one read per record.
+ */
+public class TransportCounters
+{
+    private final LongAdder reads = new LongAdder();
+    private final LongAdder writes = new LongAdder();
+    private final LongAdder messagesReceived = new LongAdder();
+    private final LongAdder messagesSent = new LongAdder();
+
+    void channelRead()
+    {
+        reads.increment();
+    }
+
+    void channelWrite()
+    {
+        writes.increment();
+    }
+
+    void messageReceived()
+    {
+        messagesReceived.increment();
+    }
+
+    void messageSent()
+    {
+        messagesSent.increment();
+    }
+
+    public long reads()
+    {
+        return reads.sum();
+    }
+
+    public long writes()
+    {
+        return writes.sum();
+    }
+
+    public long messagesReceived()
+    {
+        return messagesReceived.sum();
+    }
+
+    public long messagesSent()
+    {
+        return messagesSent.sum();
+    }
+
+    public double readsPerMessage()
+    {
+        return perMessage( reads(), messagesReceived() );
+    }
+
+    public double writesPerMessage()
+    {
+        return perMessage( writes(), messagesSent() );
+    }
+
+    private static double perMessage( long calls, long messages )
+    {
+        return messages == 0 ? 0 : (double) calls / messages;
+    }
+
+    @Override
+    public String toString()
+    {
+        return format( "TransportCounters{reads=%d, messagesReceived=%d, readsPerMessage=%.2f, " +
+                       "writes=%d, messagesSent=%d, writesPerMessage=%.2f}",
+                reads(), messagesReceived(), readsPerMessage(), writes(), messagesSent(), writesPerMessage() );
+    }
+}
@@ -0,0 +1,86 @@
+/**
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.net.pooling;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.lang.String.format;
+
+/**
+ * Counts how often, and for how long, threads had to wait for a connection because a pool had as many connections
+ * open as it may.
+ */
+public class AcquisitionMetrics
+{
+    private final LongAdder waits = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+
+    void waited( long nanos )
+    {
+        waits.increment();
+        waitNanos.add( nanos );
+    }
+
+    void timedOut()
+    {
+        timeouts.increment();
+    }
+
+    /**
+     * @return the number of acquisitions that had to wait for a connection
+     */
+    public long waits()
+    {
+        return waits.sum();
+    }
+
+    /**
+     * @return the number of acquisitions that gave up waiting for a connection
+     */
+    public long timeouts()
+    {
+        return timeouts.sum();
+    }
+
+    /**
+     * @return the total time spent waiting for connections, in milliseconds
+     */
+    public long totalWaitMillis()
+    {
+        return TimeUnit.NANOSECONDS.toMillis( waitNanos.sum() );
+    }
+
+    /**
+     * @return the average time an acquisition that had to wait waited, in milliseconds
+     */
+    public double averageWaitMillis()
+    {
+        long count = waits();
+        return count == 0 ? 0 : (double) waitNanos.sum() / count / TimeUnit.MILLISECONDS.toNanos( 1 );
+    }
+
+    @Override
+    public String toString()
+    {
+        return format( "AcquisitionMetrics{waits=%d, timeouts=%d, totalWaitMillis=%d, averageWaitMillis=%.2f}",
+                waits(), timeouts(), totalWaitMillis(), averageWaitMillis() );
+    }
+}
@@ -18,25 +18,41 @@
  */
 package org.neo4j.driver.internal.net.pooling;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Queue;
 import java.util.Set;
-import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.neo4j.driver.internal.util.Supplier;
+import org.neo4j.driver.v1.exceptions.ClientException;
+import org.neo4j.driver.v1.util.Function;
+
+import static java.lang.String.format;
 
 /**
  * A blocking queue that also keeps track of connections that are acquired in order
  * to facilitate termination of all connections.
+ * <p>
+ * The queue may limit how many connections are open at once, idle or acquired. Once that many are open, threads
+ * that acquire a connection wait for one to be released, in the order they started waiting, or give up with an
+ * error after the acquisition timeout.
+ * <p>
+ * While no thread waits, connections are taken from and put back on the {@link IdleConnectionStack} without taking
+ * the monitor of this queue. The monitor is taken to open a connection, to start waiting, and to hand connections
+ * to waiting threads.
  */
 public class BlockingPooledConnectionQueue
 {
-    /** The backing queue, keeps track of connections currently in queue */
-    private final BlockingQueue<PooledConnection> queue;
+    /** The backing stack, keeps track of connections currently idle */
+    private final IdleConnectionStack queue;
 
     private final AtomicBoolean isTerminating = new AtomicBoolean( false );
 
@@ -44,9 +60,40 @@ public class BlockingPooledConnectionQueue
     private final Set<PooledConnection> acquiredConnections =
             Collections.newSetFromMap(new ConcurrentHashMap<PooledConnection, Boolean>());
 
+    /** Most connections open at once, counting idle, acquired and those being established */
+    private final int maxSize;
+    private final long acquisitionTimeoutMillis;
+    private final AcquisitionMetrics metrics;
+
+    // Guarded by this
+    private int openConnections;
+    /** Number of connections being established in the background, to be offered to the queue once connected */
+    private int pendingFills;
+    /** Threads waiting for a connection, oldest first. Completed with a released connection, or with null when a
+     * connection was closed and the waiting thread may establish a new one in its place. */
+    private final Queue<CompletableFuture<PooledConnection>> waiters = new ArrayDeque<>();
+    /** Size of {@link #waiters}, read without the monitor when connections are released */
+    private volatile int waiting;
+
     public BlockingPooledConnectionQueue( int capacity )
     {
-        this.queue = new LinkedBlockingQueue<>( capacity );
+        this( capacity, PoolSettings.DEFAULT_MAX_CONNECTION_POOL_SIZE,
+                PoolSettings.DEFAULT_CONNECTION_ACQUISITION_TIMEOUT, new AcquisitionMetrics() );
+    }
+
+    /**
+     * @param capacity the max number of idle connections
+     * @param maxSize the max number of open connections
+     * @param acquisitionTimeoutMillis how long to wait for a connection when as many as possible are open
+     * @param metrics where to count the time spent waiting
+     */
+    public BlockingPooledConnectionQueue( int capacity, int maxSize, long acquisitionTimeoutMillis,
+            AcquisitionMetrics metrics )
+    {
+        this.queue = new IdleConnectionStack( capacity );
+        this.maxSize = maxSize;
+        this.acquisitionTimeoutMillis = acquisitionTimeoutMillis;
+        this.metrics = metrics;
     }
 
     /**
@@ -58,10 +105,35 @@ public class BlockingPooledConnectionQueue
     public boolean offer( PooledConnection pooledConnection )
     {
         acquiredConnections.remove( pooledConnection );
-        boolean offer = queue.offer( pooledConnection );
+        boolean offer;
+        if ( waiting == 0 )
+        {
+            offer = queue.offer( pooledConnection );
+            // A thread that starts waiting counts itself before it looks for idle connections once more, so either
+            // it finds this connection, or it is seen here and is handed the connection
+            if ( waiting > 0 )
+            {
+                handIdleToWaiters();
+            }
+        }
+        else
+        {
+            CompletableFuture<PooledConnection> waiter;
+            synchronized ( this )
+            {
+                waiter = pollWaiter();
+                offer = waiter == null && queue.offer( pooledConnection );
+            }
+            if ( waiter != null )
+            {
+                // hand it straight to the thread that has waited longest
+                waiter.complete( pooledConnection );
+                return true;
+            }
+        }
         // not added back to the queue, dispose of the connection
         if (!offer) {
-            pooledConnection.dispose();
+            dispose( pooledConnection );
         }
         if (isTerminating.get()) {
             PooledConnection poll = queue.poll();
@@ -74,7 +146,8 @@ public class BlockingPooledConnectionQueue
     }
 
     /**
-     * Acquire connection or create a new one if the queue is empty
+     * Acquire connection or create a new one if the queue is empty, waiting for one to be released if as many
+     * connections are open as the queue allows
      * @param supplier used to create a new connection if queue is empty
      * @return a PooledConnection instance
      */
@@ -84,7 +157,7 @@ public class BlockingPooledConnectionQueue
         PooledConnection poll = queue.poll();
         if ( poll == null )
         {
-            poll = supplier.get();
+            poll = acquireOrCreate( supplier );
         }
         acquiredConnections.add( poll );
 
@@ -96,9 +169,234 @@ public class BlockingPooledConnectionQueue
         return poll;
     }
 
+    /**
+     * Dispose of a connection that is not to be reused, making room for another one to be established.
+     * @param pooledConnection the connection to close
+     */
+    public void dispose( PooledConnection pooledConnection )
+    {
+        acquiredConnections.remove( pooledConnection );
+        pooledConnection.dispose();
+        connectionClosed();
+    }
+
+    private PooledConnection acquireOrCreate( Supplier<PooledConnection> supplier )
+    {
+        CompletableFuture<PooledConnection> waiter = null;
+        synchronized ( this )
+        {
+            if ( openConnections < maxSize )
+            {
+                openConnections++;
+            }
+            else
+            {
+                waiter = new CompletableFuture<>();
+                waiters.add( waiter );
+                waiting = waiters.size();
+                // a connection may have been released since this thread found none idle
+                PooledConnection idle = queue.poll();
+                if ( idle != null )
+                {
+                    waiters.remove( waiter );
+                    waiting = waiters.size();
+                    return idle;
+                }
+            }
+        }
+        if ( waiter != null )
+        {
+            PooledConnection released = await( waiter );
+            if ( released != null )
+            {
+                return released;
+            }
+        }
+        try
+        {
+            return supplier.get();
+        }
+        catch ( RuntimeException | Error e )
+        {
+            connectionClosed();
+            throw e;
+        }
+    }
+
+    private PooledConnection await( CompletableFuture<PooledConnection> waiter )
+    {
+        long start = System.nanoTime();
+        try
+        {
+            return waiter.get( acquisitionTimeoutMillis, TimeUnit.MILLISECONDS );
+        }
+        catch ( TimeoutException | InterruptedException e )
+        {
+            synchronized ( this )
+            {
+                if ( waiters.remove( waiter ) )
+                {
+                    waiting = waiters.size();
+                    if ( e instanceof InterruptedException )
+                    {
+                        Thread.currentThread().interrupt();
+                        throw new ClientException( "Interrupted while waiting for a connection.", e );
+                    }
+                    metrics.timedOut();
+                    throw new ClientException( format(
+                            "Unable to acquire a connection within %d ms, as %d connections are in use already.",
+                            acquisitionTimeoutMillis, maxSize ) );
+                }
+            }
+            // a connection was handed over just as we gave up, take it after all
+            if ( e instanceof InterruptedException )
+            {
+                Thread.currentThread().interrupt();
+            }
+            return waiter.join();
+        }
+        catch ( ExecutionException e )
+        {
+            throw (RuntimeException) e.getCause();
+        }
+        finally
+        {
+            metrics.waited( System.nanoTime() - start );
+        }
+    }
+
+    /**
+     * Give the room of a closed connection to the thread that has waited longest, or free it up.
+     */
+    private void connectionClosed()
+    {
+        CompletableFuture<PooledConnection> waiter;
+        synchronized ( this )
+        {
+            waiter = pollWaiter();
+            if ( waiter == null && openConnections > 0 )
+            {
+                openConnections--;
+            }
+        }
+        if ( waiter != null )
+        {
+            waiter.complete( null );
+        }
+    }
+
+    /**
+     * Hand idle connections to waiting threads, oldest first, for as long as there are both.
+     */
+    private void handIdleToWaiters()
+    {
+        while ( true )
+        {
+            CompletableFuture<PooledConnection> waiter;
+            PooledConnection idle;
+            synchronized ( this )
+            {
+                if ( waiters.isEmpty() || (idle = queue.poll()) == null )
+                {
+                    return;
+                }
+                waiter = pollWaiter();
+            }
+            waiter.complete( idle );
+        }
+    }
+
+    // Guarded by this
+    private CompletableFuture<PooledConnection> pollWaiter()
+    {
+        CompletableFuture<PooledConnection> waiter = waiters.poll();
+        waiting = waiters.size();
+        return waiter;
+    }
+
+    /**
+     * Reserve the connections to establish in the background for the queue to hold the given number of connections,
+     * counting those already being established. Each reservation ends with {@link #fillCompleted(boolean)}.
+     *
+     * @param minSize the number of connections the queue should hold
+     * @return the number of connections to establish, zero if there are enough or the queue is terminating
+     */
+    public int reserveFills( int minSize )
+    {
+        if ( isTerminating.get() || queue.size() >= minSize )
+        {
+            return 0;
+        }
+        synchronized ( this )
+        {
+            int missing = Math.min( minSize - queue.size() - pendingFills, maxSize - openConnections );
+            if ( missing <= 0 )
+            {
+                return 0;
+            }
+            pendingFills += missing;
+            openConnections += missing;
+            return missing;
+        }
+    }
+
+    /**
+     * End a reservation made by {@link #reserveFills(int)}.
+     * @param connected true if the connection was established and offered, false if it failed to connect
+     */
+    public void fillCompleted( boolean connected )
+    {
+        synchronized ( this )
+        {
+            pendingFills--;
+        }
+        if ( !connected )
+        {
+            connectionClosed();
+        }
+    }
+
+    /**
+     * Close idle connections that have been unused for too long or fail validation, and put the others back. The
+     * connections are checked oldest first, and each is taken off the queue while it is checked, so that no thread
+     * acquires it meanwhile.
+     *
+     * @param validIdleConnection tells whether an idle connection may be kept
+     * @param maxIdleTime idle time in milliseconds after which a connection is closed, zero or less for no limit
+     * @param minIdle number of idle connections to keep regardless of their idle time
+     * @return the number of connections closed
+     */
+    public int evict( Function<PooledConnection,Boolean> validIdleConnection, long maxIdleTime, int minIdle )
+    {
+        List<PooledConnection> idle = queue.toList();
+        int surplus = idle.size() - minIdle;
+        int evicted = 0;
+        for ( int i = idle.size() - 1; i >= 0; i-- )
+        {
+            PooledConnection conn = idle.get( i );
+            if ( !queue.remove( conn ) )
+            {
+                // acquired since we looked
+                continue;
+            }
+            boolean expired = maxIdleTime > 0 && surplus > 0 && conn.idleTime() > maxIdleTime;
+            if ( !expired && validIdleConnection.apply( conn ) )
+            {
+                offer( conn );
+            }
+            else
+            {
+                dispose( conn );
+                surplus--;
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
     public List<PooledConnection> toList()
     {
-        return new ArrayList<>( queue );
+        return queue.toList();
     }
 
     public boolean isEmpty()
@@ -124,6 +422,18 @@ public class BlockingPooledConnectionQueue
     {
         if (isTerminating.compareAndSet( false, true ))
         {
+            List<CompletableFuture<PooledConnection>> waitersToFail;
+            synchronized ( this )
+            {
+                waitersToFail = new ArrayList<>( waiters );
+                waiters.clear();
+                waiting = 0;
+            }
+            for ( CompletableFuture<PooledConnection> waiter : waitersToFail )
+            {
+                waiter.completeExceptionally(
+                        new IllegalStateException( "Pool has been closed, cannot acquire new values." ) );
+            }
             while ( !queue.isEmpty() )
             {
                 PooledConnection conn = queue.poll();
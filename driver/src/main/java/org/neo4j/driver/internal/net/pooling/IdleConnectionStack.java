@@ -0,0 +1,145 @@
+/**
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.net.pooling;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A bounded store of idle connections that hands out the most recently released connection first.
+ * <p>
+ * Reusing the warmest connection keeps the set of connections in use small, so that the rest go idle and can be
+ * closed, and makes it likely that a connection is still in the caches of the thread and the server that last
+ * used it. Each thread first tries to take back the connection it released last, which is usually at the top of
+ * the stack, and otherwise takes the top one. Connections are claimed by removing them from a
+ * {@link ConcurrentLinkedDeque}, so the stack itself takes no locks. The pool around it still does at times, see
+ * {@link BlockingPooledConnectionQueue}.
+ */
+public class IdleConnectionStack
+{
+    private final ConcurrentLinkedDeque<PooledConnection> stack = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final int capacity;
+
+    /**
+     * The connection each thread released last, which it tries to take back first. Held weakly, as it may have been
+     * taken and disposed of by another thread since, and threads may release connections and never acquire again.
+     */
+    private final ThreadLocal<WeakReference<PooledConnection>> lastReleased = new ThreadLocal<>();
+
+    public IdleConnectionStack( int capacity )
+    {
+        this.capacity = capacity;
+    }
+
+    /**
+     * Push a connection on top of the stack, unless the stack is full.
+     * @param connection the idle connection
+     * @return true if the connection was accepted, false if the stack is full
+     */
+    public boolean offer( PooledConnection connection )
+    {
+        if ( size.incrementAndGet() > capacity )
+        {
+            size.decrementAndGet();
+            return false;
+        }
+        stack.offerFirst( connection );
+        lastReleased.set( new WeakReference<>( connection ) );
+        return true;
+    }
+
+    /**
+     * Take an idle connection: the one this thread released last if it is still idle, or else the one released
+     * most recently by any thread.
+     * @return the connection taken off the stack, or null if there are no idle connections
+     */
+    public PooledConnection poll()
+    {
+        PooledConnection connection = takeLastReleased();
+        if ( connection != null )
+        {
+            if ( stack.removeFirstOccurrence( connection ) )
+            {
+                size.decrementAndGet();
+                return connection;
+            }
+        }
+        connection = stack.pollFirst();
+        if ( connection != null )
+        {
+            size.decrementAndGet();
+        }
+        return connection;
+    }
+
+    /**
+     * Take a given connection off the stack, wherever it is.
+     * @param connection the connection to take
+     * @return true if the connection was idle and is now taken, false if it was not on the stack
+     */
+    public boolean remove( PooledConnection connection )
+    {
+        WeakReference<PooledConnection> last = lastReleased.get();
+        if ( last != null && last.get() == connection )
+        {
+            lastReleased.remove();
+        }
+        if ( stack.removeFirstOccurrence( connection ) )
+        {
+            size.decrementAndGet();
+            return true;
+        }
+        return false;
+    }
+
+    private PooledConnection takeLastReleased()
+    {
+        WeakReference<PooledConnection> last = lastReleased.get();
+        if ( last == null )
+        {
+            return null;
+        }
+        lastReleased.remove();
+        return last.get();
+    }
+
+    public int size()
+    {
+        return size.get();
+    }
+
+    public boolean isEmpty()
+    {
+        return stack.isEmpty();
+    }
+
+    public boolean contains( PooledConnection connection )
+    {
+        return stack.contains( connection );
+    }
+
+    public List<PooledConnection> toList()
+    {
+        return new ArrayList<>( stack );
+    }
+}
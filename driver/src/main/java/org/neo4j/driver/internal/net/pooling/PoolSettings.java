@@ -28,6 +28,13 @@ public class PoolSettings
 
     public static final int DEFAULT_MAX_IDLE_CONNECTION_POOL_SIZE = 10;
     public static final long DEFAULT_IDLE_TIME_BEFORE_CONNECTION_TEST = 200;
+    public static final int DEFAULT_MIN_IDLE_CONNECTION_POOL_SIZE = 0;
+    public static final int DEFAULT_MAX_CONNECTION_POOL_SIZE = Integer.MAX_VALUE;
+    public static final long DEFAULT_CONNECTION_ACQUISITION_TIMEOUT = 60_000;
+    public static final long DEFAULT_MAX_CONNECTION_LIFETIME = 0;
+    public static final long DEFAULT_MAX_IDLE_TIME = 0;
+    public static final long DEFAULT_MAINTENANCE_INTERVAL = 30_000;
+    public static final boolean DEFAULT_DEFERRED_RESET = true;
 
     /**
      * Maximum number of idle connections per pool.
@@ -39,10 +46,86 @@ public class PoolSettings
      */
     private final long idleTimeBeforeConnectionTest;
 
+    /**
+     * Number of idle connections per pool to establish in the background, ahead of demand.
+     */
+    private final int minIdleConnectionPoolSize;
+
+    /**
+     * Maximum number of connections per pool, idle or in use.
+     */
+    private final int maxConnectionPoolSize;
+
+    /**
+     * Longest time to wait for a connection when the pool has as many as it may, in milliseconds.
+     */
+    private final long connectionAcquisitionTimeout;
+
+    /**
+     * Connections older than this are closed instead of being reused, in milliseconds. Zero or less for no limit.
+     */
+    private final long maxConnectionLifetime;
+
+    /**
+     * Idle connections unused for longer than this are closed, as long as the pool keeps its minimum number of idle
+     * connections, in milliseconds. Zero or less for no limit.
+     */
+    private final long maxIdleTime;
+
+    /**
+     * How often idle connections are validated and evicted in the background, in milliseconds. Zero or less to
+     * never do so.
+     */
+    private final long maintenanceInterval;
+
+    /**
+     * Whether released connections are put back in the pool with a RESET queued, to be sent along with whatever the
+     * next user sends first, rather than reset with a round trip of their own.
+     */
+    private final boolean deferredReset;
+
     public PoolSettings( int maxIdleConnectionPoolSize, long idleTimeBeforeConnectionTest )
+    {
+        this( maxIdleConnectionPoolSize, idleTimeBeforeConnectionTest, DEFAULT_MIN_IDLE_CONNECTION_POOL_SIZE );
+    }
+
+    public PoolSettings( int maxIdleConnectionPoolSize, long idleTimeBeforeConnectionTest,
+            int minIdleConnectionPoolSize )
+    {
+        this( maxIdleConnectionPoolSize, idleTimeBeforeConnectionTest, minIdleConnectionPoolSize,
+                DEFAULT_MAX_CONNECTION_POOL_SIZE, DEFAULT_CONNECTION_ACQUISITION_TIMEOUT );
+    }
+
+    public PoolSettings( int maxIdleConnectionPoolSize, long idleTimeBeforeConnectionTest,
+            int minIdleConnectionPoolSize, int maxConnectionPoolSize, long connectionAcquisitionTimeout )
+    {
+        this( maxIdleConnectionPoolSize, idleTimeBeforeConnectionTest, minIdleConnectionPoolSize,
+                maxConnectionPoolSize, connectionAcquisitionTimeout, DEFAULT_MAX_CONNECTION_LIFETIME,
+                DEFAULT_MAX_IDLE_TIME, DEFAULT_MAINTENANCE_INTERVAL );
+    }
+
+    public PoolSettings( int maxIdleConnectionPoolSize, long idleTimeBeforeConnectionTest,
+            int minIdleConnectionPoolSize, int maxConnectionPoolSize, long connectionAcquisitionTimeout,
+            long maxConnectionLifetime, long maxIdleTime, long maintenanceInterval )
+    {
+        this( maxIdleConnectionPoolSize, idleTimeBeforeConnectionTest, minIdleConnectionPoolSize,
+                maxConnectionPoolSize, connectionAcquisitionTimeout, maxConnectionLifetime, maxIdleTime,
+                maintenanceInterval, DEFAULT_DEFERRED_RESET );
+    }
+
+    public PoolSettings( int maxIdleConnectionPoolSize, long idleTimeBeforeConnectionTest,
+            int minIdleConnectionPoolSize, int maxConnectionPoolSize, long connectionAcquisitionTimeout,
+            long maxConnectionLifetime, long maxIdleTime, long maintenanceInterval, boolean deferredReset )
     {
         this.maxIdleConnectionPoolSize = maxIdleConnectionPoolSize;
         this.idleTimeBeforeConnectionTest = idleTimeBeforeConnectionTest;
+        this.minIdleConnectionPoolSize = Math.min( minIdleConnectionPoolSize, maxIdleConnectionPoolSize );
+        this.maxConnectionPoolSize = maxConnectionPoolSize;
+        this.connectionAcquisitionTimeout = connectionAcquisitionTimeout;
+        this.maxConnectionLifetime = maxConnectionLifetime;
+        this.maxIdleTime = maxIdleTime;
+        this.maintenanceInterval = maintenanceInterval;
+        this.deferredReset = deferredReset;
     }
 
     public int maxIdleConnectionPoolSize()
@@ -55,4 +138,39 @@ public class PoolSettings
         return idleTimeBeforeConnectionTest;
     }
 
+    public int minIdleConnectionPoolSize()
+    {
+        return minIdleConnectionPoolSize;
+    }
+
+    public int maxConnectionPoolSize()
+    {
+        return maxConnectionPoolSize;
+    }
+
+    public long connectionAcquisitionTimeout()
+    {
+        return connectionAcquisitionTimeout;
+    }
+
+    public long maxConnectionLifetime()
+    {
+        return maxConnectionLifetime;
+    }
+
+    public long maxIdleTime()
+    {
+        return maxIdleTime;
+    }
+
+    public long maintenanceInterval()
+    {
+        return maintenanceInterval;
+    }
+
+    public boolean deferredReset()
+    {
+        return deferredReset;
+    }
+
 }
@@ -19,6 +19,9 @@
 package org.neo4j.driver.internal.net.pooling;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.BiConsumer;
 
 import org.neo4j.driver.internal.net.BoltServerAddress;
 import org.neo4j.driver.internal.spi.Collector;
@@ -58,6 +61,7 @@ public class PooledConnection implements Connection
     private Runnable onError = null;
     private final Clock clock;
     private long lastUsed;
+    private final long created;
 
     public PooledConnection( Connection delegate, Consumer<PooledConnection> release, Clock clock )
     {
@@ -65,6 +69,7 @@ public class PooledConnection implements Connection
         this.release = release;
         this.clock = clock;
         this.lastUsed = clock.millis();
+        this.created = lastUsed;
     }
 
     public void updateTimestamp()
@@ -99,6 +104,19 @@ public class PooledConnection implements Connection
         }
     }
 
+    @Override
+    public void run( String statement, Value parameters, Collector collector )
+    {
+        try
+        {
+            delegate.run( statement, parameters, collector );
+        }
+        catch ( RuntimeException e )
+        {
+            onDelegateException( e );
+        }
+    }
+
     @Override
     public void discardAll( Collector collector )
     {
@@ -190,6 +208,50 @@ public class PooledConnection implements Connection
         }
     }
 
+    @Override
+    public CompletionStage<Void> syncAsync()
+    {
+        return handleDelegateFailure( delegate.syncAsync() );
+    }
+
+    @Override
+    public CompletionStage<Void> receiveOneAsync()
+    {
+        return handleDelegateFailure( delegate.receiveOneAsync() );
+    }
+
+    private CompletionStage<Void> handleDelegateFailure( CompletionStage<Void> stage )
+    {
+        final CompletableFuture<Void> result = new CompletableFuture<>();
+        stage.whenComplete( new BiConsumer<Void,Throwable>()
+        {
+            @Override
+            public void accept( Void ignore, Throwable error )
+            {
+                if ( error instanceof RuntimeException )
+                {
+                    try
+                    {
+                        onDelegateException( (RuntimeException) error );
+                    }
+                    catch ( RuntimeException e )
+                    {
+                        result.completeExceptionally( e );
+                    }
+                }
+                else if ( error != null )
+                {
+                    result.completeExceptionally( error );
+                }
+                else
+                {
+                    result.complete( null );
+                }
+            }
+        } );
+        return result;
+    }
+
     @Override
     /**
      * Make sure only close the connection once on each session to avoid releasing the connection twice, a.k.a.
@@ -302,4 +364,9 @@ public class PooledConnection implements Connection
     {
         return clock.millis() - lastUsed;
     }
+
+    public long lifetime()
+    {
+        return clock.millis() - created;
+    }
 }
@@ -48,7 +48,7 @@ class PooledConnectionReleaseConsumer implements Consumer<PooledConnection>
         }
         else
         {
-            pooledConnection.dispose();
+            connections.dispose( pooledConnection );
         }
     }
 }
@@ -45,9 +45,39 @@ class PooledConnectionValidator implements Function<PooledConnection,Boolean>
         // and we should close the conn without bothering to reset the conn at all
         return pool.hasAddress( pooledConnection.address() ) &&
                !pooledConnection.hasUnrecoverableErrors() &&
-               reset( pooledConnection ) &&
-               (pooledConnection.idleTime() <= poolSettings.idleTimeBeforeConnectionTest() ||
-                ping( pooledConnection ));
+               !isExpired( pooledConnection ) &&
+               (poolSettings.deferredReset() ? deferReset( pooledConnection ) : reset( pooledConnection ));
+    }
+
+    /**
+     * Cheap checks, without talking to the server, that a connection may be handed out again.
+     *
+     * @param conn the PooledConnection
+     * @return true if the connection is open and not older than the max connection lifetime
+     */
+    boolean isReusable( PooledConnection conn )
+    {
+        return conn.isOpen() && !isExpired( conn );
+    }
+
+    private boolean isExpired( PooledConnection conn )
+    {
+        long maxLifetime = poolSettings.maxConnectionLifetime();
+        return maxLifetime > 0 && conn.lifetime() > maxLifetime;
+    }
+
+    /**
+     * Check a connection that is sitting idle in the pool, testing that the server still answers on it if it has
+     * been idle for a while. Meant to run in the background, away from the threads using the pool.
+     *
+     * @param conn the idle PooledConnection
+     * @return true if the connection may stay in the pool, otherwise false
+     */
+    boolean isIdleConnectionValid( PooledConnection conn )
+    {
+        return pool.hasAddress( conn.address() ) &&
+               isReusable( conn ) &&
+               (conn.idleTime() <= poolSettings.idleTimeBeforeConnectionTest() || ping( conn ));
     }
 
     /**
@@ -71,6 +101,26 @@ class PooledConnectionValidator implements Function<PooledConnection,Boolean>
         }
     }
 
+    /**
+     * Queue a RESET without sending it, so that it goes out together with the first message of the next user of the
+     * connection, which then receives the response to the RESET ahead of its own.
+     *
+     * @param conn the PooledConnection
+     * @return true if the RESET was queued, otherwise false.
+     */
+    private boolean deferReset( PooledConnection conn )
+    {
+        try
+        {
+            conn.reset();
+            return true;
+        }
+        catch ( Throwable e )
+        {
+            return false;
+        }
+    }
+
     private boolean ping( PooledConnection conn )
     {
         try
@@ -21,25 +21,37 @@ package org.neo4j.driver.internal.net.pooling;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.neo4j.driver.internal.ConnectionSettings;
 import org.neo4j.driver.internal.net.BoltServerAddress;
 import org.neo4j.driver.internal.net.ConcurrencyGuardingConnection;
 import org.neo4j.driver.internal.net.SocketConnection;
+import org.neo4j.driver.internal.net.SocketEventLoopGroup;
+import org.neo4j.driver.internal.net.SocketSettings;
+import org.neo4j.driver.internal.net.TransportCounters;
 import org.neo4j.driver.internal.security.InternalAuthToken;
 import org.neo4j.driver.internal.security.SecurityPlan;
+import org.neo4j.driver.internal.security.TLSHandshakeMetrics;
 import org.neo4j.driver.internal.spi.Connection;
 import org.neo4j.driver.internal.spi.ConnectionPool;
 import org.neo4j.driver.internal.util.Clock;
 import org.neo4j.driver.internal.util.Supplier;
 import org.neo4j.driver.v1.AuthToken;
 import org.neo4j.driver.v1.AuthTokens;
+import org.neo4j.driver.v1.Logger;
 import org.neo4j.driver.v1.Logging;
 import org.neo4j.driver.v1.Value;
 import org.neo4j.driver.v1.exceptions.ClientException;
+import org.neo4j.driver.v1.util.Function;
 
 import static java.util.Collections.emptyList;
+import static org.neo4j.driver.internal.util.DaemonThreadFactory.daemonThreads;
 
 /**
  * The pool is designed to buffer certain amount of free sessions into session pool. When closing a session, we first
@@ -55,6 +67,9 @@ import static java.util.Collections.emptyList;
  */
 public class SocketConnectionPool implements ConnectionPool
 {
+    /** Number of threads establishing connections ahead of demand, in parallel */
+    private static final int FILLER_THREADS = 4;
+
     /**
      * Pools, organized by server address.
      */
@@ -66,22 +81,72 @@ public class SocketConnectionPool implements ConnectionPool
     private final ConnectionSettings connectionSettings;
     private final SecurityPlan securityPlan;
     private final PoolSettings poolSettings;
+    private final SocketSettings socketSettings;
     private final Logging logging;
 
+    /** Event loops driving non-blocking connections, or null when connections use blocking sockets */
+    private final SocketEventLoopGroup eventLoops;
+
+    /** Establishes connections ahead of demand, or null when connections are only established when needed */
+    private final ExecutorService filler;
+
+    /** Validates and evicts idle connections in the background, or null when idle connections are kept as they are */
+    private final ScheduledExecutorService maintenance;
+    private final PooledConnectionValidator validator;
+    private final Logger log;
+
+    /** Where all pools count the time spent waiting for a connection */
+    private final AcquisitionMetrics acquisitionMetrics = new AcquisitionMetrics();
+
     /** Shutdown flag */
+    private final AtomicBoolean stopped = new AtomicBoolean( false );
 
     public SocketConnectionPool( ConnectionSettings connectionSettings, SecurityPlan securityPlan,
             PoolSettings poolSettings, Logging logging )
+    {
+        this( connectionSettings, securityPlan, poolSettings, SocketSettings.defaultSettings(), logging, null );
+    }
+
+    public SocketConnectionPool( ConnectionSettings connectionSettings, SecurityPlan securityPlan,
+            PoolSettings poolSettings, SocketSettings socketSettings, Logging logging,
+            SocketEventLoopGroup eventLoops )
     {
         this.connectionSettings = connectionSettings;
         this.securityPlan = securityPlan;
         this.poolSettings = poolSettings;
+        this.socketSettings = socketSettings;
         this.logging = logging;
+        this.eventLoops = eventLoops;
+        this.log = logging.getLog( "pool" );
+        this.validator = new PooledConnectionValidator( this, poolSettings );
+        this.filler = poolSettings.minIdleConnectionPoolSize() > 0 ? newFiller() : null;
+        this.maintenance = poolSettings.maintenanceInterval() > 0 ? newMaintenance() : null;
+    }
+
+    private static ExecutorService newFiller()
+    {
+        return Executors.newFixedThreadPool( FILLER_THREADS, daemonThreads( "neo4j-pool-filler-" ) );
+    }
+
+    private ScheduledExecutorService newMaintenance()
+    {
+        ScheduledExecutorService executor =
+                Executors.newSingleThreadScheduledExecutor( daemonThreads( "neo4j-pool-maintenance-" ) );
+        long interval = poolSettings.maintenanceInterval();
+        executor.scheduleWithFixedDelay( new Runnable()
+        {
+            @Override
+            public void run()
+            {
+                maintain();
+            }
+        }, interval, interval, TimeUnit.MILLISECONDS );
+        return executor;
     }
 
     private Connection connect( BoltServerAddress address ) throws ClientException
     {
-        Connection conn = new SocketConnection( address, securityPlan, logging );
+        Connection conn = new SocketConnection( address, securityPlan, logging, eventLoops, socketSettings );
 
         // Because SocketConnection is not thread safe, wrap it in this guard
         // to ensure concurrent access leads causes application errors
@@ -113,23 +178,129 @@ public class SocketConnectionPool implements ConnectionPool
             @Override
             public PooledConnection get()
             {
-                return new PooledConnection( connect( address ), new
-                        PooledConnectionReleaseConsumer( connections,
-                        new PooledConnectionValidator( SocketConnectionPool.this, poolSettings ) ), clock );
-
+                return newConnection( address, connections );
             }
         };
         PooledConnection conn = connections.acquire( supplier );
+        while ( !validator.isReusable( conn ) )
+        {
+            // closed by the server or too old since the last maintenance run, never hand it out
+            connections.dispose( conn );
+            conn = connections.acquire( supplier );
+        }
         conn.updateTimestamp();
+        warmUp( address, connections );
         return conn;
     }
 
+    private PooledConnection newConnection( BoltServerAddress address, BlockingPooledConnectionQueue connections )
+    {
+        return new PooledConnection( connect( address ), new PooledConnectionReleaseConsumer( connections,
+                validator ), clock );
+    }
+
+    /**
+     * Validate the idle connections of every server, close those that are stale, and establish new ones in their
+     * place if the pools should keep a minimum of idle connections.
+     */
+    void maintain()
+    {
+        Function<PooledConnection,Boolean> validIdleConnection = new Function<PooledConnection,Boolean>()
+        {
+            @Override
+            public Boolean apply( PooledConnection conn )
+            {
+                return validator.isIdleConnectionValid( conn );
+            }
+        };
+        for ( Map.Entry<BoltServerAddress,BlockingPooledConnectionQueue> entry : pools.entrySet() )
+        {
+            if ( stopped.get() )
+            {
+                return;
+            }
+            try
+            {
+                int evicted = entry.getValue().evict( validIdleConnection, poolSettings.maxIdleTime(),
+                        poolSettings.minIdleConnectionPoolSize() );
+                if ( evicted > 0 )
+                {
+                    log.debug( "Closed %d stale idle connections to %s", evicted, entry.getKey() );
+                }
+                warmUp( entry.getKey(), entry.getValue() );
+            }
+            catch ( Throwable e )
+            {
+                log.debug( "Failed to maintain the idle connections to %s: %s", entry.getKey(), e.getMessage() );
+            }
+        }
+    }
+
+    @Override
+    public void warmUp( BoltServerAddress address )
+    {
+        if ( filler != null && !stopped.get() )
+        {
+            warmUp( address, pool( address ) );
+        }
+    }
+
+    private void warmUp( final BoltServerAddress address, final BlockingPooledConnectionQueue connections )
+    {
+        if ( filler == null )
+        {
+            return;
+        }
+        int missing = connections.reserveFills( poolSettings.minIdleConnectionPoolSize() );
+        for ( int i = 0; i < missing; i++ )
+        {
+            try
+            {
+                filler.execute( new Runnable()
+                {
+                    @Override
+                    public void run()
+                    {
+                        fill( address, connections );
+                    }
+                } );
+            }
+            catch ( RejectedExecutionException e )
+            {
+                // the pool has been closed
+                connections.fillCompleted( false );
+            }
+        }
+    }
+
+    private void fill( BoltServerAddress address, BlockingPooledConnectionQueue connections )
+    {
+        boolean connected = false;
+        try
+        {
+            PooledConnection conn = newConnection( address, connections );
+            conn.updateTimestamp();
+            connected = true;
+            connections.offer( conn );
+        }
+        catch ( Throwable e )
+        {
+            log.debug( "Failed to connect to %s ahead of demand: %s", address, e.getMessage() );
+        }
+        finally
+        {
+            connections.fillCompleted( connected );
+        }
+    }
+
     private BlockingPooledConnectionQueue pool( BoltServerAddress address )
     {
         BlockingPooledConnectionQueue pool = pools.get( address );
         if ( pool == null )
         {
-            pool = new BlockingPooledConnectionQueue( poolSettings.maxIdleConnectionPoolSize() );
+            pool = new BlockingPooledConnectionQueue( poolSettings.maxIdleConnectionPoolSize(),
+                    poolSettings.maxConnectionPoolSize(), poolSettings.connectionAcquisitionTimeout(),
+                    acquisitionMetrics );
 
             if ( pools.putIfAbsent( address, pool ) != null )
             {
@@ -161,12 +332,56 @@ public class SocketConnectionPool implements ConnectionPool
     @Override
     public void close()
     {
+        stopped.set( true );
+        if ( filler != null )
+        {
+            filler.shutdownNow();
+        }
+        if ( maintenance != null )
+        {
+            maintenance.shutdownNow();
+        }
+
         for ( BlockingPooledConnectionQueue pool : pools.values() )
         {
             pool.terminate();
         }
 
         pools.clear();
+
+        if ( eventLoops != null )
+        {
+            eventLoops.close();
+        }
+
+        if ( log.isDebugEnabled() )
+        {
+            TLSHandshakeMetrics tlsHandshakes = securityPlan == null ? null : securityPlan.tlsHandshakes();
+            if ( tlsHandshakes == null )
+            {
+                log.debug( "Closed with %s and %s", socketSettings.counters(), acquisitionMetrics );
+            }
+            else
+            {
+                log.debug( "Closed with %s, %s and %s", socketSettings.counters(), acquisitionMetrics, tlsHandshakes );
+            }
+        }
+    }
+
+    /**
+     * @return the reads, writes and messages counted across all connections of this pool
+     */
+    public TransportCounters transportCounters()
+    {
+        return socketSettings.counters();
+    }
+
+    /**
+     * @return how often and how long threads waited for connections to the servers of this pool
+     */
+    public AcquisitionMetrics acquisitionMetrics()
+    {
+        return acquisitionMetrics;
     }
 
 
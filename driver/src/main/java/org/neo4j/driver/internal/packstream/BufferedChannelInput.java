@@ -114,6 +114,16 @@ public class BufferedChannelInput implements PackInput
         return this;
     }
 
+    @Override
+    public String readString( int size ) throws IOException
+    {
+        if ( attempt( size ) )
+        {
+            return Utf8.decode( buffer, size );
+        }
+        return Utf8.read( this, size );
+    }
+
     @Override
     public byte peekByte() throws IOException
     {
@@ -0,0 +1,105 @@
+/**
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.packstream;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A {@link PackInput} that reads from a range of an array.
+ */
+public class ByteArrayInput implements PackInput
+{
+    private final ByteBuffer buffer;
+
+    public ByteArrayInput( byte[] bytes, int offset, int length )
+    {
+        this.buffer = ByteBuffer.wrap( bytes, offset, length );
+    }
+
+    @Override
+    public boolean hasMoreData()
+    {
+        return buffer.hasRemaining();
+    }
+
+    @Override
+    public byte readByte() throws PackStream.EndOfStream
+    {
+        ensure( 1 );
+        return buffer.get();
+    }
+
+    @Override
+    public short readShort() throws PackStream.EndOfStream
+    {
+        ensure( 2 );
+        return buffer.getShort();
+    }
+
+    @Override
+    public int readInt() throws PackStream.EndOfStream
+    {
+        ensure( 4 );
+        return buffer.getInt();
+    }
+
+    @Override
+    public long readLong() throws PackStream.EndOfStream
+    {
+        ensure( 8 );
+        return buffer.getLong();
+    }
+
+    @Override
+    public double readDouble() throws PackStream.EndOfStream
+    {
+        ensure( 8 );
+        return buffer.getDouble();
+    }
+
+    @Override
+    public PackInput readBytes( byte[] into, int offset, int toRead ) throws PackStream.EndOfStream
+    {
+        ensure( toRead );
+        buffer.get( into, offset, toRead );
+        return this;
+    }
+
+    @Override
+    public String readString( int size ) throws PackStream.EndOfStream
+    {
+        ensure( size );
+        return Utf8.decode( buffer, size );
+    }
+
+    @Override
+    public byte peekByte() throws PackStream.EndOfStream
+    {
+        ensure( 1 );
+        return buffer.get( buffer.position() );
+    }
+
+    private void ensure( int numBytes ) throws PackStream.EndOfStream
+    {
+        if ( buffer.remaining() < numBytes )
+        {
+            throw new PackStream.EndOfStream( "Unexpected end of stream while trying to read " + numBytes + " bytes." );
+        }
+    }
+}
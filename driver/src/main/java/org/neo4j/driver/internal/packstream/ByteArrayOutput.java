@@ -0,0 +1,115 @@
+/**
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.packstream;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * A {@link PackOutput} that collects everything written to it in a growing array.
+ */
+public class ByteArrayOutput implements PackOutput
+{
+    private ByteBuffer buffer;
+
+    public ByteArrayOutput( int initialCapacity )
+    {
+        this.buffer = ByteBuffer.allocate( Math.max( 8, initialCapacity ) );
+    }
+
+    /** The number of bytes written so far */
+    public int size()
+    {
+        return buffer.position();
+    }
+
+    /** A copy of the bytes written so far */
+    public byte[] toByteArray()
+    {
+        return Arrays.copyOf( buffer.array(), buffer.position() );
+    }
+
+    /** Forget everything written so far, keeping the array for reuse */
+    public ByteArrayOutput reset()
+    {
+        buffer.clear();
+        return this;
+    }
+
+    @Override
+    public PackOutput flush()
+    {
+        return this;
+    }
+
+    @Override
+    public PackOutput writeByte( byte value )
+    {
+        ensure( 1 ).put( value );
+        return this;
+    }
+
+    @Override
+    public PackOutput writeBytes( byte[] data, int offset, int amountToWrite )
+    {
+        ensure( amountToWrite ).put( data, offset, amountToWrite );
+        return this;
+    }
+
+    @Override
+    public PackOutput writeShort( short value )
+    {
+        ensure( 2 ).putShort( value );
+        return this;
+    }
+
+    @Override
+    public PackOutput writeInt( int value )
+    {
+        ensure( 4 ).putInt( value );
+        return this;
+    }
+
+    @Override
+    public PackOutput writeLong( long value )
+    {
+        ensure( 8 ).putLong( value );
+        return this;
+    }
+
+    @Override
+    public PackOutput writeDouble( double value )
+    {
+        ensure( 8 ).putDouble( value );
+        return this;
+    }
+
+    private ByteBuffer ensure( int size )
+    {
+        if ( buffer.remaining() < size )
+        {
+            int capacity = Math.max( buffer.capacity() * 2, buffer.position() + size );
+            ByteBuffer bigger = ByteBuffer.allocate( capacity );
+            buffer.flip();
+            bigger.put( buffer );
+            buffer = bigger;
+        }
+        return buffer;
+    }
+}
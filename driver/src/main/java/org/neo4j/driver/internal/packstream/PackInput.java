@@ -47,6 +47,9 @@ public interface PackInput
     /** Consume a specified number of bytes */
     PackInput readBytes( byte[] into, int offset, int toRead ) throws IOException;
 
+    /** Consume a specified number of bytes, and decode them as a UTF-8 string */
+    String readString( int size ) throws IOException;
+
     /** Get the next byte without forwarding the internal pointer */
     byte peekByte() throws IOException;
 }
@@ -422,9 +422,62 @@ public class PackStream
 
     }
 
+    /**
+     * Output that drops everything, for moving past values with {@link Unpacker#copyNext(PackOutput)}.
+     */
+    private static class DiscardingOutput implements PackOutput
+    {
+        private static final DiscardingOutput INSTANCE = new DiscardingOutput();
+
+        @Override
+        public PackOutput flush()
+        {
+            return this;
+        }
+
+        @Override
+        public PackOutput writeByte( byte value )
+        {
+            return this;
+        }
+
+        @Override
+        public PackOutput writeBytes( byte[] data, int offset, int amountToWrite )
+        {
+            return this;
+        }
+
+        @Override
+        public PackOutput writeShort( short value )
+        {
+            return this;
+        }
+
+        @Override
+        public PackOutput writeInt( int value )
+        {
+            return this;
+        }
+
+        @Override
+        public PackOutput writeLong( long value )
+        {
+            return this;
+        }
+
+        @Override
+        public PackOutput writeDouble( double value )
+        {
+            return this;
+        }
+    }
+
     public static class Unpacker
     {
+        private static final int COPY_BUFFER_SIZE = 1024;
+
         private PackInput in;
+        private byte[] copyBuffer;
 
         public Unpacker( PackInput in )
         {
@@ -520,7 +573,32 @@ public class PackStream
                 return EMPTY_STRING;
             }
 
-            return new String(unpackUtf8(markerByte), UTF_8);
+            return in.readString( unpackUtf8Size( markerByte ) );
+        }
+
+        /**
+         * Unpack a string that is likely to recur, such as a label or a key, through the given interner. Short
+         * strings seen before are not decoded again.
+         */
+        public String unpackString( StringInterner interner ) throws IOException
+        {
+            final byte markerByte = in.readByte();
+            if( markerByte == TINY_STRING ) // Note no mask, so we compare to 0x80.
+            {
+                return EMPTY_STRING;
+            }
+
+            int size = unpackUtf8Size( markerByte );
+            if ( size > StringInterner.MAX_LENGTH )
+            {
+                return in.readString( size );
+            }
+            if ( copyBuffer == null )
+            {
+                copyBuffer = new byte[COPY_BUFFER_SIZE];
+            }
+            in.readBytes( copyBuffer, 0, size );
+            return interner.intern( copyBuffer, size );
         }
 
         public byte[] unpackBytes() throws IOException
@@ -564,22 +642,22 @@ public class PackStream
             return null;
         }
 
-        private byte[] unpackUtf8(byte markerByte) throws IOException
+        private int unpackUtf8Size( byte markerByte ) throws IOException
         {
             final byte markerHighNibble = (byte) (markerByte & 0xF0);
             final byte markerLowNibble = (byte) (markerByte & 0x0F);
 
-            if ( markerHighNibble == TINY_STRING ) { return unpackBytes( markerLowNibble ); }
+            if ( markerHighNibble == TINY_STRING ) { return markerLowNibble; }
             switch(markerByte)
             {
-                case STRING_8: return unpackBytes( unpackUINT8() );
-                case STRING_16: return unpackBytes( unpackUINT16() );
+                case STRING_8: return unpackUINT8();
+                case STRING_16: return unpackUINT16();
                 case STRING_32:
                 {
                     long size = unpackUINT32();
                     if ( size <= Integer.MAX_VALUE )
                     {
-                        return unpackBytes( (int) size );
+                        return (int) size;
                     }
                     else
                     {
@@ -590,6 +668,110 @@ public class PackStream
             }
         }
 
+        /**
+         * Copy the next value to the given output exactly as it is encoded, without decoding it. This allows keeping
+         * values around in their compact encoded form, to be decoded later on.
+         */
+        public void copyNext( PackOutput out ) throws IOException
+        {
+            final byte markerByte = in.readByte();
+            final byte markerHighNibble = (byte) (markerByte & 0xF0);
+            final byte markerLowNibble = (byte) (markerByte & 0x0F);
+            out.writeByte( markerByte );
+
+            if ( markerByte >= MINUS_2_TO_THE_4 ) { return; } // TINY_INT
+            switch ( markerHighNibble )
+            {
+                case TINY_STRING: copyBytes( markerLowNibble, out ); return;
+                case TINY_LIST: copyValues( markerLowNibble, out ); return;
+                case TINY_MAP: copyValues( 2L * markerLowNibble, out ); return;
+                case TINY_STRUCT: copyBytes( 1, out ); copyValues( markerLowNibble, out ); return;
+            }
+            switch ( markerByte )
+            {
+                case NULL:
+                case TRUE:
+                case FALSE:
+                    return;
+                case INT_8: copyBytes( 1, out ); return;
+                case INT_16: copyBytes( 2, out ); return;
+                case INT_32: copyBytes( 4, out ); return;
+                case INT_64:
+                case FLOAT_64:
+                    copyBytes( 8, out ); return;
+                case BYTES_8:
+                case STRING_8:
+                    copyBytes( copyUINT8( out ), out ); return;
+                case BYTES_16:
+                case STRING_16:
+                    copyBytes( copyUINT16( out ), out ); return;
+                case BYTES_32:
+                case STRING_32:
+                    copyBytes( copyUINT32( out ), out ); return;
+                case LIST_8: copyValues( copyUINT8( out ), out ); return;
+                case LIST_16: copyValues( copyUINT16( out ), out ); return;
+                case LIST_32: copyValues( copyUINT32( out ), out ); return;
+                case MAP_8: copyValues( 2L * copyUINT8( out ), out ); return;
+                case MAP_16: copyValues( 2L * copyUINT16( out ), out ); return;
+                case MAP_32: copyValues( 2L * copyUINT32( out ), out ); return;
+                case STRUCT_8: { int size = copyUINT8( out ); copyBytes( 1, out ); copyValues( size, out ); return; }
+                case STRUCT_16: { int size = copyUINT16( out ); copyBytes( 1, out ); copyValues( size, out ); return; }
+                default: throw new Unexpected( "Expected a value, but got: 0x" + toHexString( markerByte & 0xFF ) );
+            }
+        }
+
+        /**
+         * Move past the next value without decoding it.
+         */
+        public void skipNext() throws IOException
+        {
+            copyNext( DiscardingOutput.INSTANCE );
+        }
+
+        private void copyValues( long count, PackOutput out ) throws IOException
+        {
+            for ( long i = 0; i < count; i++ )
+            {
+                copyNext( out );
+            }
+        }
+
+        private void copyBytes( long count, PackOutput out ) throws IOException
+        {
+            if ( copyBuffer == null )
+            {
+                copyBuffer = new byte[COPY_BUFFER_SIZE];
+            }
+            while ( count > 0 )
+            {
+                int length = (int) Math.min( count, copyBuffer.length );
+                in.readBytes( copyBuffer, 0, length );
+                out.writeBytes( copyBuffer, 0, length );
+                count -= length;
+            }
+        }
+
+        private int copyUINT8( PackOutput out ) throws IOException
+        {
+            int size = unpackUINT8();
+            out.writeByte( (byte) size );
+            return size;
+        }
+
+        private int copyUINT16( PackOutput out ) throws IOException
+        {
+            int size = unpackUINT16();
+            out.writeShort( (short) size );
+            return size;
+        }
+
+        private long copyUINT32( PackOutput out ) throws IOException
+        {
+            long size = unpackUINT32();
+            out.writeInt( (int) size );
+            return size;
+        }
+
         public boolean unpackBoolean() throws IOException
         {
             final byte markerByte = in.readByte();
@@ -0,0 +1,109 @@
+/**
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.packstream;
+
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+/**
+ * A bounded table of recently decoded short strings, looked up by their UTF-8 encoding so that a string seen
+ * before is returned as the same instance, without decoding it again.
+ * <p>
+ * Meant for the few distinct strings that recur throughout a stream, such as labels, relationship types and
+ * property keys. The table is direct-mapped: each encoding has a single slot, and a new string simply replaces
+ * whatever was in its slot, so that the table never grows. Entries are immutable, which makes the table safe to
+ * share between threads without locking; a thread may miss an entry another thread just added, at worst.
+ */
+public class StringInterner
+{
+    /** Longest encoding, in bytes, of strings kept in the table */
+    public static final int MAX_LENGTH = 64;
+
+    private static final int SLOTS = 512;
+    private static final Charset UTF_8 = Charset.forName( "UTF-8" );
+
+    /** Allocated on first use, as many short-lived decoders never see a string to intern */
+    private Entry[] table;
+
+    /**
+     * @param utf8 a buffer starting with the encoded string
+     * @param length the length of the encoded string, at most {@link #MAX_LENGTH}
+     * @return the decoded string, the same instance as returned for the same encoding before where possible
+     */
+    public String intern( byte[] utf8, int length )
+    {
+        Entry[] table = this.table;
+        if ( table == null )
+        {
+            table = this.table = new Entry[SLOTS];
+        }
+
+        int hash = hash( utf8, length );
+        int slot = hash & (SLOTS - 1);
+        Entry entry = table[slot];
+        if ( entry != null && entry.hash == hash && entry.matches( utf8, length ) )
+        {
+            return entry.string;
+        }
+
+        String string = new String( utf8, 0, length, UTF_8 );
+        table[slot] = new Entry( hash, Arrays.copyOf( utf8, length ), string );
+        return string;
+    }
+
+    private static int hash( byte[] utf8, int length )
+    {
+        int hash = length;
+        for ( int i = 0; i < length; i++ )
+        {
+            hash = 31 * hash + utf8[i];
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    private static class Entry
+    {
+        private final int hash;
+        private final byte[] utf8;
+        private final String string;
+
+        private Entry( int hash, byte[] utf8, String string )
+        {
+            this.hash = hash;
+            this.utf8 = utf8;
+            this.string = string;
+        }
+
+        private boolean matches( byte[] other, int length )
+        {
+            if ( utf8.length != length )
+            {
+                return false;
+            }
+            for ( int i = 0; i < length; i++ )
+            {
+                if ( utf8[i] != other[i] )
+                {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/**
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.packstream;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+
+/**
+ * Decoding of PackStream strings, straight from the buffer of an input where possible.
+ */
+public final class Utf8
+{
+    private static final Charset UTF_8 = Charset.forName( "UTF-8" );
+
+    private Utf8()
+    {
+        throw new UnsupportedOperationException( "Do not instantiate" );
+    }
+
+    /**
+     * Decode the string of the given number of bytes at the position of the buffer, and move the position past it.
+     * Strings that are pure ASCII, such as most keys, labels and identifiers, are turned into characters directly;
+     * anything else is left to the charset.
+     *
+     * @param buffer a buffer with at least {@code size} bytes remaining
+     * @param size the number of bytes of the encoded string
+     * @return the decoded string
+     */
+    public static String decode( ByteBuffer buffer, int size )
+    {
+        int start = buffer.position();
+        buffer.position( start + size );
+        if ( buffer.hasArray() )
+        {
+            return new String( buffer.array(), buffer.arrayOffset() + start, size, UTF_8 );
+        }
+
+        char[] chars = new char[size];
+        for ( int i = 0; i < size; i++ )
+        {
+            byte b = buffer.get( start + i );
+            if ( b < 0 )
+            {
+                ByteBuffer encoded = buffer.duplicate();
+                encoded.limit( start + size ).position( start );
+                return UTF_8.decode( encoded ).toString();
+            }
+            chars[i] = (char) b;
+        }
+        return new String( chars );
+    }
+
+    /**
+     * Read and decode a string of the given number of bytes, for inputs that cannot decode in place.
+     */
+    public static String read( PackInput in, int size ) throws IOException
+    {
+        byte[] encoded = new byte[size];
+        in.readBytes( encoded, 0, size );
+        return new String( encoded, UTF_8 );
+    }
+}
@@ -84,11 +84,13 @@ public class SecurityPlan
 
     private final boolean requiresEncryption;
     private final SSLContext sslContext;
+    private final TLSHandshakeMetrics tlsHandshakes;
 
     private SecurityPlan( boolean requiresEncryption, SSLContext sslContext)
     {
         this.requiresEncryption = requiresEncryption;
         this.sslContext = sslContext;
+        this.tlsHandshakes = sslContext == null ? null : new TLSHandshakeMetrics();
     }
 
     public boolean requiresEncryption()
@@ -99,4 +101,9 @@ public class SecurityPlan
 
     public SSLContext sslContext() {return sslContext;}
 
+    /**
+     * @return the handshakes of encrypted connections made with this plan, or null if there is no encryption
+     */
+    public TLSHandshakeMetrics tlsHandshakes() {return tlsHandshakes;}
+
 }
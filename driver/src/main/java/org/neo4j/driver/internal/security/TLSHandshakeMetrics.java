@@ -0,0 +1,71 @@
+/**
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.security;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.lang.String.format;
+
+/**
+ * Counts the TLS handshakes of the encrypted connections of a driver, and how long they took.
+ * <p>
+ * This keeps no sessions of its own: engines are created for the host and port of the server they connect to, which
+ * lets the client session cache of the {@link javax.net.ssl.SSLContext} of the driver resume earlier sessions with
+ * that server. Whether a handshake resumed a session is not told apart here, as the JSSE does not expose it.
+ */
+public class TLSHandshakeMetrics
+{
+    private final LongAdder handshakes = new LongAdder();
+    private final LongAdder handshakeNanos = new LongAdder();
+
+    /**
+     * Record a completed handshake.
+     * @param durationNanos how long the handshake took
+     */
+    void handshakeCompleted( long durationNanos )
+    {
+        handshakes.increment();
+        handshakeNanos.add( durationNanos );
+    }
+
+    /**
+     * @return the number of handshakes completed
+     */
+    public long handshakes()
+    {
+        return handshakes.sum();
+    }
+
+    /**
+     * @return the average time a handshake took, in milliseconds
+     */
+    public double averageHandshakeMillis()
+    {
+        long count = handshakes();
+        return count == 0 ? 0 : (double) handshakeNanos.sum() / count / TimeUnit.MILLISECONDS.toNanos( 1 );
+    }
+
+    @Override
+    public String toString()
+    {
+        return format( "TLSHandshakeMetrics{handshakes=%d, averageHandshakeMillis=%.2f}",
+                handshakes(), averageHandshakeMillis() );
+    }
+}
@@ -22,6 +22,9 @@ import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.ByteChannel;
 import java.security.GeneralSecurityException;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import javax.net.ssl.KeyManager;
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.SSLEngine;
@@ -30,6 +33,8 @@ import javax.net.ssl.SSLEngineResult.HandshakeStatus;
 import javax.net.ssl.SSLEngineResult.Status;
 
 import org.neo4j.driver.internal.net.BoltServerAddress;
+import org.neo4j.driver.internal.net.ByteBufferPool;
+import org.neo4j.driver.internal.net.PooledByteBuffer;
 import org.neo4j.driver.v1.Logger;
 import org.neo4j.driver.internal.util.BytePrinter;
 import org.neo4j.driver.internal.util.BytePrinter;
@@ -65,21 +70,62 @@ public class TLSSocketChannel implements ByteChannel
     private ByteBuffer plainIn;
     private ByteBuffer plainOut;
 
+    /** The pool buffers are taken from, null when the buffers were given to us */
+    private final ByteBufferPool bufferPool;
+    /** The pooled buffers currently in use, to give back when they are replaced or the channel is closed */
+    private final Map<ByteBuffer,PooledByteBuffer> pooledBuffers = new IdentityHashMap<>();
+
     private static final ByteBuffer DUMMY_BUFFER = ByteBuffer.allocate( 0 );
 
     public TLSSocketChannel( BoltServerAddress address, SecurityPlan securityPlan, ByteChannel channel, Logger logger )
             throws GeneralSecurityException, IOException
     {
-        this( channel, logger, createSSLEngine( address, securityPlan.sslContext() ) );
+        this( channel, logger, createSSLEngine( address, securityPlan.sslContext() ), ByteBufferPool.SHARED,
+                securityPlan.tlsHandshakes() );
     }
 
     public TLSSocketChannel( ByteChannel channel, Logger logger, SSLEngine sslEngine ) throws GeneralSecurityException, IOException
     {
-        this(channel, logger, sslEngine,
-             ByteBuffer.allocate( sslEngine.getSession().getApplicationBufferSize() ),
-             ByteBuffer.allocate( sslEngine.getSession().getPacketBufferSize() ),
-             ByteBuffer.allocate( sslEngine.getSession().getApplicationBufferSize() ),
-             ByteBuffer.allocate( sslEngine.getSession().getPacketBufferSize() ) );
+        this( channel, logger, sslEngine, ByteBufferPool.SHARED );
+    }
+
+    public TLSSocketChannel( ByteChannel channel, Logger logger, SSLEngine sslEngine, ByteBufferPool bufferPool )
+            throws GeneralSecurityException, IOException
+    {
+        this( channel, logger, sslEngine, bufferPool, null );
+    }
+
+    /**
+     * @param tlsHandshakes where to record the handshake, or null not to record it
+     */
+    private TLSSocketChannel( ByteChannel channel, Logger logger, SSLEngine sslEngine, ByteBufferPool bufferPool,
+            TLSHandshakeMetrics tlsHandshakes ) throws GeneralSecurityException, IOException
+    {
+        this.logger = logger;
+        this.channel = channel;
+        this.sslEngine = sslEngine;
+        this.bufferPool = bufferPool;
+        this.plainIn = allocate( sslEngine.getSession().getApplicationBufferSize() );
+        this.cipherIn = allocate( sslEngine.getSession().getPacketBufferSize() );
+        this.plainOut = allocate( sslEngine.getSession().getApplicationBufferSize() );
+        this.cipherOut = allocate( sslEngine.getSession().getPacketBufferSize() );
+        try
+        {
+            long startNanos = System.nanoTime();
+            runHandshake();
+            if ( tlsHandshakes != null )
+            {
+                long durationNanos = System.nanoTime() - startNanos;
+                tlsHandshakes.handshakeCompleted( durationNanos );
+                logger.debug( "~~ [SECURE CHANNEL OPENED] handshake in %d us",
+                        TimeUnit.NANOSECONDS.toMicros( durationNanos ) );
+            }
+        }
+        catch ( IOException | RuntimeException e )
+        {
+            releaseBuffers();
+            throw e;
+        }
     }
 
     TLSSocketChannel( ByteChannel channel, Logger logger, SSLEngine sslEngine,
@@ -89,6 +135,7 @@ public class TLSSocketChannel implements ByteChannel
         this.logger = logger;
         this.channel = channel;
         this.sslEngine = sslEngine;
+        this.bufferPool = null;
         this.plainIn = plainIn;
         this.cipherIn = cipherIn;
         this.plainOut = plainOut;
@@ -154,6 +201,8 @@ public class TLSSocketChannel implements ByteChannel
      * greater than the size of deciphered data.
      * Otherwise, the deciphered bytes or the bytes that could not fit into {@code buffer} would be left in {@code
      * plainIn} buffer.
+     * When {@code plainIn} is empty and {@code buffer} has room for a whole TLS record, records are deciphered
+     * straight into {@code buffer} instead, without passing through {@code plainIn}.
      *
      * If the byes in {@code plaintIn} will not be used outside this method, we should always clear {@code
      * plainIn} after each call to avoid wasting memory on it.
@@ -184,9 +233,13 @@ public class TLSSocketChannel implements ByteChannel
         cipherIn.flip();
 
         Status status;
+        boolean direct = true;
         do
         {
-            SSLEngineResult unwrapResult = sslEngine.unwrap( cipherIn, plainIn );
+            // Decipher straight into the buffer while nothing is pending in plainIn, so the order of data is kept
+            direct = direct && plainIn.position() == 0 &&
+                     buffer.remaining() >= sslEngine.getSession().getApplicationBufferSize();
+            SSLEngineResult unwrapResult = sslEngine.unwrap( cipherIn, direct ? buffer : plainIn );
             status = unwrapResult.getStatus();
             // Possible status here:
             // OK - good
@@ -200,12 +253,21 @@ public class TLSSocketChannel implements ByteChannel
             switch ( status )
             {
             case OK:
-                plainIn.flip();
-                bufferCopy( plainIn, buffer );
-                plainIn.compact();
+                if ( !direct )
+                {
+                    plainIn.flip();
+                    bufferCopy( plainIn, buffer );
+                    plainIn.compact();
+                }
                 handshakeStatus = runDelegatedTasks();
                 break;
             case BUFFER_OVERFLOW:
+                if ( direct )
+                {
+                    // The record did not fit after all, retry through plainIn
+                    direct = false;
+                    break;
+                }
                 plainIn.flip();
                 // Could attempt to drain the plainIn buffer of any already obtained
                 // data, but we'll just increase it to the size needed.
@@ -219,8 +281,9 @@ public class TLSSocketChannel implements ByteChannel
                                            "buffer size allowed is %s. The content in the buffer is: %s\n",
                                     curAppSize, newAppSize, appSize * 2, BytePrinter.hex( plainIn ) ) );
                 }
-                ByteBuffer newPlainIn = ByteBuffer.allocate( newAppSize );
+                ByteBuffer newPlainIn = allocate( newAppSize );
                 newPlainIn.put( plainIn );
+                free( plainIn );
                 plainIn = newPlainIn;
                 logger.debug( "Enlarged application input buffer from %s to %s. " +
                               "This operation should be a rare operation.", curAppSize, newAppSize );
@@ -232,8 +295,9 @@ public class TLSSocketChannel implements ByteChannel
                 // Resize buffer if needed.
                 if ( netSize > curNetSize )
                 {
-                    ByteBuffer newCipherIn = ByteBuffer.allocate( netSize );
+                    ByteBuffer newCipherIn = allocate( netSize );
                     newCipherIn.put( cipherIn );
+                    free( cipherIn );
                     cipherIn = newCipherIn;
                     logger.debug( "Enlarged network input buffer from %s to %s. " +
                                   "This operation should be a rare operation.", curNetSize, netSize );
@@ -261,7 +325,8 @@ public class TLSSocketChannel implements ByteChannel
 
     /**
      * Encrypt the bytes given in {@code buffer} and write them out to the channel, when using this method, put it in
-     * a loop
+     * a loop. Ciphertext that a non-blocking channel does not take is left in {@code cipherOut}, to be written by
+     * {@link #flush()}.
      *
      * @param buffer contains the bytes to send to channel
      * @return The status of the current handshake
@@ -279,12 +344,7 @@ public class TLSSocketChannel implements ByteChannel
         {
         case OK:
             handshakeStatus = runDelegatedTasks();
-            cipherOut.flip();
-            while ( cipherOut.hasRemaining() )
-            {
-                channel.write( cipherOut );
-            }
-            cipherOut.clear();
+            flush();
             break;
         case BUFFER_OVERFLOW:
             // Enlarge the buffer and return the old status
@@ -293,7 +353,8 @@ public class TLSSocketChannel implements ByteChannel
             if ( netSize > curNetSize )
             {
                 // enlarge the peer application data buffer
-                cipherOut = ByteBuffer.allocate( netSize );
+                free( cipherOut );
+                cipherOut = allocate( netSize );
                 logger.debug( "Enlarged network output buffer from %s to %s. " +
                               "This operation should be a rare operation.", curNetSize, netSize );
             }
@@ -321,6 +382,34 @@ public class TLSSocketChannel implements ByteChannel
         return handshakeStatus;
     }
 
+    /**
+     * Write out the ciphertext left in {@code cipherOut} by earlier writes. A blocking channel takes all of it. A
+     * non-blocking channel may take only part of it, or nothing, when the socket send buffer is full; the rest is
+     * kept for the next call.
+     *
+     * @return true if no ciphertext is left to write
+     * @throws IOException if writing to the channel fails
+     */
+    public boolean flush() throws IOException
+    {
+        cipherOut.flip();
+        try
+        {
+            while ( cipherOut.hasRemaining() )
+            {
+                if ( channel.write( cipherOut ) <= 0 )
+                {
+                    return false;
+                }
+            }
+            return true;
+        }
+        finally
+        {
+            cipherOut.compact();
+        }
+    }
+
     /**
      * Copy the buffer content from one buffer to another.
      * <pre>
@@ -342,17 +431,44 @@ public class TLSSocketChannel implements ByteChannel
     {
         int maxTransfer = Math.min( to.remaining(), from.remaining() );
 
-        //use a temp buffer and move all data in one go
-        ByteBuffer temporaryBuffer = from.duplicate();
-        temporaryBuffer.limit( temporaryBuffer.position() + maxTransfer );
-        to.put( temporaryBuffer );
-
-        //move postion so it appears as if we read the buffer
-        from.position( from.position() + maxTransfer );
+        //limit the source to what fits and move all data in one go, which also moves its position
+        int limit = from.limit();
+        from.limit( from.position() + maxTransfer );
+        to.put( from );
+        from.limit( limit );
 
         return maxTransfer;
     }
 
+    private ByteBuffer allocate( int capacity )
+    {
+        if ( bufferPool == null )
+        {
+            return ByteBuffer.allocate( capacity );
+        }
+        PooledByteBuffer pooled = bufferPool.acquire( capacity );
+        pooledBuffers.put( pooled.buffer(), pooled );
+        return pooled.buffer();
+    }
+
+    private void free( ByteBuffer buffer )
+    {
+        PooledByteBuffer pooled = pooledBuffers.remove( buffer );
+        if ( pooled != null )
+        {
+            pooled.release();
+        }
+    }
+
+    private void releaseBuffers()
+    {
+        for ( PooledByteBuffer pooled : pooledBuffers.values() )
+        {
+            pooled.release();
+        }
+        pooledBuffers.clear();
+    }
+
     /**
      * Create SSLEngine with the SSLContext just created.
      * @param address the host to connect to
@@ -395,14 +511,19 @@ public class TLSSocketChannel implements ByteChannel
     {
         /**
          * Encrypt the plain text data in src buffer and write them into underlying channel.
-         * Return how many plain text data in src that have been written to the underlying channel.
+         * Return how many plain text data in src that have been encrypted. With a non-blocking channel that stops
+         * taking data, this returns early, and the ciphertext of the last bytes may still wait to be flushed.
          */
         int toWrite = src.remaining();
         while ( src.remaining() > 0 )
         {
+            if ( !flush() )
+            {
+                break;
+            }
             wrap( src );
         }
-        return toWrite;
+        return toWrite - src.remaining();
     }
 
     @Override
@@ -414,6 +535,12 @@ public class TLSSocketChannel implements ByteChannel
     @Override
     public void close() throws IOException
     {
+        if ( plainOut == null )
+        {
+            // Closed before, and the buffers have already gone back to the pool
+            channel.close();
+            return;
+        }
         try
         {
             plainOut.clear();
@@ -432,9 +559,10 @@ public class TLSSocketChannel implements ByteChannel
                 while ( cipherOut.hasRemaining() )
                 {
                     int num = channel.write( cipherOut );
-                    if ( num == -1 )
+                    if ( num <= 0 )
                     {
-                        // handle closed channel
+                        // handle closed channel, or a non-blocking one that takes no more; the close message is
+                        // only a courtesy to the peer
                         break;
                     }
                 }
@@ -449,6 +577,15 @@ public class TLSSocketChannel implements ByteChannel
             // Treat this as ok - the connection is closed, even if the TLS session did not exit cleanly.
             logger.warn( "TLS socket could not be closed cleanly: '" + e.getMessage() + "'", e );
         }
+        finally
+        {
+            if ( !pooledBuffers.isEmpty() )
+            {
+                // Buffers go back to the pool, where they are reused by other connections
+                releaseBuffers();
+                plainIn = cipherIn = plainOut = cipherOut = null;
+            }
+        }
     }
 
     @Override
@@ -20,6 +20,7 @@ package org.neo4j.driver.internal.spi;
 
 import java.util.List;
 
+import org.neo4j.driver.internal.messaging.EncodedRecord;
 import org.neo4j.driver.v1.Value;
 import org.neo4j.driver.v1.exceptions.ClientException;
 import org.neo4j.driver.v1.exceptions.Neo4jException;
@@ -114,6 +115,9 @@ public interface Collector
         @Override
         public void record( Value[] fields ) {}
 
+        @Override
+        public void record( EncodedRecord record ) {}
+
         @Override
         public void statementType( StatementType type ) {}
 
@@ -169,6 +173,8 @@ public interface Collector
 
     void record( Value[] fields );
 
+    void record( EncodedRecord record );
+
     void statementType( StatementType type);
 
     void statementStatistics( SummaryCounters statistics );
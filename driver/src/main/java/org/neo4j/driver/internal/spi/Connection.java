@@ -19,6 +19,7 @@
 package org.neo4j.driver.internal.spi;
 
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
 
 import org.neo4j.driver.internal.net.BoltServerAddress;
 import org.neo4j.driver.v1.Logger;
@@ -44,6 +45,13 @@ public interface Connection extends AutoCloseable
      */
     void run( String statement, Map<String,Value> parameters, Collector collector );
 
+    /**
+     * Queue up a run action, like {@link #run(String, java.util.Map, Collector)}, with the parameters kept as they
+     * were given. The entries are written straight from the value, without copying them into a map first.
+     * @param parameters a map value of parameters
+     */
+    void run( String statement, Value parameters, Collector collector );
+
     /**
      * Queue a discard all action, consuming any items left in the current stream.This will
      * close the stream once its completed, allowing another {@link #run(String, java.util.Map, Collector) run}
@@ -74,6 +82,12 @@ public interface Connection extends AutoCloseable
      */
     void sync();
 
+    /**
+     * Like {@link #sync()}, but without waiting: the returned stage completes once all outstanding actions have
+     * been carried out on the server.
+     */
+    CompletionStage<Void> syncAsync();
+
     /**
      * Send all pending messages to the server and return the number of messages sent.
      */
@@ -84,6 +98,13 @@ public interface Connection extends AutoCloseable
      */
     void receiveOne();
 
+    /**
+     * Receive the next message available without waiting for it. The returned stage completes once the message
+     * has been handed to its collector, or exceptionally with the same errors {@link #receiveOne()} would throw.
+     * Stages may be completed from an I/O thread, so dependent actions should not block.
+     */
+    CompletionStage<Void> receiveOneAsync();
+
     @Override
     void close();
 
@@ -37,5 +37,12 @@ public interface ConnectionPool extends AutoCloseable
      */
     void purge( BoltServerAddress address );
 
+    /**
+     * Establish connections to a given address in the background, until as many are idle as the pool keeps
+     * ahead of demand. Returns straight away.
+     * @param address The address to connect to.
+     */
+    void warmUp( BoltServerAddress address );
+
     boolean hasAddress( BoltServerAddress address );
 }
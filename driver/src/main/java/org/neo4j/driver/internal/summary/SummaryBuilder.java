@@ -22,6 +22,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 
+import org.neo4j.driver.internal.messaging.EncodedRecord;
 import org.neo4j.driver.internal.spi.Collector;
 import org.neo4j.driver.v1.Statement;
 import org.neo4j.driver.v1.Value;
@@ -63,6 +64,12 @@ public class SummaryBuilder implements Collector
         // intentionally empty
     }
 
+    @Override
+    public void record( EncodedRecord record )
+    {
+        // intentionally empty
+    }
+
     public void statementType( StatementType type )
     {
         if ( this.type == null )
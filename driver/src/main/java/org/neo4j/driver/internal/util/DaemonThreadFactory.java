@@ -0,0 +1,54 @@
+/**
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.util;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates daemon threads named after what they do, so that background work of the driver never keeps an application
+ * from exiting and shows up recognisably in thread dumps.
+ */
+public class DaemonThreadFactory implements ThreadFactory
+{
+    private final String namePrefix;
+    private final AtomicInteger count = new AtomicInteger();
+
+    /**
+     * @param namePrefix the name of the threads, followed by the number of each thread created
+     * @return a factory of daemon threads
+     */
+    public static ThreadFactory daemonThreads( String namePrefix )
+    {
+        return new DaemonThreadFactory( namePrefix );
+    }
+
+    private DaemonThreadFactory( String namePrefix )
+    {
+        this.namePrefix = namePrefix;
+    }
+
+    @Override
+    public Thread newThread( Runnable task )
+    {
+        Thread thread = new Thread( task, namePrefix + count.incrementAndGet() );
+        thread.setDaemon( true );
+        return thread;
+    }
+}
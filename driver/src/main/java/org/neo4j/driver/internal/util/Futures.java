@@ -0,0 +1,109 @@
+/**
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.function.BiConsumer;
+
+public final class Futures
+{
+    private Futures()
+    {
+        throw new UnsupportedOperationException( "Do not instantiate" );
+    }
+
+    public static <T> CompletableFuture<T> failed( Throwable error )
+    {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        future.completeExceptionally( error );
+        return future;
+    }
+
+    /**
+     * Run the asynchronous step over and over until the condition holds, then complete with the given result.
+     * <p>
+     * Steps that complete straight away, as they do on blocking connections, are repeated in a loop rather than
+     * from the step's callback, so that the stack does not grow with the number of steps.
+     *
+     * @param finished checked before every step, stops the loop once it returns true
+     * @param step the step to repeat, the loop fails as soon as a step fails
+     * @param result supplies the value of the returned stage once the loop has finished
+     * @param <T> the type of the result
+     * @return a stage completed with the result, or with the first failure of a step, condition or result
+     */
+    public static <T> CompletionStage<T> repeatUntil( Supplier<Boolean> finished,
+            Supplier<? extends CompletionStage<?>> step, Supplier<T> result )
+    {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        repeatUntil( finished, step, result, future );
+        return future;
+    }
+
+    private static <T> void repeatUntil( final Supplier<Boolean> finished,
+            final Supplier<? extends CompletionStage<?>> step, final Supplier<T> result,
+            final CompletableFuture<T> future )
+    {
+        try
+        {
+            while ( !finished.get() )
+            {
+                CompletableFuture<?> done = step.get().toCompletableFuture();
+                if ( !done.isDone() )
+                {
+                    done.whenComplete( new BiConsumer<Object,Throwable>()
+                    {
+                        @Override
+                        public void accept( Object ignore, Throwable error )
+                        {
+                            if ( error != null )
+                            {
+                                future.completeExceptionally( unwrap( error ) );
+                            }
+                            else
+                            {
+                                repeatUntil( finished, step, result, future );
+                            }
+                        }
+                    } );
+                    return;
+                }
+                done.join();
+            }
+            future.complete( result.get() );
+        }
+        catch ( Throwable e )
+        {
+            future.completeExceptionally( unwrap( e ) );
+        }
+    }
+
+    /**
+     * @return the error a stage failed with, without the wrapping added by dependent stages
+     */
+    public static Throwable unwrap( Throwable error )
+    {
+        if ( error instanceof CompletionException && error.getCause() != null )
+        {
+            return error.getCause();
+        }
+        return error;
+    }
+}
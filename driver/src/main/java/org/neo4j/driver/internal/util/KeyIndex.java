@@ -0,0 +1,70 @@
+/**
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.util;
+
+import java.util.AbstractList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * The keys of a result, in order, with the position of each key looked up by hash rather than by scanning them.
+ * A single instance is built when the keys of a result arrive, and is shared by all records of that result.
+ */
+public class KeyIndex extends AbstractList<String> implements RandomAccess
+{
+    private final String[] keys;
+    private final Map<String,Integer> positions;
+
+    public KeyIndex( String... keys )
+    {
+        this.keys = keys;
+        this.positions = new HashMap<>( (int) (keys.length / 0.75f) + 1 );
+        for ( int i = keys.length - 1; i >= 0; i-- )
+        {
+            // the first of any duplicate keys wins, as with a scan
+            positions.put( keys[i], i );
+        }
+    }
+
+    @Override
+    public String get( int index )
+    {
+        return keys[index];
+    }
+
+    @Override
+    public int size()
+    {
+        return keys.length;
+    }
+
+    @Override
+    public int indexOf( Object key )
+    {
+        Integer position = positions.get( key );
+        return position == null ? -1 : position;
+    }
+
+    @Override
+    public boolean contains( Object key )
+    {
+        return positions.containsKey( key );
+    }
+}
@@ -0,0 +1,168 @@
+/**
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.value;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.neo4j.driver.internal.util.KeyIndex;
+import org.neo4j.driver.v1.Value;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * The parameters of a statement bound from a {@link org.neo4j.driver.v1.PreparedStatement}: values in the order of a
+ * {@link Layout} of parameter names shared by all statements bound from it. Writers pack the names as they were
+ * encoded once for the layout, and only the values for each statement.
+ */
+public class BoundParametersValue extends MapValue
+{
+    private final Layout layout;
+    private final Value[] values;
+
+    public BoundParametersValue( Layout layout, Value[] values )
+    {
+        super( new Parameters( layout.names, values ) );
+        this.layout = layout;
+        this.values = values;
+    }
+
+    /**
+     * @param index the position of a parameter
+     * @return the UTF-8 encoding of the name of the parameter
+     */
+    public byte[] encodedName( int index )
+    {
+        return layout.encodedNames[index];
+    }
+
+    /**
+     * @param index the position of a parameter
+     * @return the value of the parameter
+     */
+    public Value value( int index )
+    {
+        return values[index];
+    }
+
+    /**
+     * The names of the parameters of a prepared statement, in order, along with their encoding.
+     */
+    public static class Layout
+    {
+        private final KeyIndex names;
+        private final byte[][] encodedNames;
+
+        /**
+         * @param names the names of the parameters, all different
+         */
+        public Layout( String... names )
+        {
+            this.names = new KeyIndex( names );
+            this.encodedNames = new byte[names.length][];
+            for ( int i = 0; i < names.length; i++ )
+            {
+                encodedNames[i] = names[i].getBytes( UTF_8 );
+            }
+        }
+    }
+
+    /**
+     * A read-only view of names and values kept in arrays, for {@link MapValue} to look values up in.
+     */
+    private static class Parameters extends AbstractMap<String,Value>
+    {
+        private final KeyIndex names;
+        private final Value[] values;
+
+        Parameters( KeyIndex names, Value[] values )
+        {
+            this.names = names;
+            this.values = values;
+        }
+
+        @Override
+        public int size()
+        {
+            return values.length;
+        }
+
+        @Override
+        public boolean containsKey( Object key )
+        {
+            return names.contains( key );
+        }
+
+        @Override
+        public Value get( Object key )
+        {
+            int index = names.indexOf( key );
+            return index == -1 ? null : values[index];
+        }
+
+        @Override
+        public Set<Map.Entry<String,Value>> entrySet()
+        {
+            return new AbstractSet<Map.Entry<String,Value>>()
+            {
+                @Override
+                public Iterator<Map.Entry<String,Value>> iterator()
+                {
+                    return new Iterator<Map.Entry<String,Value>>()
+                    {
+                        private int next;
+
+                        @Override
+                        public boolean hasNext()
+                        {
+                            return next < values.length;
+                        }
+
+                        @Override
+                        public Map.Entry<String,Value> next()
+                        {
+                            if ( !hasNext() )
+                            {
+                                throw new NoSuchElementException();
+                            }
+                            int index = next++;
+                            return new SimpleImmutableEntry<>( names.get( index ), values[index] );
+                        }
+
+                        @Override
+                        public void remove()
+                        {
+                            throw new UnsupportedOperationException();
+                        }
+                    };
+                }
+
+                @Override
+                public int size()
+                {
+                    return values.length;
+                }
+            };
+        }
+    }
+}
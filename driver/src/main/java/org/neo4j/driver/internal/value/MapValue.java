@@ -134,7 +134,7 @@ public class MapValue extends ValueAdapter
         {
             return true;
         }
-        if ( o == null || getClass() != o.getClass() )
+        if ( !(o instanceof MapValue) )
         {
             return false;
         }
@@ -0,0 +1,92 @@
+/**
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.v1;
+
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+
+import org.neo4j.driver.v1.util.Experimental;
+
+/**
+ * Common interface for components that can execute Neo4j statements without blocking the calling thread.
+ *
+ * Statements are sent to the server straight away, and the returned stage completes once the server has
+ * accepted the statement and told what the keys of its records are. Records are then pulled through the
+ * {@link StatementResultCursor cursor} the stage completes with.
+ *
+ * Stages may be completed from the driver's I/O threads, see {@link Config.ConfigBuilder#withEventLoopThreads(int)},
+ * so actions depending on them must not block. When connections use blocking sockets, the stages are completed by
+ * the calling thread instead, before the methods return.
+ *
+ * The same ordering guarantees as for {@link StatementRunner} apply: statements run in the same runner, whether
+ * asynchronously or not, execute in order.
+ *
+ * @see StatementRunner
+ * @since 1.1
+ */
+@Experimental
+public interface AsyncStatementRunner
+{
+    /**
+     * Run a statement asynchronously.
+     *
+     * @param statementTemplate text of a Neo4j statement
+     * @param parameters input parameters, should be a map Value, see {@link Values#parameters(Object...)}.
+     * @return a stage completed with a cursor over the records of the result, or with the error the statement
+     * failed with
+     */
+    CompletionStage<StatementResultCursor> runAsync( String statementTemplate, Value parameters );
+
+    /**
+     * Run a statement asynchronously.
+     *
+     * @param statementTemplate text of a Neo4j statement
+     * @param statementParameters input data for the statement
+     * @return a stage completed with a cursor over the records of the result, or with the error the statement
+     * failed with
+     */
+    CompletionStage<StatementResultCursor> runAsync( String statementTemplate, Map<String,Object> statementParameters );
+
+    /**
+     * Run a statement asynchronously.
+     *
+     * @param statementTemplate text of a Neo4j statement
+     * @return a stage completed with a cursor over the records of the result, or with the error the statement
+     * failed with
+     */
+    CompletionStage<StatementResultCursor> runAsync( String statementTemplate );
+
+    /**
+     * Run a statement asynchronously.
+     *
+     * <h2>Example</h2>
+     * <pre>
+     * {@code
+     * session.runAsync( new Statement( "MATCH (n) RETURN n.name" ) )
+     *        .thenCompose( cursor -> cursor.forEachAsync( record -> names.add( record.get( 0 ).asString() ) ) )
+     *        .thenCompose( summary -> session.closeAsync() );
+     * }
+     * </pre>
+     *
+     * @param statement a Neo4j statement
+     * @return a stage completed with a cursor over the records of the result, or with the error the statement
+     * failed with
+     */
+    CompletionStage<StatementResultCursor> runAsync( Statement statement );
+}
@@ -0,0 +1,299 @@
+/**
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.v1;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.driver.v1.summary.ResultSummary;
+import org.neo4j.driver.v1.util.Experimental;
+
+import static org.neo4j.driver.internal.util.DaemonThreadFactory.daemonThreads;
+import static org.neo4j.driver.v1.Values.parameters;
+
+/**
+ * Writes rows with one statement each, coalescing them into batches that are written with a single
+ * <code>UNWIND</code> statement each, in the background.
+ * <p>
+ * The statement refers to the row it writes as <code>row</code>, for instance
+ * <code>MERGE (p:Person {id: row.id}) SET p.name = row.name</code>. Rows are collected until there are as many as
+ * the batch size, or until the oldest has waited for the max delay, and then written as
+ * <code>UNWIND {batch} AS row MERGE (p:Person {id: row.id}) SET p.name = row.name</code> in a session of its own.
+ * Up to the given number of batches are written at the same time; once that many are being written,
+ * {@link #write(Map)} waits for one of them to complete.
+ * <p>
+ * The outcome of every batch is reported to the {@link Listener}, on the thread that wrote the batch. A batch that
+ * fails is not retried.
+ * <p>
+ * A writer may be used by many threads at once. It must be {@link #close() closed} to write the last rows.
+ */
+@Experimental
+public class BatchWriter implements AutoCloseable
+{
+    /**
+     * Told about the outcome of each batch.
+     */
+    public interface Listener
+    {
+        /**
+         * @param rows the number of rows written
+         * @param summary the summary of the statement that wrote them
+         */
+        void written( int rows, ResultSummary summary );
+
+        /**
+         * @param rows the rows that were not written
+         * @param error why the batch failed
+         */
+        void failed( List<Map<String,Object>> rows, Throwable error );
+    }
+
+    private final Driver driver;
+    private final String statement;
+    private final int batchSize;
+    private final long maxDelayMillis;
+    private final int maxInFlight;
+    private final Listener listener;
+
+    /** Permits for batches being written, taken before a batch is handed to a writer thread */
+    private final Semaphore inFlight;
+    private final ExecutorService writers;
+    private final ScheduledExecutorService timer;
+
+    // Guarded by this
+    private List<Map<String,Object>> batch;
+    private ScheduledFuture<?> delayedFlush;
+    private boolean closed;
+    /** Batches taken from {@link #batch} that have not been handed to a writer thread yet */
+    private int unsubmitted;
+
+    /**
+     * @param driver the driver to write with
+     * @param rowStatement the statement that writes one row, referring to it as <code>row</code>
+     * @param batchSize the max number of rows per batch
+     * @param maxDelay the longest a row waits for a batch to fill up before the batch is written anyway
+     * @param unit the unit in which the max delay is given
+     * @param maxInFlight the max number of batches being written at once
+     * @param listener told about the outcome of each batch
+     */
+    public BatchWriter( Driver driver, String rowStatement, int batchSize, long maxDelay, TimeUnit unit,
+            int maxInFlight, Listener listener )
+    {
+        if ( batchSize < 1 || maxInFlight < 1 )
+        {
+            throw new IllegalArgumentException( String.format(
+                    "The batch size and max in-flight batches must be positive, but were %d and %d.",
+                    batchSize, maxInFlight ) );
+        }
+        this.driver = driver;
+        this.statement = "UNWIND {batch} AS row " + rowStatement;
+        this.batchSize = batchSize;
+        this.maxDelayMillis = unit.toMillis( maxDelay );
+        this.maxInFlight = maxInFlight;
+        this.listener = listener;
+        this.inFlight = new Semaphore( maxInFlight );
+        this.writers = Executors.newFixedThreadPool( maxInFlight, daemonThreads( "neo4j-batch-writer-" ) );
+        this.timer = Executors.newSingleThreadScheduledExecutor( daemonThreads( "neo4j-batch-timer-" ) );
+        this.batch = new ArrayList<>( batchSize );
+    }
+
+    /**
+     * Add a row to the current batch, writing the batch if it is full. Waits if the max number of batches are
+     * being written already.
+     *
+     * @param row the parameters of the row
+     */
+    public void write( Map<String,Object> row )
+    {
+        List<Map<String,Object>> full = null;
+        synchronized ( this )
+        {
+            if ( closed )
+            {
+                throw new IllegalStateException( "This batch writer has been closed." );
+            }
+            batch.add( row );
+            if ( batch.size() >= batchSize )
+            {
+                full = takeBatch();
+            }
+            else if ( batch.size() == 1 && maxDelayMillis > 0 )
+            {
+                delayedFlush = timer.schedule( new Runnable()
+                {
+                    @Override
+                    public void run()
+                    {
+                        submit( takeBatchIfAny() );
+                    }
+                }, maxDelayMillis, TimeUnit.MILLISECONDS );
+            }
+        }
+        submit( full );
+    }
+
+    /**
+     * Write the current batch, however few rows it has, and wait until all batches have been written.
+     */
+    public void flush()
+    {
+        submit( takeBatchIfAny() );
+        awaitSubmitted();
+        inFlight.acquireUninterruptibly( maxInFlight );
+        inFlight.release( maxInFlight );
+    }
+
+    /**
+     * Write the last rows, wait until all batches have been written, and stop the background threads. The driver is
+     * left open.
+     */
+    @Override
+    public void close()
+    {
+        synchronized ( this )
+        {
+            if ( closed )
+            {
+                return;
+            }
+            closed = true;
+        }
+        try
+        {
+            flush();
+        }
+        finally
+        {
+            timer.shutdownNow();
+            writers.shutdown();
+        }
+    }
+
+    private synchronized List<Map<String,Object>> takeBatchIfAny()
+    {
+        return batch.isEmpty() ? null : takeBatch();
+    }
+
+    // Guarded by this
+    private List<Map<String,Object>> takeBatch()
+    {
+        List<Map<String,Object>> taken = batch;
+        batch = new ArrayList<>( batchSize );
+        unsubmitted++;
+        if ( delayedFlush != null )
+        {
+            delayedFlush.cancel( false );
+            delayedFlush = null;
+        }
+        return taken;
+    }
+
+    private void submit( final List<Map<String,Object>> rows )
+    {
+        if ( rows == null )
+        {
+            return;
+        }
+        inFlight.acquireUninterruptibly();
+        try
+        {
+            writers.execute( new Runnable()
+            {
+                @Override
+                public void run()
+                {
+                    try
+                    {
+                        writeBatch( rows );
+                    }
+                    finally
+                    {
+                        inFlight.release();
+                    }
+                }
+            } );
+        }
+        catch ( RejectedExecutionException e )
+        {
+            // the writer threads were stopped some other way than by closing this writer
+            inFlight.release();
+            listener.failed( rows, e );
+        }
+        finally
+        {
+            submitted();
+        }
+    }
+
+    private synchronized void submitted()
+    {
+        unsubmitted--;
+        if ( unsubmitted == 0 )
+        {
+            notifyAll();
+        }
+    }
+
+    /**
+     * Wait for batches taken by other threads, such as the timer, to be handed to a writer thread. Only then do
+     * they hold a permit, so that waiting for all permits waits for them to be written as well.
+     */
+    private synchronized void awaitSubmitted()
+    {
+        boolean interrupted = false;
+        while ( unsubmitted > 0 )
+        {
+            try
+            {
+                wait();
+            }
+            catch ( InterruptedException e )
+            {
+                interrupted = true;
+            }
+        }
+        if ( interrupted )
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void writeBatch( List<Map<String,Object>> rows )
+    {
+        ResultSummary summary;
+        try ( Session session = driver.session() )
+        {
+            summary = session.run( statement, parameters( "batch", rows ) ).consume();
+        }
+        catch ( Throwable e )
+        {
+            listener.failed( rows, e );
+            return;
+        }
+        listener.written( rows.size(), summary );
+    }
+}
@@ -24,6 +24,7 @@ import java.util.logging.Level;
 
 import org.neo4j.driver.internal.cluster.RoutingSettings;
 import org.neo4j.driver.internal.logging.JULogging;
+import org.neo4j.driver.internal.net.SocketSettings;
 import org.neo4j.driver.internal.net.pooling.PoolSettings;
 import org.neo4j.driver.v1.util.Immutable;
 
@@ -55,6 +56,16 @@ public class Config
     /** Connections that have been idle longer than this threshold will have a ping test performed on them. */
     private final long idleTimeBeforeConnectionTest;
 
+    /** Number of idle connections to keep established ahead of demand to each server */
+    private final int minIdleConnectionPoolSize;
+
+    /** Number of connections to each server, idle or in use, beyond which sessions wait for a connection */
+    private final int maxConnectionPoolSize;
+    private final long connectionAcquisitionTimeout;
+    private final long maxConnectionLifetime;
+    private final long maxIdleTime;
+    private final boolean deferredSessionReset;
+
     /** Level of encryption we need to adhere to */
     private final EncryptionLevel encryptionLevel;
 
@@ -67,12 +78,37 @@ public class Config
     private final int routingFailureLimit;
     private final long routingRetryDelayMillis;
 
+    /** Number of selector threads driving connections, zero for blocking sockets */
+    private final int eventLoopThreads;
+
+    /** Keep records encoded until their fields are accessed */
+    private final boolean lazyRecordDecoding;
+
+    /** Most nodes and relationships decoded once and shared within a result, zero to decode each one afresh */
+    private final int entityCacheSize;
+
+    /** Sizes of the buffers each connection reads into and writes from */
+    private final int receiveBufferSize;
+    private final int sendBufferSize;
+    private final boolean adaptiveBufferSizing;
+
+    /** Limits on records received but not yet consumed, zero for no limit */
+    private final int maxBufferedRecordsPerResult;
+    private final long maxBufferedRecords;
+    private final BufferOverflowPolicy bufferOverflowPolicy;
+
     private Config( ConfigBuilder builder)
     {
         this.logging = builder.logging;
 
         this.maxIdleConnectionPoolSize = builder.maxIdleConnectionPoolSize;
         this.idleTimeBeforeConnectionTest = builder.idleTimeBeforeConnectionTest;
+        this.minIdleConnectionPoolSize = builder.minIdleConnectionPoolSize;
+        this.maxConnectionPoolSize = builder.maxConnectionPoolSize;
+        this.connectionAcquisitionTimeout = builder.connectionAcquisitionTimeout;
+        this.maxConnectionLifetime = builder.maxConnectionLifetime;
+        this.maxIdleTime = builder.maxIdleTime;
+        this.deferredSessionReset = builder.deferredSessionReset;
 
         this.encryptionLevel = builder.encryptionLevel;
         this.trustStrategy = builder.trustStrategy;
@@ -80,6 +116,18 @@ public class Config
         this.routingRetryDelayMillis = builder.routingRetryDelayMillis;
 
         this.retryLogic = builder.retryLogic;
+
+        this.eventLoopThreads = builder.eventLoopThreads;
+        this.lazyRecordDecoding = builder.lazyRecordDecoding;
+        this.entityCacheSize = builder.entityCacheSize;
+
+        this.receiveBufferSize = builder.receiveBufferSize;
+        this.sendBufferSize = builder.sendBufferSize;
+        this.adaptiveBufferSizing = builder.adaptiveBufferSizing;
+
+        this.maxBufferedRecordsPerResult = builder.maxBufferedRecordsPerResult;
+        this.maxBufferedRecords = builder.maxBufferedRecords;
+        this.bufferOverflowPolicy = builder.bufferOverflowPolicy;
     }
 
     /**
@@ -120,6 +168,61 @@ public class Config
         return idleTimeBeforeConnectionTest;
     }
 
+    /**
+     * Number of idle connections to each server that are established in the background, ahead of demand.
+     * @return the min number of idle connections, zero if connections are only established when needed
+     */
+    public int minIdleConnectionPoolSize()
+    {
+        return minIdleConnectionPoolSize;
+    }
+
+    /**
+     * Max number of connections to each server, both idle and in use.
+     * @return the max number of connections
+     */
+    public int maxConnectionPoolSize()
+    {
+        return maxConnectionPoolSize;
+    }
+
+    /**
+     * How long a new session waits for a connection when as many connections are in use as allowed.
+     * @return the acquisition timeout in milliseconds
+     */
+    public long connectionAcquisitionTimeout()
+    {
+        return connectionAcquisitionTimeout;
+    }
+
+    /**
+     * How long a connection is reused before it is closed and replaced by a new one.
+     * @return the max connection lifetime in milliseconds, zero or less for no limit
+     */
+    public long maxConnectionLifetime()
+    {
+        return maxConnectionLifetime;
+    }
+
+    /**
+     * How long an idle connection is kept before it is closed, unless it is needed to keep the minimum of idle
+     * connections.
+     * @return the max idle time in milliseconds, zero or less for no limit
+     */
+    public long maxIdleTime()
+    {
+        return maxIdleTime;
+    }
+
+    /**
+     * Whether closed sessions leave their connection to be reset along with the first statement of the next session.
+     * @return true if resetting connections is deferred to their next use
+     */
+    public boolean deferredSessionReset()
+    {
+        return deferredSessionReset;
+    }
+
     /**
      * @return the level of encryption required for all connections.
      */
@@ -138,6 +241,87 @@ public class Config
 
     public RetryLogic retryLogic() { return  retryLogic; }
 
+    /**
+     * Number of event loop threads that drive all connections of the driver using non-blocking sockets.
+     * @return the number of event loop threads, or zero if every connection uses a blocking socket
+     */
+    public int eventLoopThreads()
+    {
+        return eventLoopThreads;
+    }
+
+    /**
+     * Whether the fields of records are decoded when they are first accessed, rather than when records arrive.
+     * @return true if records are decoded lazily
+     */
+    public boolean lazyRecordDecoding()
+    {
+        return lazyRecordDecoding;
+    }
+
+    /**
+     * Most nodes, and most relationships, that are decoded once and shared by all records of a result.
+     * @return the number of entities of each kind, or zero if every entity is decoded afresh
+     */
+    public int entityCacheSize()
+    {
+        return entityCacheSize;
+    }
+
+    /**
+     * Size of the buffer each connection reads received data into.
+     * @return the receive buffer size in bytes
+     */
+    public int receiveBufferSize()
+    {
+        return receiveBufferSize;
+    }
+
+    /**
+     * Size of the buffer each connection encodes outgoing messages into.
+     * @return the send buffer size in bytes
+     */
+    public int sendBufferSize()
+    {
+        return sendBufferSize;
+    }
+
+    /**
+     * Whether connections resize their buffers to fit the traffic they see.
+     * @return true if buffer sizes adapt
+     */
+    public boolean adaptiveBufferSizing()
+    {
+        return adaptiveBufferSizing;
+    }
+
+    /**
+     * Most records a single result holds in memory before they are consumed.
+     * @return the number of records, zero if there is no limit
+     */
+    public int maxBufferedRecordsPerResult()
+    {
+        return maxBufferedRecordsPerResult;
+    }
+
+    /**
+     * Most records all results of the driver hold in memory together before they are consumed.
+     * @return the number of records, zero if there is no limit
+     */
+    public long maxBufferedRecords()
+    {
+        return maxBufferedRecords;
+    }
+
+    /**
+     * What happens to records received once a result holds as many as it may.
+     * @return the overflow policy
+     */
+    public BufferOverflowPolicy bufferOverflowPolicy()
+    {
+        return bufferOverflowPolicy;
+    }
+
     /**
      * Return a {@link ConfigBuilder} instance
      * @return a {@link ConfigBuilder} instance
@@ -168,12 +352,27 @@ public class Config
         private Logging logging = new JULogging( Level.INFO );
         private int maxIdleConnectionPoolSize = PoolSettings.DEFAULT_MAX_IDLE_CONNECTION_POOL_SIZE;
         private long idleTimeBeforeConnectionTest = PoolSettings.DEFAULT_IDLE_TIME_BEFORE_CONNECTION_TEST;
+        private int minIdleConnectionPoolSize = PoolSettings.DEFAULT_MIN_IDLE_CONNECTION_POOL_SIZE;
+        private int maxConnectionPoolSize = PoolSettings.DEFAULT_MAX_CONNECTION_POOL_SIZE;
+        private long connectionAcquisitionTimeout = PoolSettings.DEFAULT_CONNECTION_ACQUISITION_TIMEOUT;
+        private long maxConnectionLifetime = PoolSettings.DEFAULT_MAX_CONNECTION_LIFETIME;
+        private long maxIdleTime = PoolSettings.DEFAULT_MAX_IDLE_TIME;
+        private boolean deferredSessionReset = PoolSettings.DEFAULT_DEFERRED_RESET;
         private EncryptionLevel encryptionLevel = EncryptionLevel.REQUIRED_NON_LOCAL;
         private TrustStrategy trustStrategy = trustOnFirstUse(
                 new File( getProperty( "user.home" ), ".neo4j" + File.separator + "known_hosts" ) );
         private RetryLogic retryLogic = RetryLogic.DEFAULT_RETRY_LOGIC;
         private int routingFailureLimit = 1;
         private long routingRetryDelayMillis = 5_000;
+        private int eventLoopThreads = 0;
+        private boolean lazyRecordDecoding = false;
+        private int entityCacheSize = 0;
+        private int receiveBufferSize = SocketSettings.DEFAULT_RECEIVE_BUFFER_SIZE;
+        private int sendBufferSize = SocketSettings.DEFAULT_SEND_BUFFER_SIZE;
+        private boolean adaptiveBufferSizing = false;
+        private int maxBufferedRecordsPerResult = 0;
+        private long maxBufferedRecords = 0;
+        private BufferOverflowPolicy bufferOverflowPolicy = BufferOverflowPolicy.FAIL;
 
         private ConfigBuilder() {}
 
@@ -220,12 +419,124 @@ public class Config
             return this;
         }
 
+        /**
+         * The number of idle sessions to keep open to each server, ahead of demand. Connections are established
+         * in the background when the driver is created, when the servers of a cluster are discovered, and
+         * whenever sessions are used, so that new sessions do not wait for a connection to be established.
+         * At most as many sessions as the max number of idle sessions are kept open this way.
+         *
+         * By default no sessions are opened ahead of demand.
+         *
+         * @param size the min number of idle sessions to keep open to each server
+         * @return this builder
+         */
+        public ConfigBuilder withMinIdleSessions( int size )
+        {
+            if ( size < 0 )
+            {
+                throw new IllegalArgumentException( "The min number of idle sessions may not be negative, but was: " +
+                                                    size );
+            }
+            this.minIdleConnectionPoolSize = size;
+            return this;
+        }
+
+        /**
+         * The max number of sessions to keep open to each server at once, both idle and in use. Once that many
+         * are in use, new sessions wait for one to be closed, in the order they were asked for, rather than
+         * opening more connections than the server is prepared to serve. Configure this to turn a spike of
+         * traffic into a queue on the client side.
+         *
+         * By default the number of sessions is not limited.
+         *
+         * @param size the max number of sessions to each server
+         * @return this builder
+         */
+        public ConfigBuilder withMaxSessionsPerServer( int size )
+        {
+            if ( size < 1 )
+            {
+                throw new IllegalArgumentException( "The max number of sessions must be positive, but was: " + size );
+            }
+            this.maxConnectionPoolSize = size;
+            return this;
+        }
+
+        /**
+         * How long a new session waits for a connection when the max number of sessions to the server are in use,
+         * before failing with a {@link org.neo4j.driver.v1.exceptions.ClientException}. Defaults to 60 seconds.
+         *
+         * @param timeout the longest time to wait
+         * @param unit the unit in which the timeout is given
+         * @return this builder
+         */
+        public ConfigBuilder withSessionAcquisitionTimeout( long timeout, TimeUnit unit )
+        {
+            long timeoutMillis = unit.toMillis( timeout );
+            if ( timeoutMillis < 0 )
+            {
+                throw new IllegalArgumentException( String.format(
+                        "The acquisition timeout may not be smaller than 0, but was %d %s.", timeout, unit ) );
+            }
+            this.connectionAcquisitionTimeout = timeoutMillis;
+            return this;
+        }
+
+        /**
+         * Close connections once they have been open for this long, when they are released or found idle, so that
+         * connections are spread again over servers and load balancers after some time. No limit by default.
+         *
+         * @param lifetime the max lifetime of a connection, zero for no limit
+         * @param unit the unit in which the lifetime is given
+         * @return this builder
+         */
+        public ConfigBuilder withMaxSessionLifetime( long lifetime, TimeUnit unit )
+        {
+            this.maxConnectionLifetime = unit.toMillis( lifetime );
+            return this;
+        }
+
+        /**
+         * Close idle sessions that have not been used for this long, as long as more are idle than configured with
+         * {@link #withMinIdleSessions(int)}. Idle sessions are checked in the background, together with testing the
+         * ones that have been idle for longer than the {@link #withSessionLivenessCheckTimeout(long) liveness check
+         * timeout}. No limit by default.
+         *
+         * @param idleTime the max idle time of a session, zero for no limit
+         * @param unit the unit in which the idle time is given
+         * @return this builder
+         */
+        public ConfigBuilder withMaxSessionIdleTime( long idleTime, TimeUnit unit )
+        {
+            this.maxIdleTime = unit.toMillis( idleTime );
+            return this;
+        }
+
+        /**
+         * Reset the connection of a closed session along with the first statement of the next session that uses it,
+         * instead of waiting for the server to confirm the reset when the session is closed. This saves a network
+         * round trip per session, which matters when sessions are short-lived, for instance one per request.
+         *
+         * A connection that was lost while idle, and not yet found out by the background
+         * {@link #withSessionLivenessCheckTimeout(long) liveness check}, is then only noticed by the next session that
+         * uses it, which fails with the connection error. Enabled by default.
+         *
+         * @param enabled true to defer resetting connections to their next use
+         * @return this builder
+         */
+        public ConfigBuilder withDeferredSessionReset( boolean enabled )
+        {
+            this.deferredSessionReset = enabled;
+            return this;
+        }
+
         /**
          * Pooled sessions that have been unused for longer than this timeout
-         * will be tested before they are used again, to ensure they are still live.
+         * will be tested in the background, to ensure they are still live when they are used again. The background
+         * check runs every 30 seconds on a daemon thread of the driver.
          *
-         * If this option is set too low, an additional network call will be
-         * incurred when acquiring a session, which causes a performance hit.
+         * If this option is set too low, idle sessions will be tested more often than needed,
+         * adding network calls in the background.
          *
          * If this is set high, you may receive sessions that are no longer live,
          * which will lead to exceptions in your application. Assuming the
@@ -353,6 +664,159 @@ public class Config
             return this;
         }
 
+        /**
+         * Drive all connections from a small, fixed number of event loop threads using non-blocking sockets,
+         * instead of having every connection use a blocking socket read and written by the thread using it.
+         * <p>
+         * With non-blocking sockets, sending requests never blocks the application, and responses are read and
+         * decoded by the event loops. This allows a large number of concurrent connections to be served by a
+         * handful of threads.
+         * <p>
+         * The default value of this parameter is {@code 0}, which means blocking sockets are used.
+         *
+         * @param threads the number of event loop threads, or {@code 0} to use blocking sockets
+         * @return this builder
+         */
+        public ConfigBuilder withEventLoopThreads( int threads )
+        {
+            if ( threads < 0 )
+            {
+                throw new IllegalArgumentException(
+                        "The number of event loop threads may not be negative, but was: " + threads );
+            }
+            this.eventLoopThreads = threads;
+            return this;
+        }
+
+        /**
+         * Keep the records of results in their compact wire encoding, and only decode a field of a record the first
+         * time it is accessed.
+         * <p>
+         * This saves time and memory for queries that return more columns than the application reads, such as
+         * wide rows of which only one or two values are used. When all fields of all records are read, decoding
+         * lazily is somewhat more expensive than decoding straight away, which is why it is disabled by default.
+         *
+         * @return this builder
+         */
+        public ConfigBuilder withLazyRecordDecoding()
+        {
+            this.lazyRecordDecoding = true;
+            return this;
+        }
+
+        /**
+         * Decode each node and relationship once per result, and share it between all records of the result that
+         * contain it, rather than decoding it again every time it appears.
+         * <p>
+         * This saves time and memory for results that return the same entities many times, such as paths through
+         * a few well connected nodes, or collected lists of nodes. The least recently seen entities are dropped
+         * once the given number of nodes, or relationships, have been decoded for a result. As each entity is
+         * decoded the first time it appears, a result that returns an entity both before and after changing it
+         * returns it as it was first seen throughout. Disabled by default.
+         *
+         * @param maxEntities most nodes, and most relationships, kept for each result, zero to disable
+         * @return this builder
+         */
+        public ConfigBuilder withEntityCache( int maxEntities )
+        {
+            if ( maxEntities < 0 )
+            {
+                throw new IllegalArgumentException( "The number of cached entities must not be negative: " +
+                                                    maxEntities );
+            }
+            this.entityCacheSize = maxEntities;
+            return this;
+        }
+
+        /**
+         * Set the size of the buffer each connection reads received data into, which is the most data read from
+         * the network at once. The default suits small results; larger buffers need fewer reads for large results.
+         *
+         * @param size the buffer size in bytes, between 16 and 65536
+         * @return this builder
+         */
+        public ConfigBuilder withReceiveBufferSize( int size )
+        {
+            this.receiveBufferSize = bufferSize( "receive", size );
+            return this;
+        }
+
+        /**
+         * Set the size of the buffer each connection encodes outgoing messages into, which is the most data written
+         * to the network at once.
+         *
+         * @param size the buffer size in bytes, between 16 and 65536
+         * @return this builder
+         */
+        public ConfigBuilder withSendBufferSize( int size )
+        {
+            this.sendBufferSize = bufferSize( "send", size );
+            return this;
+        }
+
+        /**
+         * Let each connection grow its buffers when they keep filling up, and shrink them back towards the
+         * configured sizes when they stay mostly empty, so that large results are read and large batches written
+         * with fewer calls to the network without every idle connection holding on to large buffers.
+         *
+         * @return this builder
+         */
+        public ConfigBuilder withAdaptiveBufferSizing()
+        {
+            this.adaptiveBufferSizing = true;
+            return this;
+        }
+
+        /**
+         * Limit how many records results hold in memory before they are consumed.
+         * <p>
+         * Records are normally received as they are consumed, one at a time. They pile up in a result when
+         * something else needs the replies that follow them from the server, such as running another statement in
+         * the same session or committing the transaction before the result has been consumed. Once a result holds
+         * {@code perResult} records, or all results of the driver hold {@code perDriver} records together, the
+         * records that follow are handled as the given policy says, so that a large result nobody consumes cannot
+         * exhaust the memory of the application. With a limit in place, results that have not been consumed by
+         * the time their session or transaction is closed are discarded, and fail when read afterwards.
+         * <p>
+         * By default there is no limit.
+         *
+         * @param perResult most records a single result holds, zero for no limit
+         * @param perDriver most records all results hold together, zero for no limit
+         * @param overflowPolicy what to do with the records that follow
+         * @return this builder
+         */
+        public ConfigBuilder withMaxBufferedRecords( int perResult, long perDriver,
+                BufferOverflowPolicy overflowPolicy )
+        {
+            if ( perResult < 0 || perDriver < 0 )
+            {
+                throw new IllegalArgumentException( String.format(
+                        "The number of buffered records may not be negative, but was: %d per result and %d in total",
+                        perResult, perDriver ) );
+            }
+            if ( overflowPolicy == null )
+            {
+                throw new IllegalArgumentException( "The buffer overflow policy may not be null" );
+            }
+            this.maxBufferedRecordsPerResult = perResult;
+            this.maxBufferedRecords = perDriver;
+            this.bufferOverflowPolicy = overflowPolicy;
+            return this;
+        }
+
+        private static final int MIN_BUFFER_SIZE = 16;
+
+        private static int bufferSize( String name, int size )
+        {
+            if ( size < MIN_BUFFER_SIZE || size > SocketSettings.MAX_BUFFER_SIZE )
+            {
+                throw new IllegalArgumentException( String.format(
+                        "The %s buffer size must be between %d and %d bytes, but was: %d",
+                        name, MIN_BUFFER_SIZE, SocketSettings.MAX_BUFFER_SIZE, size ) );
+            }
+            return size;
+        }
+
         /**
          * Create a config instance from this builder.
          * @return a {@link Config} instance
@@ -363,6 +827,25 @@ public class Config
         }
     }
 
+    /**
+     * Control what happens to the records a result receives once it holds as many as
+     * {@link ConfigBuilder#withMaxBufferedRecords(int, long, BufferOverflowPolicy) allowed}.
+     */
+    public enum BufferOverflowPolicy
+    {
+        /**
+         * Discard the record and the ones that follow. The result fails with a
+         * {@link org.neo4j.driver.v1.exceptions.ClientException} once the records it held have been consumed.
+         */
+        FAIL,
+
+        /**
+         * Write the record and the ones that follow to a temporary file, and read them back as the result is
+         * consumed.
+         */
+        SPILL
+    }
+
     /**
      * Control the level of encryption to require
      */
@@ -26,8 +26,12 @@ import org.neo4j.driver.internal.ConnectionSettings;
 import org.neo4j.driver.internal.DirectDriver;
 import org.neo4j.driver.internal.DriverContract;
 import org.neo4j.driver.internal.NetworkSession;
+import org.neo4j.driver.internal.RecordBufferLimits;
 import org.neo4j.driver.internal.RoutingDriver;
 import org.neo4j.driver.internal.net.BoltServerAddress;
+import org.neo4j.driver.internal.net.SocketEventLoopGroup;
+import org.neo4j.driver.internal.net.SocketSettings;
+import org.neo4j.driver.internal.net.TransportCounters;
 import org.neo4j.driver.internal.net.pooling.PoolSettings;
 import org.neo4j.driver.internal.net.pooling.SocketConnectionPool;
 import org.neo4j.driver.internal.security.SecurityPlan;
@@ -157,16 +161,16 @@ public class GraphDatabase
         String scheme = uri.getScheme();
         BoltServerAddress address = BoltServerAddress.from( uri );
 
-        // Collate session parameters
-        ConnectionSettings connectionSettings =
-                new ConnectionSettings( authToken == null ? AuthTokens.none() : authToken );
-
         // Make sure we have some configuration to play with
         if ( config == null )
         {
             config = Config.defaultConfig();
         }
 
+        // Collate session parameters
+        ConnectionSettings connectionSettings =
+                new ConnectionSettings( authToken == null ? AuthTokens.none() : authToken );
+
         // Construct security plan
         SecurityPlan securityPlan;
         try
@@ -179,16 +183,42 @@ public class GraphDatabase
         }
 
         // Construct driver contract
-        DriverContract driverContract = new DriverContract( config.retryLogic() );
+        DriverContract driverContract = new DriverContract( config.retryLogic(), new RecordBufferLimits(
+                config.maxBufferedRecordsPerResult(),
+                config.maxBufferedRecords(),
+                config.bufferOverflowPolicy() ) );
 
         // Establish pool settings
         PoolSettings poolSettings = new PoolSettings(
                 config.maxIdleConnectionPoolSize(),
-                config.idleTimeBeforeConnectionTest() );
+                config.idleTimeBeforeConnectionTest(),
+                config.minIdleConnectionPoolSize(),
+                config.maxConnectionPoolSize(),
+                config.connectionAcquisitionTimeout(),
+                config.maxConnectionLifetime(),
+                config.maxIdleTime(),
+                PoolSettings.DEFAULT_MAINTENANCE_INTERVAL,
+                config.deferredSessionReset() );
+
+        // Establish how connections read and write
+        SocketSettings socketSettings = new SocketSettings(
+                config.receiveBufferSize(),
+                config.sendBufferSize(),
+                config.adaptiveBufferSizing(),
+                config.lazyRecordDecoding(),
+                config.entityCacheSize(),
+                new TransportCounters() );
+
+        // Start the event loops for non-blocking connections, if asked to
+        SocketEventLoopGroup eventLoops = null;
+        if ( config.eventLoopThreads() > 0 )
+        {
+            eventLoops = new SocketEventLoopGroup( config.eventLoopThreads(), config.logging() );
+        }
 
         // And finally, construct the driver proper
-        ConnectionPool connectionPool =
-                new SocketConnectionPool( connectionSettings, securityPlan, poolSettings, config.logging() );
+        ConnectionPool connectionPool = new SocketConnectionPool(
+                connectionSettings, securityPlan, poolSettings, socketSettings, config.logging(), eventLoops );
         switch ( scheme.toLowerCase() )
         {
         case "bolt":
@@ -0,0 +1,114 @@
+/**
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.v1;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+import org.neo4j.driver.internal.value.BoundParametersValue;
+import org.neo4j.driver.v1.exceptions.ClientException;
+import org.neo4j.driver.v1.util.Experimental;
+import org.neo4j.driver.v1.util.Immutable;
+
+import static java.lang.String.format;
+
+/**
+ * A statement that is run many times with different parameter values.
+ * <p>
+ * The names of the parameters are given once, and each execution only gives their values, in the same order,
+ * to {@link #bind(Object...)}. All statements bound from a prepared statement share its text, which lets each
+ * connection encode the text once and reuse the encoding every time the statement is sent again.
+ * <pre>
+ * {@code
+ * PreparedStatement createPerson = new PreparedStatement( "CREATE (p:Person {name: {name}, age: {age}})",
+ *         "name", "age" );
+ * session.run( createPerson.bind( "Bob", 42 ) );
+ * }
+ * </pre>
+ */
+@Immutable
+@Experimental
+public class PreparedStatement
+{
+    private final String text;
+    private final String[] parameterNames;
+    /** The names encoded once, and packed as they are for every bound statement */
+    private final BoundParametersValue.Layout layout;
+
+    /**
+     * @param text the statement text
+     * @param parameterNames the names of the parameters of the statement, in the order their values are bound
+     */
+    public PreparedStatement( String text, String... parameterNames )
+    {
+        if ( new HashSet<>( Arrays.asList( parameterNames ) ).size() != parameterNames.length )
+        {
+            throw new ClientException( format( "Parameter names must be unique, but got %s.",
+                    Arrays.toString( parameterNames ) ) );
+        }
+        this.text = text;
+        this.parameterNames = parameterNames.clone();
+        this.layout = new BoundParametersValue.Layout( this.parameterNames );
+    }
+
+    /**
+     * @return the statement's text
+     */
+    public String text()
+    {
+        return text;
+    }
+
+    /**
+     * @return the names of the statement's parameters, in the order their values are bound
+     */
+    public List<String> parameterNames()
+    {
+        return Collections.unmodifiableList( Arrays.asList( parameterNames ) );
+    }
+
+    /**
+     * Create a statement to run, with the given values for the parameters.
+     *
+     * @param values the values of the parameters, in the order of their names
+     * @return a statement with this text and the given parameters
+     */
+    public Statement bind( Object... values )
+    {
+        if ( values.length != parameterNames.length )
+        {
+            throw new ClientException( format( "Expected %d parameter values for %s, but got %d.",
+                    parameterNames.length, Arrays.toString( parameterNames ), values.length ) );
+        }
+        Value[] parameters = new Value[values.length];
+        for ( int i = 0; i < values.length; i++ )
+        {
+            parameters[i] = Values.value( values[i] );
+        }
+        return new Statement( text, new BoundParametersValue( layout, parameters ) );
+    }
+
+    @Override
+    public String toString()
+    {
+        return format( "PreparedStatement{text='%s', parameterNames=%s}", text, Arrays.toString( parameterNames ) );
+    }
+}
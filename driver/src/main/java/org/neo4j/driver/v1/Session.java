@@ -19,6 +19,11 @@
 
 package org.neo4j.driver.v1;
 
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+import org.neo4j.driver.v1.summary.ResultSummary;
+import org.neo4j.driver.v1.util.Experimental;
 import org.neo4j.driver.v1.util.Resource;
 
 /**
@@ -55,7 +60,7 @@ import org.neo4j.driver.v1.util.Resource;
  *
  * @since 1.0
  */
-public interface Session extends Resource, StatementRunner
+public interface Session extends Resource, StatementRunner, AsyncStatementRunner
 {
     /**
      * Begin a new <em>explicit {@linkplain Transaction transaction}</em>. At
@@ -77,6 +82,57 @@ public interface Session extends Resource, StatementRunner
      */
     Transaction beginTransaction( String bookmark );
 
+    /**
+     * Run the given statements in one <em>explicit {@linkplain Transaction transaction}</em> and commit it, sending
+     * the BEGIN, all statements and the COMMIT to the server at once and waiting for all replies in one round trip.
+     * <p>
+     * The returned results have been received in full, so they can be consumed without further network calls. The
+     * bookmark of the committed transaction is available from {@link #lastBookmark()} afterwards.
+     * <p>
+     * If any statement fails, the statements after it are not run, the transaction is rolled back and the failure is
+     * thrown.
+     *
+     * @param statements the statements to run, in order
+     * @return the results of the statements, in the same order
+     */
+    @Experimental
+    List<StatementResult> runInTransaction( List<Statement> statements );
+
+    /**
+     * Run the given statements in one <em>explicit {@linkplain Transaction transaction}</em>, the same way as
+     * {@link #runInTransaction(List)}, requiring that the server hosting is at least as up-to-date as the
+     * transaction referenced by the supplied <em>bookmark</em>.
+     *
+     * @param statements the statements to run, in order
+     * @param bookmark a reference to a previous transaction
+     * @return the results of the statements, in the same order
+     */
+    @Experimental
+    List<StatementResult> runInTransaction( List<Statement> statements, String bookmark );
+
+    /**
+     * Run a statement for its effects only, in an auto-commit transaction like {@link #run(Statement)}, and wait
+     * for it to complete.
+     * <p>
+     * The server is asked to discard the records of the result instead of sending them, so nothing the statement
+     * returns is transferred or decoded. Only the summary of the result is available.
+     *
+     * @param statement a statement
+     * @return the summary of the result
+     */
+    @Experimental
+    ResultSummary execute( Statement statement );
+
+    /**
+     * Run a statement for its effects only, the same way as {@link #execute(Statement)}.
+     *
+     * @param statementTemplate template of a Neo4j statement
+     * @param parameters input data for the statement
+     * @return the summary of the result
+     */
+    @Experimental
+    ResultSummary execute( String statementTemplate, Value parameters );
+
     /**
      * Return the bookmark received following the last completed
      * {@linkplain Transaction transaction}. If no bookmark was received
@@ -105,6 +161,15 @@ public interface Session extends Resource, StatementRunner
     @Override
     void close();
 
+    /**
+     * Close this session without blocking the calling thread. Any open transaction is rolled back and all
+     * outstanding statements are completed before the underlying connection is returned to the pool.
+     *
+     * @return a stage completed once the session has been closed
+     */
+    @Experimental
+    CompletionStage<Void> closeAsync();
+
     /**
      * Returns a string telling which version of the server the session is connected to.
      * @return The server version of <code>null</code> if not available.
@@ -20,9 +20,11 @@ package org.neo4j.driver.v1;
 
 import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 
 import org.neo4j.driver.v1.exceptions.NoSuchRecordException;
 import org.neo4j.driver.v1.summary.ResultSummary;
+import org.neo4j.driver.v1.util.Experimental;
 import org.neo4j.driver.v1.util.Function;
 import org.neo4j.driver.v1.util.Resource;
 
@@ -128,6 +130,63 @@ public interface StatementResult extends Iterator<Record>
      */
     <T> List<T> list( Function<Record, T> mapFunction );
 
+    /**
+     * Retrieve one column of the entire result as integers, one for each remaining record, in order.
+     * <p>
+     * This reads the column without handing out a {@link Record} for each record. When records are kept in their
+     * wire encoding, see {@link Config.ConfigBuilder#withLazyRecordDecoding()}, the integers are read from it
+     * straight into the array, without decoding any {@link Value values} either. Values that are not integers are
+     * coerced as {@link Value#asLong()} would.
+     *
+     * Calling this method exhausts the result.
+     *
+     * @param key the key of the column
+     * @return the column values of all remaining records
+     * @throws NoSuchElementException if the result has no such key
+     */
+    @Experimental
+    long[] longColumn( String key );
+
+    /**
+     * Retrieve one column of the entire result as floats, one for each remaining record, in order. Values that are
+     * not floats are coerced as {@link Value#asDouble()} would. See {@link #longColumn(String)}.
+     *
+     * Calling this method exhausts the result.
+     *
+     * @param key the key of the column
+     * @return the column values of all remaining records
+     * @throws NoSuchElementException if the result has no such key
+     */
+    @Experimental
+    double[] doubleColumn( String key );
+
+    /**
+     * Retrieve one column of the entire result as booleans, one for each remaining record, in order. Values that are
+     * not booleans are coerced as {@link Value#asBoolean()} would. See {@link #longColumn(String)}.
+     *
+     * Calling this method exhausts the result.
+     *
+     * @param key the key of the column
+     * @return the column values of all remaining records
+     * @throws NoSuchElementException if the result has no such key
+     */
+    @Experimental
+    boolean[] booleanColumn( String key );
+
+    /**
+     * Retrieve one column of the entire result as strings, one for each remaining record, in order. Null values are
+     * retrieved as null, and other values that are not strings are coerced as {@link Value#asString()} would. See
+     * {@link #longColumn(String)}.
+     *
+     * Calling this method exhausts the result.
+     *
+     * @param key the key of the column
+     * @return the column values of all remaining records
+     * @throws NoSuchElementException if the result has no such key
+     */
+    @Experimental
+    String[] stringColumn( String key );
+
     /**
      * Consume the entire result, yielding a summary of it.
      *
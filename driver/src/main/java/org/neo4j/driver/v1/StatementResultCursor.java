@@ -0,0 +1,95 @@
+/**
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.v1;
+
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
+
+import org.neo4j.driver.v1.reactive.Publisher;
+import org.neo4j.driver.v1.summary.ResultSummary;
+import org.neo4j.driver.v1.util.Experimental;
+
+/**
+ * The result of running a statement {@link AsyncStatementRunner asynchronously}, giving access to its records
+ * without blocking the calling thread.
+ *
+ * Records are pulled from the server as the cursor is navigated. A cursor is not thread safe: wait for the stage
+ * returned by one method to complete before calling the next.
+ *
+ * Like a {@link StatementResult}, a cursor is valid until the next statement is run or until the end of the
+ * current transaction, whichever comes first.
+ *
+ * @since 1.1
+ */
+@Experimental
+public interface StatementResultCursor
+{
+    /**
+     * Retrieve the keys of the records this result contains.
+     *
+     * @return all keys
+     */
+    List<String> keys();
+
+    /**
+     * Navigate to and retrieve the next {@link Record} in this result.
+     *
+     * @return a stage completed with the next record, or with {@code null} when there are no records left
+     */
+    CompletionStage<Record> nextAsync();
+
+    /**
+     * Apply the given action to every record left in this result, in order.
+     *
+     * The action is invoked from whichever thread completed the receive, and must not block. If it throws,
+     * the returned stage fails with the thrown exception and the remaining records are left in the result.
+     *
+     * @param action the action to apply to every record
+     * @return a stage completed with the summary of the result once all records have been processed
+     */
+    CompletionStage<ResultSummary> forEachAsync( Consumer<Record> action );
+
+    /**
+     * Retrieve all records left in this result as a list.
+     *
+     * @return a stage completed with the remaining records
+     */
+    CompletionStage<List<Record>> listAsync();
+
+    /**
+     * Consume the remainder of this result, discarding any records left in it.
+     *
+     * @return a stage completed with the summary of the result
+     */
+    CompletionStage<ResultSummary> consumeAsync();
+
+    /**
+     * A publisher of the records left in this result, which pulls records from the server only as fast as its
+     * subscriber requests them. When the subscriber falls behind, the driver stops reading from the network and
+     * the server holds on to the rest of the result.
+     *
+     * The publisher takes over the cursor: it accepts a single subscriber, and the cursor should not be used
+     * directly once subscribed to. Cancelling the subscription leaves the remaining records to be discarded when
+     * the session or transaction moves on.
+     *
+     * @return a publisher of the remaining records
+     */
+    Publisher<Record> publisher();
+}
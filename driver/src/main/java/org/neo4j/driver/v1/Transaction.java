@@ -18,6 +18,9 @@
  */
 package org.neo4j.driver.v1;
 
+import java.util.concurrent.CompletionStage;
+
+import org.neo4j.driver.v1.util.Experimental;
 import org.neo4j.driver.v1.util.Resource;
 
 /**
@@ -46,7 +49,7 @@ import org.neo4j.driver.v1.util.Resource;
  *
  * @since 1.0
  */
-public interface Transaction extends Resource, StatementRunner
+public interface Transaction extends Resource, StatementRunner, AsyncStatementRunner
 {
     /**
      * Mark this transaction as successful. You must call this method before calling {@link #close()} to have your
@@ -82,4 +85,21 @@ public interface Transaction extends Resource, StatementRunner
      */
     @Override
     void close();
+
+    /**
+     * Commit this transaction without blocking the calling thread. All outstanding statements in the transaction
+     * are completed before the commit.
+     *
+     * @return a stage completed once the transaction has been committed, or with the error that prevented it
+     */
+    @Experimental
+    CompletionStage<Void> commitAsync();
+
+    /**
+     * Roll this transaction back without blocking the calling thread.
+     *
+     * @return a stage completed once the transaction has been rolled back
+     */
+    @Experimental
+    CompletionStage<Void> rollbackAsync();
 }
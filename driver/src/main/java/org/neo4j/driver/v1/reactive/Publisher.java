@@ -0,0 +1,48 @@
+/**
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.v1.reactive;
+
+import org.neo4j.driver.v1.util.Experimental;
+
+/**
+ * A provider of a potentially unbounded number of elements, published to a {@link Subscriber} according to the
+ * demand it signals through its {@link Subscription}.
+ *
+ * This interface mirrors {@code org.reactivestreams.Publisher} and follows the same rules, so that the driver
+ * does not have to depend on the Reactive Streams API. Bridging to it takes a single lambda:
+ *
+ * <pre>
+ * {@code
+ * org.reactivestreams.Publisher<Record> records = subscriber -> publisher.subscribe( new Subscriber<Record>() { ... } );
+ * }
+ * </pre>
+ *
+ * @param <T> the type of the published elements
+ * @since 1.1
+ */
+@Experimental
+public interface Publisher<T>
+{
+    /**
+     * Request the publisher to start streaming elements to the given subscriber.
+     *
+     * @param subscriber the subscriber that will consume the elements
+     */
+    void subscribe( Subscriber<? super T> subscriber );
+}
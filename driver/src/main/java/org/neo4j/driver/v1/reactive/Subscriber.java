@@ -0,0 +1,61 @@
+/**
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.v1.reactive;
+
+import org.neo4j.driver.v1.util.Experimental;
+
+/**
+ * Receives the elements of a {@link Publisher}, as many as it has {@link Subscription#request(long) requested}.
+ *
+ * Mirrors {@code org.reactivestreams.Subscriber}. Signals are never delivered concurrently, but may be delivered
+ * from the driver's I/O threads, so a subscriber must not block in them.
+ *
+ * @param <T> the type of the received elements
+ * @since 1.1
+ */
+@Experimental
+public interface Subscriber<T>
+{
+    /**
+     * Invoked once after {@link Publisher#subscribe(Subscriber)}, before any other signal. No elements are
+     * published until demand is signalled through the given subscription.
+     *
+     * @param subscription the subscription to request elements through and to cancel with
+     */
+    void onSubscribe( Subscription subscription );
+
+    /**
+     * Invoked with each element, never more often than has been requested.
+     *
+     * @param element the next element
+     */
+    void onNext( T element );
+
+    /**
+     * Invoked once when the stream failed. No further signals follow.
+     *
+     * @param error the failure
+     */
+    void onError( Throwable error );
+
+    /**
+     * Invoked once when all elements have been published. No further signals follow.
+     */
+    void onComplete();
+}
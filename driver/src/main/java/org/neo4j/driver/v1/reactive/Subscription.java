@@ -0,0 +1,44 @@
+/**
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.v1.reactive;
+
+import org.neo4j.driver.v1.util.Experimental;
+
+/**
+ * The link between one {@link Subscriber} and the {@link Publisher} it subscribed to.
+ *
+ * Mirrors {@code org.reactivestreams.Subscription}.
+ *
+ * @since 1.1
+ */
+@Experimental
+public interface Subscription
+{
+    /**
+     * Signal demand for up to {@code n} more elements. Demand adds up, and {@link Long#MAX_VALUE} means unbounded.
+     *
+     * @param n the number of additional elements wanted, must be positive
+     */
+    void request( long n );
+
+    /**
+     * Stop publishing to the subscriber. Some signals may still arrive if they were already under way.
+     */
+    void cancel();
+}
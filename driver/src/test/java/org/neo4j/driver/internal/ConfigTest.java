@@ -89,6 +89,18 @@ public class ConfigTest
         assertThat( config.idleTimeBeforeConnectionTest(), equalTo( 1337L ) );
     }
 
+    @Test
+    public void shouldDeferSessionResetWithoutEvictingConnectionsByDefault() throws Throwable
+    {
+        // when
+        Config config = Config.defaultConfig();
+
+        // then
+        assertThat( config.deferredSessionReset(), equalTo( true ) );
+        assertThat( config.maxConnectionLifetime(), equalTo( 0L ) );
+        assertThat( config.maxIdleTime(), equalTo( 0L ) );
+    }
+
     public static void deleteDefaultKnownCertFileIfExists()
     {
         if( DEFAULT_KNOWN_HOSTS.exists() )
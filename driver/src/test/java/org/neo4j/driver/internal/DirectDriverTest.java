@@ -24,10 +24,16 @@ import org.junit.Test;
 import java.net.URI;
 
 import org.neo4j.driver.internal.net.BoltServerAddress;
+import org.neo4j.driver.internal.security.SecurityPlan;
+import org.neo4j.driver.internal.spi.ConnectionPool;
 import org.neo4j.driver.v1.GraphDatabase;
+import org.neo4j.driver.v1.Logging;
+import org.neo4j.driver.v1.RetryLogic;
 
 import static org.hamcrest.core.IsEqual.equalTo;
 import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 
 public class DirectDriverTest
 {
@@ -60,4 +66,19 @@ public class DirectDriverTest
         assertThat( driverAddress, equalTo( address ));
 
     }
+
+    @Test
+    public void shouldWarmUpPoolForTheServer()
+    {
+        // Given
+        BoltServerAddress address = BoltServerAddress.from( URI.create( "bolt://localhost:7687" ) );
+        ConnectionPool pool = mock( ConnectionPool.class );
+
+        // When
+        new DirectDriver( address, new DriverContract( RetryLogic.DEFAULT_RETRY_LOGIC ), pool,
+                SecurityPlan.insecure(), mock( Logging.class ) );
+
+        // Then
+        verify( pool ).warmUp( address );
+    }
 }
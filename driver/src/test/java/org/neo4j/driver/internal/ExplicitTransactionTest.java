@@ -19,17 +19,33 @@
 package org.neo4j.driver.internal;
 
 import java.util.Collections;
+import java.util.List;
 
 import org.junit.Test;
 import org.mockito.InOrder;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 
 import org.neo4j.driver.internal.spi.Collector;
 import org.neo4j.driver.internal.spi.Connection;
+import org.neo4j.driver.v1.Statement;
+import org.neo4j.driver.v1.StatementResult;
 import org.neo4j.driver.v1.Value;
+import org.neo4j.driver.v1.exceptions.ClientException;
 
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.fail;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyMapOf;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -111,4 +127,101 @@ public class ExplicitTransactionTest
         verify( cleanup ).run();
         verifyNoMoreInteractions( conn, cleanup );
     }
+
+    @Test
+    public void shouldSendStatementsAndCommitInOneRoundTrip() throws Throwable
+    {
+        // Given
+        Connection conn = mock( Connection.class );
+        when( conn.isOpen() ).thenReturn( true );
+        Runnable cleanup = mock( Runnable.class );
+        ExplicitTransaction tx = new ExplicitTransaction( conn, cleanup );
+
+        // When
+        List<StatementResult> results = tx.runAndCommit(
+                asList( new Statement( "CREATE (n)" ), new Statement( "MATCH (n) RETURN n" ) ) );
+        tx.close();
+
+        // Then
+        assertThat( results.size(), equalTo( 2 ) );
+        InOrder order = inOrder( conn );
+        order.verify( conn ).run( "BEGIN", Collections.<String, Value>emptyMap(), Collector.NO_OP );
+        order.verify( conn ).pullAll( any( Collector.class ) );
+        order.verify( conn ).run( eq( "CREATE (n)" ), any( Value.class ), any( Collector.class ) );
+        order.verify( conn ).pullAll( any( Collector.class ) );
+        order.verify( conn ).run( eq( "MATCH (n) RETURN n" ), any( Value.class ),
+                any( Collector.class ) );
+        order.verify( conn ).pullAll( any( Collector.class ) );
+        order.verify( conn ).run( eq( "COMMIT" ), anyMapOf( String.class, Value.class ), any( Collector.class ) );
+        order.verify( conn ).pullAll( any( BookmarkCollector.class ) );
+        order.verify( conn ).sync();
+        verify( conn, never() ).flush();
+        verify( conn, never() ).run( eq( "ROLLBACK" ), anyMapOf( String.class, Value.class ),
+                any( Collector.class ) );
+        verify( cleanup ).run();
+    }
+
+    @Test
+    public void shouldRollbackWhenStatementFailsBeforeCommit() throws Throwable
+    {
+        // Given
+        Connection conn = mock( Connection.class );
+        when( conn.isOpen() ).thenReturn( true );
+        doThrow( new ClientException( "Neo.ClientError.Statement.SyntaxError", "Oops" ) ).when( conn ).sync();
+        ExplicitTransaction tx = new ExplicitTransaction( conn, mock( Runnable.class ) );
+
+        // When
+        try
+        {
+            tx.runAndCommit( asList( new Statement( "CREAT (n)" ) ) );
+            fail( "Should have failed" );
+        }
+        catch ( ClientException e )
+        {
+            // expected
+        }
+        doNothing().when( conn ).sync();
+        tx.close();
+
+        // Then
+        verify( conn ).run( "ROLLBACK", Collections.<String, Value>emptyMap(), Collector.NO_OP );
+    }
+
+    @Test
+    public void shouldNotRollbackWhenCommitFails() throws Throwable
+    {
+        // Given
+        Connection conn = mock( Connection.class );
+        when( conn.isOpen() ).thenReturn( true );
+        doAnswer( new Answer<Void>()
+        {
+            @Override
+            public Void answer( InvocationOnMock invocation )
+            {
+                Collector collector = (Collector) invocation.getArguments()[2];
+                collector.doneFailure( new ClientException( "Neo.ClientError.Schema.ConstraintValidationFailed",
+                        "Oops" ) );
+                return null;
+            }
+        } ).when( conn ).run( eq( "COMMIT" ), anyMapOf( String.class, Value.class ), any( Collector.class ) );
+        doThrow( new ClientException( "Neo.ClientError.Schema.ConstraintValidationFailed", "Oops" ) )
+                .when( conn ).sync();
+        ExplicitTransaction tx = new ExplicitTransaction( conn, mock( Runnable.class ) );
+
+        // When
+        try
+        {
+            tx.runAndCommit( asList( new Statement( "CREATE (n)" ) ) );
+            fail( "Should have failed" );
+        }
+        catch ( ClientException e )
+        {
+            // expected
+        }
+        tx.close();
+
+        // Then
+        verify( conn, never() ).run( eq( "ROLLBACK" ), anyMapOf( String.class, Value.class ),
+                any( Collector.class ) );
+    }
 }
@@ -20,6 +20,9 @@ package org.neo4j.driver.internal;
 
 import org.junit.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
@@ -27,7 +30,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 
+import org.neo4j.driver.internal.messaging.EncodedRecord;
+import org.neo4j.driver.internal.packstream.BufferedChannelOutput;
+import org.neo4j.driver.internal.packstream.PackStream;
 import org.neo4j.driver.internal.util.Extract;
+import org.neo4j.driver.internal.util.KeyIndex;
 import org.neo4j.driver.internal.value.NullValue;
 import org.neo4j.driver.v1.Value;
 import org.neo4j.driver.v1.util.Function;
@@ -36,6 +43,7 @@ import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
@@ -53,6 +61,54 @@ public class InternalRecordTest
         assertThat( record.get( "k3" ), equalTo( NullValue.NULL ) );
     }
 
+    @Test
+    public void shouldDecodeEncodedFieldsOnAccess()
+    {
+        // Given the fields 0 and "a" in their PackStream encoding
+        List<String> keys = Arrays.asList( "k1", "k2" );
+        EncodedRecord encoded = new EncodedRecord( new byte[]{0x00, (byte) 0x81, 'a'}, new int[]{0, 1, 3} );
+        InternalRecord record = new InternalRecord( keys, encoded );
+
+        // Then
+        assertThat( record.size(), equalTo( 2 ) );
+        assertThat( record.get( "k2" ), equalTo( value( "a" ) ) );
+        assertThat( record.get( 0 ), equalTo( value( 0 ) ) );
+        assertThat( record, equalTo( (Object) new InternalRecord( keys, new Value[]{value( 0 ), value( "a" )} ) ) );
+    }
+
+    @Test
+    public void shouldReadEncodedFieldsStraightIntoPrimitives() throws IOException
+    {
+        // Given
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        BufferedChannelOutput output = new BufferedChannelOutput( Channels.newChannel( bytes ) );
+        PackStream.Packer packer = new PackStream.Packer( output );
+        Object[] fields = {-3L, -100L, 1000L, -100000L, 1L << 40, 2.5, true, false, "a string", null, 7L};
+        int[] offsets = new int[fields.length + 1];
+        for ( int i = 0; i < fields.length; i++ )
+        {
+            packer.pack( fields[i] );
+            output.flush();
+            offsets[i + 1] = bytes.size();
+        }
+        EncodedRecord encoded = new EncodedRecord( bytes.toByteArray(), offsets );
+        InternalRecord record = new InternalRecord( Collections.<String>emptyList(), encoded );
+
+        // Then
+        assertThat( record.longAt( 0 ), equalTo( -3L ) );
+        assertThat( record.longAt( 1 ), equalTo( -100L ) );
+        assertThat( record.longAt( 2 ), equalTo( 1000L ) );
+        assertThat( record.longAt( 3 ), equalTo( -100000L ) );
+        assertThat( record.longAt( 4 ), equalTo( 1L << 40 ) );
+        assertThat( record.doubleAt( 5 ), equalTo( 2.5 ) );
+        assertTrue( record.booleanAt( 6 ) );
+        assertFalse( record.booleanAt( 7 ) );
+        assertThat( record.stringAt( 8 ), equalTo( "a string" ) );
+        assertNull( record.stringAt( 9 ) );
+        assertThat( record.doubleAt( 10 ), equalTo( 7.0 ) );
+        assertThat( record.get( 4 ), equalTo( value( 1L << 40 ) ) );
+    }
+
     @Test
     public void shouldHaveCorrectSize()
     {
@@ -243,6 +299,24 @@ public class InternalRecordTest
         assertThat( appendedValues, equalTo( Arrays.asList( values ) ) );
     }
 
+    @Test
+    public void shouldLookUpFieldsThroughKeyIndex()
+    {
+        //GIVEN
+        List<String> keys = new KeyIndex( "k1", "k2", "k1" );
+        InternalRecord record = new InternalRecord( keys, new Value[]{value( 0 ), value( 1 ), value( 2 )} );
+
+        //THEN
+        assertThat( record.index( "k2" ), equalTo( 1 ) );
+        assertThat( record.get( "k1" ), equalTo( value( 0 ) ) );
+        assertThat( record.get( "k3", 42 ), equalTo( 42 ) );
+        assertTrue( record.containsKey( "k2" ) );
+        assertFalse( record.containsKey( "k3" ) );
+        assertThat( record.keys(), equalTo( Arrays.asList( "k1", "k2", "k1" ) ) );
+        assertThat( record, equalTo( (Object) new InternalRecord( Arrays.asList( "k1", "k2", "k1" ),
+                new Value[]{value( 0 ), value( 1 ), value( 2 )} ) ) );
+    }
+
     private InternalRecord createRecord()
     {
         List<String> keys = Arrays.asList( "k1", "k2" );
@@ -22,6 +22,10 @@ package org.neo4j.driver.internal;
 import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -34,8 +38,11 @@ import org.neo4j.driver.internal.value.NullValue;
 import org.neo4j.driver.v1.Record;
 import org.neo4j.driver.v1.Statement;
 import org.neo4j.driver.v1.StatementResult;
+import org.neo4j.driver.v1.StatementResultCursor;
 import org.neo4j.driver.v1.Value;
 import org.neo4j.driver.v1.exceptions.NoSuchRecordException;
+import org.neo4j.driver.v1.exceptions.value.Uncoercible;
+import org.neo4j.driver.v1.summary.ResultSummary;
 import org.neo4j.driver.v1.util.Pair;
 
 import static java.util.Arrays.asList;
@@ -386,6 +393,124 @@ public class InternalStatementResultTest
         Record future = result.peek();
     }
 
+    @Test
+    public void asyncCursorShouldIterateRecords() throws Exception
+    {
+        // GIVEN
+        InternalStatementResult result = (InternalStatementResult) createResult( 2 );
+
+        // WHEN
+        StatementResultCursor cursor = result.runAsync().toCompletableFuture().get();
+
+        // THEN
+        assertThat( cursor.keys(), equalTo( asList( "k1", "k2" ) ) );
+        assertThat( values( cursor.nextAsync().toCompletableFuture().get() ),
+                equalTo( asList( value( "v1-1" ), value( "v2-1" ) ) ) );
+        assertThat( values( cursor.nextAsync().toCompletableFuture().get() ),
+                equalTo( asList( value( "v1-2" ), value( "v2-2" ) ) ) );
+        assertNull( cursor.nextAsync().toCompletableFuture().get() );
+        assertNull( cursor.nextAsync().toCompletableFuture().get() );
+    }
+
+    @Test
+    public void asyncCursorShouldListRecords() throws Exception
+    {
+        // GIVEN
+        InternalStatementResult result = (InternalStatementResult) createResult( 3 );
+
+        // WHEN
+        List<Record> records = result.listAsync().toCompletableFuture().get();
+
+        // THEN
+        assertThat( records, hasSize( 3 ) );
+        assertThat( values( records.get( 2 ) ), equalTo( asList( value( "v1-3" ), value( "v2-3" ) ) ) );
+        assertNull( result.nextAsync().toCompletableFuture().get() );
+    }
+
+    @Test
+    public void forEachAsyncShouldVisitRecordsAsTheyArrive() throws Exception
+    {
+        // GIVEN
+        LinkedList<CompletableFuture<Void>> receives = new LinkedList<>();
+        InternalStatementResult result = createDeferredResult( 3, receives );
+        final List<Record> visited = new ArrayList<>();
+
+        // WHEN
+        CompletionStage<ResultSummary> summary = result.forEachAsync( new Consumer<Record>()
+        {
+            @Override
+            public void accept( Record record )
+            {
+                visited.add( record );
+            }
+        } );
+
+        // THEN
+        for ( int i = 0; i < 5; i++ )
+        {
+            assertFalse( summary.toCompletableFuture().isDone() );
+            receives.poll().complete( null );
+        }
+        assertNotNull( summary.toCompletableFuture().get() );
+        assertThat( visited, hasSize( 3 ) );
+        assertTrue( receives.isEmpty() );
+    }
+
+    @Test
+    public void consumeAsyncShouldDiscardRecords() throws Exception
+    {
+        // GIVEN
+        InternalStatementResult result = (InternalStatementResult) createResult( 3 );
+
+        // WHEN
+        ResultSummary summary = result.consumeAsync().toCompletableFuture().get();
+
+        // THEN
+        assertNotNull( summary );
+        assertNull( result.nextAsync().toCompletableFuture().get() );
+    }
+
+    @Test
+    public void shouldRetrieveColumnOfRemainingRecords()
+    {
+        // GIVEN
+        StatementResult result = createResult( 40 );
+        result.next();
+
+        // WHEN
+        String[] column = result.stringColumn( "k2" );
+
+        // THEN
+        assertThat( column.length, equalTo( 39 ) );
+        for ( int i = 0; i < column.length; i++ )
+        {
+            assertThat( column[i], equalTo( "v2-" + (i + 2) ) );
+        }
+        assertFalse( result.hasNext() );
+    }
+
+    @Test
+    public void shouldNotRetrieveColumnOfUnknownKey()
+    {
+        // GIVEN
+        StatementResult result = createResult( 1 );
+
+        // THEN
+        expectedException.expect( NoSuchElementException.class );
+        result.longColumn( "k3" );
+    }
+
+    @Test
+    public void shouldCoerceColumnValuesLikeValuesDo()
+    {
+        // GIVEN
+        StatementResult result = createResult( 1 );
+
+        // THEN
+        expectedException.expect( Uncoercible.class );
+        result.doubleColumn( "k1" );
+    }
+
     private StatementResult createResult( int numberOfRecords )
     {
         Connection connection = mock( Connection.class );
@@ -414,6 +539,51 @@ public class InternalStatementResultTest
             }
         }).when( connection ).receiveOne();
 
+        doAnswer( new Answer()
+        {
+            @Override
+            public Object answer( InvocationOnMock invocationOnMock ) throws Throwable
+            {
+                inboundMessages.poll().run();
+                return CompletableFuture.completedFuture( null );
+            }
+        }).when( connection ).receiveOneAsync();
+
+        return cursor;
+    }
+
+    /**
+     * Create a result whose asynchronous receives only complete, handing over their message, when the test
+     * completes the futures added to the given list.
+     */
+    private InternalStatementResult createDeferredResult( int numberOfRecords,
+            final LinkedList<CompletableFuture<Void>> receives )
+    {
+        Connection connection = mock( Connection.class );
+        final InternalStatementResult cursor =
+                new InternalStatementResult( connection, null, new Statement( "<unknown>" ) );
+
+        final LinkedList<Runnable> inboundMessages = new LinkedList<>();
+        inboundMessages.add( streamHeadMessage( cursor ) );
+        for ( int i = 1; i <= numberOfRecords; i++ )
+        {
+            inboundMessages.add( recordMessage( cursor, i ) );
+        }
+        inboundMessages.add( streamTailMessage( cursor ) );
+
+        doAnswer( new Answer()
+        {
+            @Override
+            public Object answer( InvocationOnMock invocationOnMock ) throws Throwable
+            {
+                final Runnable message = inboundMessages.poll();
+                CompletableFuture<Void> received = new CompletableFuture<>();
+                CompletableFuture<Void> handled = received.thenRun( message );
+                receives.add( received );
+                return handled;
+            }
+        }).when( connection ).receiveOneAsync();
+
         return cursor;
     }
 
@@ -21,19 +21,39 @@ package org.neo4j.driver.internal;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.mockito.InOrder;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 
+import org.neo4j.driver.internal.spi.Collector;
 import org.neo4j.driver.internal.spi.Connection;
+import org.neo4j.driver.internal.summary.InternalSummaryCounters;
+import org.neo4j.driver.v1.Config.BufferOverflowPolicy;
+import org.neo4j.driver.v1.Statement;
+import org.neo4j.driver.v1.StatementResult;
 import org.neo4j.driver.v1.Transaction;
+import org.neo4j.driver.v1.Value;
 import org.neo4j.driver.v1.exceptions.ClientException;
 import org.neo4j.driver.v1.exceptions.ServiceUnavailableException;
+import org.neo4j.driver.v1.summary.ResultSummary;
 
 import static junit.framework.Assert.fail;
+import static java.util.Collections.singletonList;
 import static junit.framework.TestCase.assertNotNull;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.junit.Assert.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Matchers.same;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.neo4j.driver.v1.Values.parameters;
+import static org.neo4j.driver.v1.Values.value;
 
 public class NetworkSessionTest
 {
@@ -57,6 +77,49 @@ public class NetworkSessionTest
         verify( mock ).flush();
     }
 
+    @Test
+    public void shouldPassStatementParametersToConnectionAsTheyAre() throws Throwable
+    {
+        // Given
+        when( mock.isOpen() ).thenReturn( true );
+        Value parameters = parameters( "x", 1 );
+
+        // When
+        sess.run( "RETURN {x}", parameters );
+
+        // Then
+        verify( mock ).run( eq( "RETURN {x}" ), same( parameters ), any( Collector.class ) );
+    }
+
+    @Test
+    public void shouldDiscardRecordsWhenExecuting() throws Throwable
+    {
+        // Given
+        when( mock.isOpen() ).thenReturn( true );
+        doAnswer( new Answer<Void>()
+        {
+            @Override
+            public Void answer( InvocationOnMock invocation ) throws Throwable
+            {
+                Collector collector = (Collector) invocation.getArguments()[0];
+                collector.statementStatistics( new InternalSummaryCounters( 1, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0 ) );
+                collector.done();
+                return null;
+            }
+        } ).when( mock ).discardAll( any( Collector.class ) );
+
+        // When
+        ResultSummary summary = sess.execute( "CREATE (n) RETURN n", parameters() );
+
+        // Then
+        assertThat( summary.counters().nodesCreated(), equalTo( 1 ) );
+        InOrder order = inOrder( mock );
+        order.verify( mock ).run( eq( "CREATE (n) RETURN n" ), any( Value.class ), any( Collector.class ) );
+        order.verify( mock ).discardAll( any( Collector.class ) );
+        order.verify( mock ).flush();
+        verify( mock, never() ).pullAll( any( Collector.class ) );
+    }
+
     @Test
     public void shouldNotAllowNewTxWhileOneIsRunning() throws Throwable
     {
@@ -164,4 +227,118 @@ public class NetworkSessionTest
            assertThat( e.getMessage(), equalTo("This session has already been closed." ));
         }
     }
+
+    @Test
+    public void shouldDiscardUnconsumedResultsOnCloseWhenRecordsAreLimited() throws Throwable
+    {
+        // Given
+        when( mock.isOpen() ).thenReturn( true );
+        RecordBufferLimits limits = new RecordBufferLimits( 0, 100, BufferOverflowPolicy.FAIL );
+        NetworkSession sess = new NetworkSession( mock, limits );
+        deliverRecordsOnSync( 3 );
+        StatementResult result = sess.run( "UNWIND range(1, 3) AS n RETURN n" );
+
+        // When
+        sess.close();
+
+        // Then
+        assertThat( limits.buffered(), equalTo( 0L ) );
+        exception.expect( ClientException.class );
+        result.hasNext();
+    }
+
+    @Test
+    public void shouldDiscardUnconsumedTransactionResultsOnCloseWhenRecordsAreLimited() throws Throwable
+    {
+        // Given
+        when( mock.isOpen() ).thenReturn( true );
+        RecordBufferLimits limits = new RecordBufferLimits( 0, 100, BufferOverflowPolicy.FAIL );
+        NetworkSession sess = new NetworkSession( mock, limits );
+        Transaction tx = sess.beginTransaction();
+        deliverRecordsOnSync( 3 );
+        tx.run( "UNWIND range(1, 3) AS n RETURN n" );
+
+        // When
+        tx.close();
+
+        // Then
+        assertThat( limits.buffered(), equalTo( 0L ) );
+    }
+
+    @Test
+    public void shouldDiscardUnconsumedResultsOfRunInTransactionOnCloseWhenRecordsAreLimited() throws Throwable
+    {
+        // Given
+        when( mock.isOpen() ).thenReturn( true );
+        RecordBufferLimits limits = new RecordBufferLimits( 0, 100, BufferOverflowPolicy.FAIL );
+        NetworkSession sess = new NetworkSession( mock, limits );
+        deliverRecordsOnSync( 3 );
+        sess.runInTransaction( singletonList( new Statement( "UNWIND range(1, 3) AS n RETURN n" ) ) );
+        assertThat( limits.buffered(), equalTo( 3L ) );
+
+        // When
+        sess.close();
+
+        // Then
+        assertThat( limits.buffered(), equalTo( 0L ) );
+    }
+
+    @Test
+    public void shouldKeepUnconsumedResultsReadableAfterCloseWithoutLimits() throws Throwable
+    {
+        // Given
+        when( mock.isOpen() ).thenReturn( true );
+        deliverRecordsOnSync( 3 );
+        StatementResult result = sess.run( "UNWIND range(1, 3) AS n RETURN n" );
+
+        // When
+        sess.close();
+
+        // Then
+        assertThat( result.list().size(), equalTo( 3 ) );
+    }
+
+    /**
+     * Let the next statement run and pulled receive its keys and the given number of records on the next sync.
+     */
+    private void deliverRecordsOnSync( final int records )
+    {
+        final Collector[] collectors = new Collector[2];
+        doAnswer( new Answer<Void>()
+        {
+            @Override
+            public Void answer( InvocationOnMock invocation ) throws Throwable
+            {
+                collectors[0] = (Collector) invocation.getArguments()[2];
+                return null;
+            }
+        } ).when( mock ).run( anyString(), any( Value.class ), any( Collector.class ) );
+        doAnswer( new Answer<Void>()
+        {
+            @Override
+            public Void answer( InvocationOnMock invocation ) throws Throwable
+            {
+                if ( collectors[1] == null && invocation.getArguments()[0] != Collector.NO_OP )
+                {
+                    collectors[1] = (Collector) invocation.getArguments()[0];
+                }
+                return null;
+            }
+        } ).when( mock ).pullAll( any( Collector.class ) );
+        doAnswer( new Answer<Void>()
+        {
+            @Override
+            public Void answer( InvocationOnMock invocation ) throws Throwable
+            {
+                collectors[0].keys( new String[]{"n"} );
+                collectors[0].done();
+                for ( int i = 0; i < records; i++ )
+                {
+                    collectors[1].record( new Value[]{value( i )} );
+                }
+                collectors[1].done();
+                return null;
+            }
+        } ).when( mock ).sync();
+    }
 }
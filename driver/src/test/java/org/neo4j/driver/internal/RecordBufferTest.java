@@ -0,0 +1,189 @@
+/**
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal;
+
+import org.junit.Test;
+
+import java.util.List;
+
+import org.neo4j.driver.v1.Config.BufferOverflowPolicy;
+import org.neo4j.driver.v1.Value;
+import org.neo4j.driver.v1.exceptions.ClientException;
+
+import static java.util.Collections.singletonList;
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.neo4j.driver.v1.Values.value;
+
+public class RecordBufferTest
+{
+    private static final List<String> KEYS = singletonList( "n" );
+
+    @Test
+    public void shouldHoldAnyNumberOfRecordsWithoutLimits()
+    {
+        // Given
+        RecordBuffer buffer = new RecordBuffer( RecordBufferLimits.UNLIMITED );
+
+        // When
+        add( buffer, 0, 1000 );
+
+        // Then
+        assertRecords( buffer, 0, 1000 );
+        assertTrue( buffer.isEmpty() );
+    }
+
+    @Test
+    public void shouldFailOnceRecordsHeldBeforeOverflowAreConsumed()
+    {
+        // Given
+        RecordBufferLimits limits = new RecordBufferLimits( 2, 0, BufferOverflowPolicy.FAIL );
+        RecordBuffer buffer = new RecordBuffer( limits );
+
+        // When
+        add( buffer, 0, 5 );
+
+        // Then
+        assertRecords( buffer, 0, 2 );
+        try
+        {
+            buffer.isEmpty();
+            fail( "Should have failed, as records were discarded" );
+        }
+        catch ( ClientException e )
+        {
+            assertThat( e.getMessage(), containsString( "2 per result" ) );
+        }
+        assertThat( limits.buffered(), equalTo( 0L ) );
+    }
+
+    @Test
+    public void shouldSpillRecordsThatDoNotFitAndReadThemBackInOrder()
+    {
+        // Given
+        RecordBufferLimits limits = new RecordBufferLimits( 2, 0, BufferOverflowPolicy.SPILL );
+        RecordBuffer buffer = new RecordBuffer( limits );
+
+        // When
+        add( buffer, 0, 5 );
+        assertRecords( buffer, 0, 3 );
+        add( buffer, 5, 8 );
+
+        // Then
+        assertThat( buffer.peek().get( "n" ).asInt(), equalTo( 3 ) );
+        assertRecords( buffer, 3, 8 );
+        assertTrue( buffer.isEmpty() );
+        assertNull( buffer.poll() );
+        assertThat( limits.buffered(), equalTo( 0L ) );
+    }
+
+    @Test
+    public void shouldShareDriverLimitBetweenResults()
+    {
+        // Given
+        RecordBufferLimits limits = new RecordBufferLimits( 0, 3, BufferOverflowPolicy.FAIL );
+        RecordBuffer first = new RecordBuffer( limits );
+        RecordBuffer second = new RecordBuffer( limits );
+
+        // When
+        add( first, 0, 2 );
+        add( second, 0, 1 );
+        first.clear();
+        add( second, 1, 3 );
+
+        // Then
+        assertThat( limits.buffered(), equalTo( 3L ) );
+        assertRecords( second, 0, 3 );
+        assertTrue( second.isEmpty() );
+    }
+
+    @Test
+    public void shouldFailWithReasonOnceDiscarded()
+    {
+        // Given
+        RecordBufferLimits limits = new RecordBufferLimits( 1, 0, BufferOverflowPolicy.SPILL );
+        RecordBuffer buffer = new RecordBuffer( limits );
+        add( buffer, 0, 3 );
+
+        // When
+        buffer.discard( new ClientException( "Closed" ) );
+
+        // Then
+        assertThat( limits.buffered(), equalTo( 0L ) );
+        assertTrue( buffer.holdsNothing() );
+        try
+        {
+            buffer.isEmpty();
+            fail( "Should have failed, as records were discarded" );
+        }
+        catch ( ClientException e )
+        {
+            assertThat( e.getMessage(), equalTo( "Closed" ) );
+        }
+    }
+
+    @Test
+    public void shouldGiveBackRoomOfBuffersDroppedWithoutBeingConsumed() throws InterruptedException
+    {
+        // Given
+        RecordBufferLimits limits = new RecordBufferLimits( 0, 3, BufferOverflowPolicy.SPILL );
+        fillAndDrop( limits, 5 );
+        assertThat( limits.buffered(), equalTo( 3L ) );
+
+        // When
+        for ( int i = 0; i < 100 && limits.buffered() > 0; i++ )
+        {
+            System.gc();
+            Thread.sleep( 10 );
+            new RecordBuffer( limits );
+        }
+
+        // Then
+        assertThat( limits.buffered(), equalTo( 0L ) );
+        RecordBuffer buffer = new RecordBuffer( limits );
+        add( buffer, 0, 3 );
+        assertThat( limits.buffered(), equalTo( 3L ) );
+        assertRecords( buffer, 0, 3 );
+    }
+
+    private static void fillAndDrop( RecordBufferLimits limits, int records )
+    {
+        add( new RecordBuffer( limits ), 0, records );
+    }
+
+    private static void add( RecordBuffer buffer, int from, int to )
+    {
+        for ( int i = from; i < to; i++ )
+        {
+            buffer.add( KEYS, new Value[]{value( i )} );
+        }
+    }
+
+    private static void assertRecords( RecordBuffer buffer, int from, int to )
+    {
+        for ( int i = from; i < to; i++ )
+        {
+            assertThat( buffer.poll().get( "n" ).asInt(), equalTo( i ) );
+        }
+    }
+}
@@ -0,0 +1,240 @@
+/**
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal;
+
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.neo4j.driver.v1.Record;
+import org.neo4j.driver.v1.StatementResultCursor;
+import org.neo4j.driver.v1.Value;
+import org.neo4j.driver.v1.exceptions.ClientException;
+import org.neo4j.driver.v1.reactive.Subscriber;
+import org.neo4j.driver.v1.reactive.Subscription;
+
+import static java.util.Collections.singletonList;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.neo4j.driver.v1.Values.value;
+
+public class RecordPublisherTest
+{
+    @Test
+    public void shouldPublishOnlyAsManyRecordsAsRequested()
+    {
+        // Given
+        RecordPublisher publisher = new RecordPublisher( cursorOf( 5 ) );
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher.subscribe( subscriber );
+
+        // When
+        subscriber.subscription.request( 2 );
+
+        // Then
+        assertThat( subscriber.values, equalTo( Arrays.asList( 1, 2 ) ) );
+        assertFalse( subscriber.completed );
+
+        // When
+        subscriber.subscription.request( 10 );
+
+        // Then
+        assertThat( subscriber.values, equalTo( Arrays.asList( 1, 2, 3, 4, 5 ) ) );
+        assertTrue( subscriber.completed );
+        assertThat( subscriber.error, nullValue() );
+    }
+
+    @Test
+    public void shouldPublishRecordsThatArriveLater()
+    {
+        // Given
+        LinkedList<CompletableFuture<Record>> pulls = new LinkedList<>();
+        RecordPublisher publisher = new RecordPublisher( deferredCursor( pulls ) );
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher.subscribe( subscriber );
+
+        // When
+        subscriber.subscription.request( Long.MAX_VALUE );
+
+        // Then only one record is pulled at a time
+        assertThat( pulls.size(), equalTo( 1 ) );
+        pulls.poll().complete( record( 1 ) );
+        assertThat( pulls.size(), equalTo( 1 ) );
+        pulls.poll().complete( record( 2 ) );
+        pulls.poll().complete( null );
+
+        assertThat( subscriber.values, equalTo( Arrays.asList( 1, 2 ) ) );
+        assertTrue( subscriber.completed );
+        assertTrue( pulls.isEmpty() );
+    }
+
+    @Test
+    public void shouldStopPullingWhenCancelled()
+    {
+        // Given
+        LinkedList<CompletableFuture<Record>> pulls = new LinkedList<>();
+        RecordPublisher publisher = new RecordPublisher( deferredCursor( pulls ) );
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher.subscribe( subscriber );
+        subscriber.subscription.request( 5 );
+
+        // When
+        subscriber.subscription.cancel();
+        pulls.poll().complete( record( 1 ) );
+
+        // Then
+        assertTrue( subscriber.values.isEmpty() );
+        assertTrue( pulls.isEmpty() );
+    }
+
+    @Test
+    public void shouldSignalFailureOfTheResult()
+    {
+        // Given
+        LinkedList<CompletableFuture<Record>> pulls = new LinkedList<>();
+        RecordPublisher publisher = new RecordPublisher( deferredCursor( pulls ) );
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher.subscribe( subscriber );
+        subscriber.subscription.request( 5 );
+
+        // When
+        ClientException failure = new ClientException( "Neo.ClientError.Statement.SyntaxError", "Oops" );
+        pulls.poll().completeExceptionally( failure );
+
+        // Then
+        assertThat( subscriber.error, equalTo( (Throwable) failure ) );
+        assertFalse( subscriber.completed );
+        assertTrue( pulls.isEmpty() );
+    }
+
+    @Test
+    public void shouldRejectNonPositiveRequests()
+    {
+        // Given
+        RecordPublisher publisher = new RecordPublisher( cursorOf( 5 ) );
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher.subscribe( subscriber );
+
+        // When
+        subscriber.subscription.request( 0 );
+
+        // Then
+        assertThat( subscriber.error, instanceOf( IllegalArgumentException.class ) );
+        assertTrue( subscriber.values.isEmpty() );
+    }
+
+    @Test
+    public void shouldOnlyAcceptOneSubscriber()
+    {
+        // Given
+        RecordPublisher publisher = new RecordPublisher( cursorOf( 5 ) );
+        publisher.subscribe( new RecordingSubscriber() );
+        RecordingSubscriber second = new RecordingSubscriber();
+
+        // When
+        publisher.subscribe( second );
+
+        // Then
+        assertThat( second.error, instanceOf( IllegalStateException.class ) );
+    }
+
+    private static StatementResultCursor cursorOf( int numberOfRecords )
+    {
+        final LinkedList<Record> records = new LinkedList<>();
+        for ( int i = 1; i <= numberOfRecords; i++ )
+        {
+            records.add( record( i ) );
+        }
+        StatementResultCursor cursor = mock( StatementResultCursor.class );
+        when( cursor.nextAsync() ).thenAnswer( new Answer<CompletableFuture<Record>>()
+        {
+            @Override
+            public CompletableFuture<Record> answer( InvocationOnMock invocation )
+            {
+                return CompletableFuture.completedFuture( records.poll() );
+            }
+        } );
+        return cursor;
+    }
+
+    private static StatementResultCursor deferredCursor( final LinkedList<CompletableFuture<Record>> pulls )
+    {
+        StatementResultCursor cursor = mock( StatementResultCursor.class );
+        when( cursor.nextAsync() ).thenAnswer( new Answer<CompletableFuture<Record>>()
+        {
+            @Override
+            public CompletableFuture<Record> answer( InvocationOnMock invocation )
+            {
+                CompletableFuture<Record> pull = new CompletableFuture<>();
+                pulls.add( pull );
+                return pull;
+            }
+        } );
+        return cursor;
+    }
+
+    private static Record record( int value )
+    {
+        return new InternalRecord( singletonList( "x" ), new Value[]{value( value )} );
+    }
+
+    private static class RecordingSubscriber implements Subscriber<Record>
+    {
+        private final List<Integer> values = new ArrayList<>();
+        private Subscription subscription;
+        private Throwable error;
+        private boolean completed;
+
+        @Override
+        public void onSubscribe( Subscription subscription )
+        {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext( Record record )
+        {
+            values.add( record.get( "x" ).asInt() );
+        }
+
+        @Override
+        public void onError( Throwable error )
+        {
+            this.error = error;
+        }
+
+        @Override
+        public void onComplete()
+        {
+            completed = true;
+        }
+    }
+}
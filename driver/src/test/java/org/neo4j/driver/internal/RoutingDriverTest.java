@@ -18,7 +18,6 @@
  */
 package org.neo4j.driver.internal;
 
-import java.util.Collections;
 import java.util.Map;
 
 import org.junit.Rule;
@@ -39,6 +38,7 @@ import org.neo4j.driver.v1.EventLogger;
 import org.neo4j.driver.v1.Logging;
 import org.neo4j.driver.v1.RetryLogic;
 import org.neo4j.driver.v1.Value;
+import org.neo4j.driver.v1.Values;
 import org.neo4j.driver.v1.exceptions.ClientException;
 import org.neo4j.driver.v1.exceptions.ServiceUnavailableException;
 
@@ -351,7 +351,7 @@ public class RoutingDriverTest
                 when( connection.address() ).thenReturn( address );
                 doAnswer( withKeys( "ttl", "servers" ) ).when( connection ).run(
                         eq( GET_SERVERS ),
-                        eq( Collections.<String,Value>emptyMap() ),
+                        eq( Values.EmptyMap ),
                         any( Collector.class ) );
                 if ( answer > furtherGetServers.length )
                 {
@@ -21,13 +21,13 @@ package org.neo4j.driver.internal;
 import org.junit.Before;
 import org.junit.Test;
 
-import java.util.Map;
-
 import org.neo4j.driver.internal.net.BoltServerAddress;
 import org.neo4j.driver.internal.spi.Collector;
 import org.neo4j.driver.internal.spi.Connection;
 import org.neo4j.driver.v1.AccessMode;
 import org.neo4j.driver.v1.Session;
+import org.neo4j.driver.v1.Value;
+import org.neo4j.driver.v1.Values;
 import org.neo4j.driver.v1.exceptions.ClientException;
 import org.neo4j.driver.v1.exceptions.ServiceUnavailableException;
 import org.neo4j.driver.v1.exceptions.SessionExpiredException;
@@ -65,7 +65,7 @@ public class RoutingNetworkSessionTest
     {
         // Given
         doThrow( new ServiceUnavailableException( "oh no" ) ).
-                when( connection ).run( anyString(), any( Map.class ), any( Collector.class ) );
+                when( connection ).run( anyString(), any( Value.class ), any( Collector.class ) );
 
         RoutingNetworkSession result =
                 new RoutingNetworkSession( new NetworkSession( connection ), AccessMode.WRITE, connection.address(),
@@ -87,13 +87,40 @@ public class RoutingNetworkSessionTest
         verifyNoMoreInteractions( onError );
     }
 
+    @Test
+    public void shouldHandleConnectionFailuresWhenExecuting()
+    {
+        // Given
+        doThrow( new ServiceUnavailableException( "oh no" ) ).
+                when( connection ).run( anyString(), any( Value.class ), any( Collector.class ) );
+
+        RoutingNetworkSession result =
+                new RoutingNetworkSession( new NetworkSession( connection ), AccessMode.WRITE, connection.address(),
+                        onError );
+
+        // When
+        try
+        {
+            result.execute( "CREATE ()", Values.EmptyMap );
+            fail();
+        }
+        catch ( SessionExpiredException e )
+        {
+            //ignore
+        }
+
+        // Then
+        verify( onError ).onConnectionFailure( LOCALHOST );
+        verifyNoMoreInteractions( onError );
+    }
+
     @SuppressWarnings( "unchecked" )
     @Test
     public void shouldHandleWriteFailuresInWriteAccessMode()
     {
         // Given
         doThrow( new ClientException( "Neo.ClientError.Cluster.NotALeader", "oh no!" ) ).
-                when( connection ).run( anyString(), any( Map.class ), any( Collector.class ) );
+                when( connection ).run( anyString(), any( Value.class ), any( Collector.class ) );
         RoutingNetworkSession session =
                 new RoutingNetworkSession( new NetworkSession(connection), AccessMode.WRITE, connection.address(),
                         onError );
@@ -120,7 +147,7 @@ public class RoutingNetworkSessionTest
     {
         // Given
         doThrow( new ClientException( "Neo.ClientError.Cluster.NotALeader", "oh no!" ) ).
-                when( connection ).run( anyString(), any( Map.class ), any( Collector.class ) );
+                when( connection ).run( anyString(), any( Value.class ), any( Collector.class ) );
         RoutingNetworkSession session =
                 new RoutingNetworkSession( new NetworkSession( connection ), AccessMode.READ, connection.address(), onError );
 
@@ -144,7 +171,7 @@ public class RoutingNetworkSessionTest
         // Given
         ClientException toBeThrown = new ClientException( "code", "oh no!" );
         doThrow( toBeThrown ).
-                when( connection ).run( anyString(), any( Map.class ), any( Collector.class ) );
+                when( connection ).run( anyString(), any( Value.class ), any( Collector.class ) );
         RoutingNetworkSession session =
                 new RoutingNetworkSession( new NetworkSession( connection ), AccessMode.WRITE, connection.address(), onError );
 
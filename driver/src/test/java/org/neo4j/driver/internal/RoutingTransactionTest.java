@@ -23,13 +23,12 @@ import org.junit.Test;
 import org.mockito.invocation.InvocationOnMock;
 import org.mockito.stubbing.Answer;
 
-import java.util.Map;
-
 import org.neo4j.driver.internal.net.BoltServerAddress;
 import org.neo4j.driver.internal.spi.Collector;
 import org.neo4j.driver.internal.spi.Connection;
 import org.neo4j.driver.v1.AccessMode;
 import org.neo4j.driver.v1.Transaction;
+import org.neo4j.driver.v1.Value;
 import org.neo4j.driver.v1.exceptions.ClientException;
 import org.neo4j.driver.v1.exceptions.ServiceUnavailableException;
 import org.neo4j.driver.v1.exceptions.SessionExpiredException;
@@ -91,7 +90,7 @@ public class RoutingTransactionTest
         // Given
 
         doAnswer( throwingAnswer( new ServiceUnavailableException( "oh no" ) ) )
-                .when( connection ).run( anyString(), any( Map.class ), any( Collector.class ) );
+                .when( connection ).run( anyString(), any( Value.class ), any( Collector.class ) );
 
         RoutingTransaction tx =
                 new RoutingTransaction( new ExplicitTransaction( connection, cleanup ), AccessMode.READ, LOCALHOST,
@@ -119,7 +118,7 @@ public class RoutingTransactionTest
     {
         // Given
         doAnswer( throwingAnswer( new ClientException( "Neo.ClientError.Cluster.NotALeader", "oh no!" ) ) )
-                .when( connection ).run( anyString(), any( Map.class ), any( Collector.class ) );
+                .when( connection ).run( anyString(), any( Value.class ), any( Collector.class ) );
 
         RoutingTransaction tx =
                 new RoutingTransaction( new ExplicitTransaction( connection, cleanup ), AccessMode.WRITE,
@@ -147,7 +146,7 @@ public class RoutingTransactionTest
     {
         // Given
         doAnswer( throwingAnswer( new ClientException( "Neo.ClientError.Cluster.NotALeader", "oh no!" ) ) )
-                .when( connection ).run( anyString(), any( Map.class ), any( Collector.class ) );
+                .when( connection ).run( anyString(), any( Value.class ), any( Collector.class ) );
         RoutingTransaction tx =
                 new RoutingTransaction( new ExplicitTransaction( connection, cleanup ), AccessMode.READ,
                         connection.address(), onError );
@@ -172,7 +171,7 @@ public class RoutingTransactionTest
         // Given
         ClientException toBeThrown = new ClientException( "code", "oh no!" );
         doAnswer( throwingAnswer( toBeThrown ) )
-                .when( connection ).run( anyString(), any( Map.class ), any( Collector.class ) );
+                .when( connection ).run( anyString(), any( Value.class ), any( Collector.class ) );
         RoutingTransaction tx =
                 new RoutingTransaction( new ExplicitTransaction( connection, cleanup ), AccessMode.WRITE,
                         connection.address(), onError );
@@ -18,7 +18,6 @@
  */
 package org.neo4j.driver.internal.cluster;
 
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
@@ -35,6 +34,7 @@ import org.neo4j.driver.internal.spi.Collector;
 import org.neo4j.driver.internal.spi.Connection;
 import org.neo4j.driver.internal.util.FakeClock;
 import org.neo4j.driver.v1.Value;
+import org.neo4j.driver.v1.Values;
 import org.neo4j.driver.v1.exceptions.ServiceUnavailableException;
 
 import static java.util.Arrays.asList;
@@ -165,7 +165,7 @@ public class ClusterCompositionProviderTest
     {
         stubber.when( connection ).run(
                 eq( ClusterComposition.Provider.GET_SERVERS ),
-                eq( Collections.<String,Value>emptyMap() ),
+                eq( Values.EmptyMap ),
                 any( Collector.class ) );
     }
 
@@ -0,0 +1,74 @@
+/**
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.messaging;
+
+import org.junit.Test;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class EncodedTextCacheTest
+{
+    private static final String LONG_STATEMENT =
+            "MATCH (p:Person {name: {name}})-[:KNOWS]->(friend:Person) RETURN friend.name AS name, friend.age AS age";
+
+    private final EncodedTextCache cache = new EncodedTextCache();
+
+    @Test
+    public void shouldReuseEncodingOfTheSameText()
+    {
+        // When
+        byte[] first = cache.encode( LONG_STATEMENT );
+        byte[] second = cache.encode( LONG_STATEMENT );
+
+        // Then
+        assertThat( second, sameInstance( first ) );
+        assertThat( first, equalTo( LONG_STATEMENT.getBytes( UTF_8 ) ) );
+    }
+
+    @Test
+    public void shouldEncodeEqualTextOfAnotherInstance()
+    {
+        // Given
+        String copy = new String( LONG_STATEMENT );
+
+        // When
+        byte[] first = cache.encode( LONG_STATEMENT );
+        byte[] second = cache.encode( copy );
+
+        // Then
+        assertThat( second, not( sameInstance( first ) ) );
+        assertThat( second, equalTo( first ) );
+    }
+
+    @Test
+    public void shouldEncodeShortTextsEveryTime()
+    {
+        // Given
+        String text = "RETURN 1";
+
+        // Then
+        assertThat( cache.encode( text ), not( sameInstance( cache.encode( text ) ) ) );
+        assertThat( cache.encode( null ), nullValue() );
+    }
+}
@@ -21,6 +21,8 @@ package org.neo4j.driver.internal.messaging;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
@@ -29,20 +31,30 @@ import java.nio.channels.Channels;
 import java.nio.channels.WritableByteChannel;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 
 import org.neo4j.driver.internal.InternalNode;
 import org.neo4j.driver.internal.InternalPath;
 import org.neo4j.driver.internal.InternalRelationship;
+import org.neo4j.driver.internal.net.BufferingChunkedInput;
 import org.neo4j.driver.internal.net.ChunkedOutput;
+import org.neo4j.driver.internal.packstream.BufferedChannelInput;
+import org.neo4j.driver.internal.packstream.BufferedChannelOutput;
 import org.neo4j.driver.internal.packstream.PackStream;
 import org.neo4j.driver.internal.util.BytePrinter;
+import org.neo4j.driver.v1.PreparedStatement;
 import org.neo4j.driver.v1.Value;
 import org.neo4j.driver.v1.util.DumpMessage;
 
 import static java.util.Arrays.asList;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.hamcrest.Matchers.startsWith;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
 import static org.neo4j.driver.v1.Values.EmptyMap;
 import static org.neo4j.driver.v1.Values.ofValue;
 import static org.neo4j.driver.v1.Values.parameters;
@@ -68,6 +80,23 @@ public class MessageFormatTest
         assertSerializes( new InitMessage( "JavaDriver/1.0.0", parameters().asMap( ofValue()) ) );
     }
 
+    @Test
+    public void shouldPackRunMessageWithParametersGivenAsValue() throws Throwable
+    {
+        assertSerializes( new RunMessage( "Hello", parameters() ) );
+        assertSerializes( new RunMessage( "Hello", parameters( "a", 12, "b", parameters( "c", "d" ) ) ) );
+        assertThat( new RunMessage( "Hello", parameters( "a", 12 ) ),
+                equalTo( new RunMessage( "Hello", parameters( "a", 12 ).asMap( ofValue() ) ) ) );
+    }
+
+    @Test
+    public void shouldPackRunMessageWithParametersOfPreparedStatement() throws Throwable
+    {
+        PreparedStatement prepared = new PreparedStatement( "Hello", "a", "b" );
+        assertSerializes( new RunMessage( "Hello", prepared.bind( 12, parameters( "c", "d" ) ).parameters() ) );
+        assertSerializes( new RunMessage( "Hello", new PreparedStatement( "Hello" ).bind().parameters() ) );
+    }
+
     @Test
     public void shouldUnpackAllResponses() throws Throwable
     {
@@ -103,6 +132,102 @@ public class MessageFormatTest
         assertSerializesValue( value( new InternalPath( new InternalNode( 1 ) ) ) );
     }
 
+    @Test
+    public void shouldUnpackRecordsLazily() throws Throwable
+    {
+        // Given
+        StringBuilder longString = new StringBuilder();
+        Value[] longList = new Value[300];
+        for ( int i = 0; i < longList.length; i++ )
+        {
+            longString.append( "caf\u00E9 " );
+            longList[i] = value( i * 1_000_000_000L );
+        }
+        RecordMessage record = new RecordMessage( new Value[]{
+                value( (Object) null ), value( true ), value( -7 ), value( 300 ), value( 70_000 ),
+                value( Long.MAX_VALUE ), value( 1.5 ), value( "" ), value( longString.toString() ),
+                value( longList ), value( parameters( "k", 12, "a", "banana" ) ),
+                value( new InternalNode( 1, Collections.singletonList( "User" ),
+                        parameters( "name", "Bob" ).asMap( ofValue() ) ) ),
+                value( new InternalPath(
+                        new InternalNode( 1 ),
+                        new InternalRelationship( 2, 1, 3, "KNOWS", EmptyMap.asMap( ofValue() ) ),
+                        new InternalNode( 3 ) ) )} );
+        ByteArrayOutputStream out = new ByteArrayOutputStream( 128 );
+        MessageFormat.Writer writer = format.newWriter( Channels.newChannel( out ) );
+        writer.write( record ).flush();
+
+        // When
+        BufferingChunkedInput input = new BufferingChunkedInput(
+                Channels.newChannel( new ByteArrayInputStream( out.toByteArray() ) ) );
+        MessageFormat.Reader reader =
+                new PackStreamMessageFormatV1.Reader( input, input.messageBoundaryHook(), true );
+        ArrayList<Message> messages = new ArrayList<>();
+        DumpMessage.unpack( messages, reader );
+
+        // Then
+        assertThat( messages.toString(), equalTo( asList( record ).toString() ) );
+    }
+
+    @Test
+    public void shouldShareEntitiesBetweenRecordsOfOneResult() throws Throwable
+    {
+        // Given a node and a relationship in two records, and the node again in the next result
+        Value node = value( new InternalNode( 1, Collections.singletonList( "User" ),
+                parameters( "name", "Bob" ).asMap( ofValue() ) ) );
+        Value rel = value( new InternalRelationship( 2, 1, 1, "KNOWS",
+                parameters( "since", 1999 ).asMap( ofValue() ) ) );
+        ByteArrayOutputStream out = new ByteArrayOutputStream( 128 );
+        BufferedChannelOutput output = new BufferedChannelOutput( Channels.newChannel( out ) );
+        MessageHandler writer =
+                new PackStreamMessageFormatV1.Writer( output, new PackStreamMessageFormatV1.NoOpRunnable() );
+        writer.handleRecordMessage( new Value[]{node, rel} );
+        writer.handleRecordMessage( new Value[]{node, rel} );
+        writer.handleSuccessMessage( Collections.<String,Value>emptyMap() );
+        writer.handleRecordMessage( new Value[]{node, rel} );
+        output.flush();
+
+        for ( boolean lazyRecords : new boolean[]{false, true} )
+        {
+            // When
+            PackStreamMessageFormatV1.Reader reader = new PackStreamMessageFormatV1.Reader(
+                    new BufferedChannelInput( Channels.newChannel( new ByteArrayInputStream( out.toByteArray() ) ) ),
+                    new PackStreamMessageFormatV1.NoOpRunnable(), lazyRecords, 16 );
+            final List<Value[]> records = new ArrayList<>();
+            MessageHandler handler = mock( MessageHandler.class );
+            doAnswer( new Answer<Void>()
+            {
+                @Override
+                public Void answer( InvocationOnMock invocation ) throws Throwable
+                {
+                    records.add( (Value[]) invocation.getArguments()[0] );
+                    return null;
+                }
+            } ).when( handler ).handleRecordMessage( any( Value[].class ) );
+            doAnswer( new Answer<Void>()
+            {
+                @Override
+                public Void answer( InvocationOnMock invocation ) throws Throwable
+                {
+                    records.add( ((EncodedRecord) invocation.getArguments()[0]).values() );
+                    return null;
+                }
+            } ).when( handler ).handleRecordMessage( any( EncodedRecord.class ) );
+            for ( int i = 0; i < 4; i++ )
+            {
+                reader.read( handler );
+            }
+
+            // Then
+            assertThat( records.size(), equalTo( 3 ) );
+            assertThat( records.get( 1 )[0].asNode(), sameInstance( records.get( 0 )[0].asNode() ) );
+            assertThat( records.get( 1 )[1].asRelationship(), sameInstance( records.get( 0 )[1].asRelationship() ) );
+            assertThat( records.get( 2 )[0].asNode(), not( sameInstance( records.get( 0 )[0].asNode() ) ) );
+            assertThat( records.get( 2 )[0], equalTo( node ) );
+            assertThat( records.get( 2 )[1], equalTo( rel ) );
+        }
+    }
+
     @Test
     public void shouldGiveHelpfulErrorOnMalformedNodeStruct() throws Throwable
     {
@@ -38,6 +38,7 @@ import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.mock;
@@ -109,6 +110,39 @@ public class BufferingChunkedInputTest
         assertThat( dst, equalTo( new byte[]{1, 2, 3, 4, 5, 6, 7, 8} ) );
     }
 
+    @Test
+    public void shouldReadStringsWithinChunk() throws IOException
+    {
+        // Given
+        BufferingChunkedInput input = new BufferingChunkedInput(
+                packet( 0, 9, 0x7F, 'a', 'b', 'c', 'c', 'a', 'f', 0xC3, 0xA9, 0, 0 ) );
+        input.readByte();
+
+        // When
+        String ascii = input.readString( 3 );
+        String unicode = input.readString( 5 );
+
+        // Then
+        assertThat( ascii, equalTo( "abc" ) );
+        assertThat( unicode, equalTo( "caf\u00E9" ) );
+        assertThat( input.remainingChunkSize(), equalTo( 0 ) );
+    }
+
+    @Test
+    public void shouldReadStringsAcrossHeaders() throws IOException
+    {
+        // Given
+        BufferingChunkedInput input = new BufferingChunkedInput(
+                packets( packet( 0, 3, 0x7F, 'c', 0xC3 ), packet( 0, 1, 0xA9, 0, 0 ) ) );
+        input.readByte();
+
+        // When
+        String string = input.readString( 3 );
+
+        // Then
+        assertThat( string, equalTo( "c\u00E9" ) );
+    }
+
     @Test
     public void shouldReadChunkWithSplitHeaderForBigMessages() throws IOException
     {
@@ -515,6 +549,63 @@ public class BufferingChunkedInputTest
         assertFalse( channel.isOpen() );
     }
 
+    @Test
+    public void shouldGrowBufferWhileReadsFillItAndShrinkItWhenTheyDoNot() throws IOException
+    {
+        // Given a chunk arriving as fast as it can be read, followed by one that trickles in
+        byte[] bytes = new byte[2 + 0xFFFF + 2 + 512 + 2];
+        ByteBuffer.wrap( bytes ).putShort( 0, (short) 0xFFFF ).putShort( 2 + 0xFFFF, (short) 512 );
+        final int trickleFrom = 2 + 0xFFFF;
+        final ByteArrayInputStream stream = new ByteArrayInputStream( bytes );
+        ReadableByteChannel channel = new ReadableByteChannel()
+        {
+            private int position = 0;
+
+            @Override
+            public int read( ByteBuffer dst ) throws IOException
+            {
+                int length = position < trickleFrom ? Math.min( dst.remaining(), trickleFrom - position ) : 1;
+                byte[] read = new byte[length];
+                int n = stream.read( read, 0, length );
+                if ( n > 0 )
+                {
+                    dst.put( read, 0, n );
+                    position += n;
+                }
+                return n;
+            }
+
+            @Override
+            public boolean isOpen()
+            {
+                return true;
+            }
+
+            @Override
+            public void close() throws IOException
+            {
+            }
+        };
+        TransportCounters counters = new TransportCounters();
+        BufferingChunkedInput input = new BufferingChunkedInput( channel,
+                new SocketSettings( 64, 8192, true, false, counters ) );
+
+        // When
+        input.readBytes( new byte[0xFFFF], 0, 0xFFFF );
+
+        // Then
+        assertTrue( input.bufferCapacity() > 64 );
+        assertTrue( counters.reads() < 0xFFFF / 64 );
+
+        // When
+        input.readBytes( new byte[512], 0, 512 );
+        input.messageBoundaryHook().run();
+
+        // Then
+        assertThat( input.bufferCapacity(), equalTo( 64 ) );
+        assertThat( counters.messagesReceived(), equalTo( 1L ) );
+    }
+
     private ReadableByteChannel fillPacket( int size, int value )
     {
         int[] ints = new int[size];
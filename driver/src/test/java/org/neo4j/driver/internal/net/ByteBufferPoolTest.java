@@ -0,0 +1,131 @@
+/**
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.net;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class ByteBufferPoolTest
+{
+    private final ByteBufferPool pool = new ByteBufferPool( 4 * 1024 );
+
+    @Test
+    public void shouldHandOutDirectBuffersOfTheRequestedCapacity() throws Throwable
+    {
+        // When
+        ByteBuffer buffer = pool.acquire( 1400 ).buffer();
+
+        // Then
+        assertTrue( buffer.isDirect() );
+        assertThat( buffer.capacity(), equalTo( 1400 ) );
+        assertThat( buffer.position(), equalTo( 0 ) );
+        assertThat( buffer.limit(), equalTo( 1400 ) );
+    }
+
+    @Test
+    public void shouldReuseReleasedBuffers() throws Throwable
+    {
+        // Given
+        PooledByteBuffer first = pool.acquire( 1000 );
+        first.buffer().put( (byte) 42 );
+
+        // When
+        assertTrue( first.release() );
+        PooledByteBuffer second = pool.acquire( 1024 );
+
+        // Then
+        assertThat( pool.idleBuffers(), equalTo( 0 ) );
+        assertThat( second.buffer().get( 0 ), equalTo( (byte) 42 ) );
+        assertThat( second.buffer().position(), equalTo( 0 ) );
+    }
+
+    @Test
+    public void shouldOnlyRecycleOnceAllReferencesAreReleased() throws Throwable
+    {
+        // Given
+        PooledByteBuffer buffer = pool.acquire( 512 ).retain();
+
+        // When & Then
+        assertFalse( buffer.release() );
+        assertThat( pool.idleBuffers(), equalTo( 0 ) );
+        assertTrue( buffer.release() );
+        assertThat( pool.idleBuffers(), equalTo( 1 ) );
+    }
+
+    @Test
+    public void shouldFailToReleaseTwice() throws Throwable
+    {
+        // Given
+        PooledByteBuffer buffer = pool.acquire( 512 );
+        buffer.release();
+
+        // When
+        try
+        {
+            buffer.release();
+            fail( "Should have failed to release a buffer twice" );
+        }
+        catch ( IllegalStateException e )
+        {
+            // Then
+            assertThat( pool.idleBuffers(), equalTo( 1 ) );
+        }
+    }
+
+    @Test
+    public void shouldBoundTheNumberOfIdleBuffers() throws Throwable
+    {
+        // Given
+        PooledByteBuffer[] buffers = new PooledByteBuffer[8];
+        for ( int i = 0; i < buffers.length; i++ )
+        {
+            buffers[i] = pool.acquire( 1024 );
+        }
+
+        // When
+        for ( PooledByteBuffer buffer : buffers )
+        {
+            buffer.release();
+        }
+
+        // Then only 4KiB worth of 1KiB buffers are kept
+        assertThat( pool.idleBuffers(), equalTo( 4 ) );
+    }
+
+    @Test
+    public void shouldNotPoolBuffersLargerThanTheLargestSizeClass() throws Throwable
+    {
+        // Given
+        PooledByteBuffer buffer = pool.acquire( ByteBufferPool.MAX_POOLED_CAPACITY + 1 );
+
+        // When
+        buffer.release();
+
+        // Then
+        assertThat( buffer.buffer().capacity(), equalTo( ByteBufferPool.MAX_POOLED_CAPACITY + 1 ) );
+        assertThat( pool.idleBuffers(), equalTo( 0 ) );
+    }
+}
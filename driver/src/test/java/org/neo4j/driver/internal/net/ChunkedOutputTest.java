@@ -21,11 +21,20 @@ package org.neo4j.driver.internal.net;
 import org.hamcrest.MatcherAssert;
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.GatheringByteChannel;
+
 import org.neo4j.driver.internal.util.BytePrinter;
 import org.neo4j.driver.v1.util.RecordingByteChannel;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.fail;
 
 public class ChunkedOutputTest
 {
@@ -95,4 +104,138 @@ public class ChunkedOutputTest
         assertThat( BytePrinter.hex( channel.getBytes() ),
                 equalTo( "00 0c 04 05 06 07 08 09    0a 0b 0c 0d 0e 0f 00 00    " ) );
     }
+
+    @Test
+    public void shouldGiveBufferBackToPoolOnRelease() throws Throwable
+    {
+        // Given
+        ByteBufferPool pool = new ByteBufferPool( 1024 );
+        ChunkedOutput output = new ChunkedOutput( 16, channel, pool );
+        output.writeByte( (byte) 1 );
+
+        // When
+        output.release();
+        output.release();
+
+        // Then
+        assertThat( pool.idleBuffers(), equalTo( 1 ) );
+        try
+        {
+            output.writeByte( (byte) 2 );
+            fail( "Should not be able to write after the buffer was released" );
+        }
+        catch ( ClosedChannelException e )
+        {
+            assertThat( channel.getBytes().length, equalTo( 0 ) );
+        }
+    }
+
+    @Test
+    public void shouldWriteLargeDataWithoutCopyingItIntoTheBuffer() throws Throwable
+    {
+        // Given
+        GatheringChannel gathering = new GatheringChannel();
+        ChunkedOutput output = new ChunkedOutput( 16, gathering );
+        byte[] data = new byte[20];
+        for ( int i = 0; i < data.length; i++ )
+        {
+            data[i] = (byte) i;
+        }
+
+        // When
+        output.writeByte( (byte) 0x7F ).writeBytes( data, 0, data.length );
+        output.messageBoundaryHook().run();
+        output.flush();
+
+        // Then
+        assertThat( gathering.gatheringWrites, equalTo( 1 ) );
+        assertThat( BytePrinter.hex( gathering.bytes.toByteArray() ), equalTo( BytePrinter.hex( new byte[]{
+                0x00, 0x01, 0x7F,
+                0x00, 0x14, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19,
+                0x00, 0x00} ) ) );
+    }
+
+    @Test
+    public void shouldGrowBufferForLargeMessagesAndShrinkItForSmallOnes() throws Throwable
+    {
+        // Given
+        TransportCounters counters = new TransportCounters();
+        ChunkedOutput output = new ChunkedOutput( channel, new SocketSettings( 1400, 16, true, false, counters ) );
+        byte[] data = new byte[100];
+        for ( int i = 0; i < data.length; i++ )
+        {
+            data[i] = (byte) i;
+        }
+
+        // When
+        output.writeBytes( data, 0, data.length );
+        output.messageBoundaryHook().run();
+        output.flush();
+
+        // Then
+        assertThat( output.bufferSize(), equalTo( 32 ) );
+
+        // When
+        for ( int i = 0; i < ChunkedOutput.SHRINK_AFTER_SMALL_FLUSHES; i++ )
+        {
+            output.writeByte( (byte) 1 );
+            output.messageBoundaryHook().run();
+            output.flush();
+        }
+
+        // Then
+        assertThat( output.bufferSize(), equalTo( 16 ) );
+        assertThat( counters.messagesSent(), equalTo( ChunkedOutput.SHRINK_AFTER_SMALL_FLUSHES + 1L ) );
+        BufferingChunkedInput input = new BufferingChunkedInput(
+                Channels.newChannel( new ByteArrayInputStream( channel.getBytes() ) ) );
+        byte[] read = new byte[data.length];
+        input.readBytes( read, 0, read.length );
+        assertThat( read, equalTo( data ) );
+    }
+
+    private static class GatheringChannel implements GatheringByteChannel
+    {
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private int gatheringWrites;
+
+        @Override
+        public long write( ByteBuffer[] srcs, int offset, int length ) throws IOException
+        {
+            gatheringWrites++;
+            long written = 0;
+            for ( int i = offset; i < offset + length; i++ )
+            {
+                written += write( srcs[i] );
+            }
+            return written;
+        }
+
+        @Override
+        public long write( ByteBuffer[] srcs ) throws IOException
+        {
+            return write( srcs, 0, srcs.length );
+        }
+
+        @Override
+        public int write( ByteBuffer src ) throws IOException
+        {
+            int written = src.remaining();
+            while ( src.hasRemaining() )
+            {
+                bytes.write( src.get() );
+            }
+            return written;
+        }
+
+        @Override
+        public boolean isOpen()
+        {
+            return true;
+        }
+
+        @Override
+        public void close() throws IOException
+        {
+        }
+    }
 }
@@ -25,9 +25,11 @@ import org.mockito.invocation.InvocationOnMock;
 import org.mockito.stubbing.Answer;
 
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.neo4j.driver.internal.spi.Connection;
+import org.neo4j.driver.v1.Value;
 import org.neo4j.driver.v1.util.Function;
 import org.neo4j.driver.v1.exceptions.ClientException;
 
@@ -49,6 +51,7 @@ public class ConcurrencyGuardingConnectionTest
         return asList(
                 new Object[]{INIT},
                 new Object[]{RUN},
+                new Object[]{RUN_WITH_PARAMETER_VALUE},
                 new Object[]{PULL_ALL},
                 new Object[]{DISCARD_ALL},
                 new Object[]{CLOSE},
@@ -110,7 +113,17 @@ public class ConcurrencyGuardingConnectionTest
         @Override
         public Void apply( Connection connection )
         {
-            connection.run(null, null, null);
+            connection.run(null, (Map<String,Value>) null, null);
+            return null;
+        }
+    };
+
+    public static final Function<Connection,Void> RUN_WITH_PARAMETER_VALUE = new Function<Connection,Void>()
+    {
+        @Override
+        public Void apply( Connection connection )
+        {
+            connection.run( null, (Value) null, null );
             return null;
         }
     };
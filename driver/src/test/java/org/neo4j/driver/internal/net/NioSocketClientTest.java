@@ -0,0 +1,533 @@
+/**
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.net;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Queue;
+import java.security.KeyStore;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLServerSocket;
+import javax.net.ssl.SSLSocket;
+
+import org.neo4j.driver.internal.logging.DevNullLogger;
+import org.neo4j.driver.internal.messaging.Message;
+import org.neo4j.driver.internal.messaging.PackStreamMessageFormatV1;
+import org.neo4j.driver.internal.messaging.RecordMessage;
+import org.neo4j.driver.internal.messaging.RunMessage;
+import org.neo4j.driver.internal.messaging.SuccessMessage;
+import org.neo4j.driver.internal.security.SecurityPlan;
+import org.neo4j.driver.internal.spi.Collector;
+import org.neo4j.driver.v1.Logger;
+import org.neo4j.driver.v1.Logging;
+import org.neo4j.driver.v1.Value;
+import org.neo4j.driver.v1.exceptions.ServiceUnavailableException;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.neo4j.driver.internal.messaging.PullAllMessage.PULL_ALL;
+import static org.neo4j.driver.v1.Values.value;
+import static org.neo4j.driver.v1.Values.values;
+
+public class NioSocketClientTest
+{
+    @Rule
+    public TemporaryFolder testDir = new TemporaryFolder();
+
+    private final SocketEventLoopGroup eventLoops = new SocketEventLoopGroup( 1, new Logging()
+    {
+        @Override
+        public Logger getLog( String name )
+        {
+            return DevNullLogger.DEV_NULL_LOGGER;
+        }
+    } );
+
+    @After
+    public void tearDown()
+    {
+        eventLoops.close();
+    }
+
+    @Test
+    public void shouldSendAndReceiveMessagesThroughEventLoop() throws Throwable
+    {
+        // Given a server replying with a header, a record and a footer, one byte at a time
+        Map<String,Value> header = new HashMap<>();
+        header.put( "fields", value( Collections.singletonList( "x" ) ) );
+        final byte[] reply = serialize(
+                new SuccessMessage( header ),
+                new RecordMessage( values( 42 ) ),
+                new SuccessMessage( new HashMap<String,Value>() ) );
+        FakeServer server = new FakeServer( reply, 2 );
+
+        NioSocketClient client = new NioSocketClient( server.address(), SecurityPlan.insecure(),
+                DevNullLogger.DEV_NULL_LOGGER, eventLoops );
+        client.start();
+
+        // When
+        SocketResponseHandler handler = new SocketResponseHandler();
+        RecordingCollector run = new RecordingCollector();
+        RecordingCollector pull = new RecordingCollector();
+        handler.appendResultCollector( run );
+        handler.appendResultCollector( pull );
+
+        Queue<Message> messages = new LinkedList<>();
+        messages.add( new RunMessage( "RETURN 42 AS x", Collections.<String,Value>emptyMap() ) );
+        messages.add( PULL_ALL );
+        client.send( messages );
+        client.receiveAll( handler );
+
+        // Then
+        assertThat( run.keys, equalTo( new String[]{"x"} ) );
+        assertThat( pull.records, equalTo( 1 ) );
+        assertThat( pull.done, equalTo( true ) );
+        assertThat( server.await(), equalTo( 2 ) );
+        client.stop();
+    }
+
+    @Test
+    public void shouldCompleteAsyncReceivesFromEventLoop() throws Throwable
+    {
+        // Given
+        Map<String,Value> header = new HashMap<>();
+        header.put( "fields", value( Collections.singletonList( "x" ) ) );
+        final byte[] reply = serialize(
+                new SuccessMessage( header ),
+                new RecordMessage( values( 42 ) ),
+                new SuccessMessage( new HashMap<String,Value>() ) );
+        FakeServer server = new FakeServer( reply, 2 );
+
+        NioSocketClient client = new NioSocketClient( server.address(), SecurityPlan.insecure(),
+                DevNullLogger.DEV_NULL_LOGGER, eventLoops );
+        client.start();
+
+        SocketResponseHandler handler = new SocketResponseHandler();
+        RecordingCollector run = new RecordingCollector();
+        RecordingCollector pull = new RecordingCollector();
+        handler.appendResultCollector( run );
+        handler.appendResultCollector( pull );
+
+        Queue<Message> messages = new LinkedList<>();
+        messages.add( new RunMessage( "RETURN 42 AS x", Collections.<String,Value>emptyMap() ) );
+        messages.add( PULL_ALL );
+        client.send( messages );
+
+        // When
+        CompletableFuture<Void> first = client.receiveOneAsync( handler ).toCompletableFuture();
+        CompletableFuture<Void> second = client.receiveOneAsync( handler ).toCompletableFuture();
+        CompletableFuture<Void> third = client.receiveOneAsync( handler ).toCompletableFuture();
+        third.get( 10, SECONDS );
+
+        // Then
+        assertTrue( first.isDone() && second.isDone() );
+        assertThat( run.keys, equalTo( new String[]{"x"} ) );
+        assertThat( pull.records, equalTo( 1 ) );
+        assertThat( pull.done, equalTo( true ) );
+
+        // And further receives fail once the server has gone
+        try
+        {
+            client.receiveOneAsync( handler ).toCompletableFuture().get( 10, SECONDS );
+            fail( "Expected the receive to fail" );
+        }
+        catch ( ExecutionException e )
+        {
+            assertThat( e.getCause(), instanceOf( ServiceUnavailableException.class ) );
+        }
+        client.stop();
+    }
+
+    @Test
+    public void shouldStopReadingWhileReceivedMessagesAreNotAskedFor() throws Throwable
+    {
+        // Given a reply much larger than what the client buffers without being asked
+        int recordCount = 1000;
+        char[] padding = new char[1000];
+        Arrays.fill( padding, 'x' );
+        Message[] replies = new Message[recordCount + 2];
+        Map<String,Value> header = new HashMap<>();
+        header.put( "fields", value( Collections.singletonList( "x" ) ) );
+        replies[0] = new SuccessMessage( header );
+        for ( int i = 1; i <= recordCount; i++ )
+        {
+            replies[i] = new RecordMessage( values( new String( padding ) ) );
+        }
+        replies[recordCount + 1] = new SuccessMessage( new HashMap<String,Value>() );
+        FakeServer server = new FakeServer( serialize( replies ), 2, 8192 );
+
+        NioSocketClient client = new NioSocketClient( server.address(), SecurityPlan.insecure(),
+                DevNullLogger.DEV_NULL_LOGGER, eventLoops );
+        client.start();
+
+        SocketResponseHandler handler = new SocketResponseHandler();
+        RecordingCollector run = new RecordingCollector();
+        RecordingCollector pull = new RecordingCollector();
+        handler.appendResultCollector( run );
+        handler.appendResultCollector( pull );
+
+        Queue<Message> messages = new LinkedList<>();
+        messages.add( new RunMessage( "UNWIND range(1, 1000) AS i RETURN $padding", Collections.<String,Value>emptyMap() ) );
+        messages.add( PULL_ALL );
+        client.send( messages );
+
+        // When only the header is asked for
+        client.receiveOneAsync( handler ).toCompletableFuture().get( 10, SECONDS );
+
+        // Then the client stops reading
+        long deadline = System.currentTimeMillis() + 10_000;
+        while ( !client.isReadPaused() && System.currentTimeMillis() < deadline )
+        {
+            Thread.sleep( 10 );
+        }
+        assertTrue( client.isReadPaused() );
+        assertThat( pull.records, equalTo( 0 ) );
+
+        // And resumes reading as the rest is asked for
+        while ( !pull.done )
+        {
+            client.receiveOneAsync( handler ).toCompletableFuture().get( 10, SECONDS );
+        }
+        assertThat( pull.records, equalTo( recordCount ) );
+        assertThat( server.await(), equalTo( 2 ) );
+        client.stop();
+    }
+
+    @Test
+    public void shouldFailWaitingReceiverWhenServerDisconnects() throws Throwable
+    {
+        // Given a server that closes the connection without replying
+        FakeServer server = new FakeServer( new byte[0], 0 );
+        NioSocketClient client = new NioSocketClient( server.address(), SecurityPlan.insecure(),
+                DevNullLogger.DEV_NULL_LOGGER, eventLoops );
+        client.start();
+        server.await();
+
+        SocketResponseHandler handler = new SocketResponseHandler();
+        handler.appendResultCollector( Collector.NO_OP );
+
+        // When
+        try
+        {
+            client.receiveOne( handler );
+            fail( "Expected the receive to fail" );
+        }
+        catch ( ServiceUnavailableException e )
+        {
+            // Then
+            assertThat( e, instanceOf( ServiceUnavailableException.class ) );
+        }
+        assertFalse( client.isOpen() );
+    }
+
+    @Test
+    public void shouldKeepServingOtherConnectionsWhileEncryptedPeerStopsReading() throws Throwable
+    {
+        // Given an encrypted connection to a server that stops reading after the handshake
+        TlsServer tlsServer = new TlsServer( 2 );
+        SecurityPlan securityPlan = SecurityPlan.forTrustOnFirstUse( testDir.newFile( "known_hosts" ),
+                tlsServer.address(), DevNullLogger.DEV_NULL_LOGGER );
+        NioSocketClient encrypted = new NioSocketClient( tlsServer.address(), securityPlan,
+                DevNullLogger.DEV_NULL_LOGGER, eventLoops );
+        encrypted.start();
+
+        // When more is sent than the socket buffers hold
+        char[] padding = new char[8 * 1024 * 1024];
+        Arrays.fill( padding, 'x' );
+        Queue<Message> messages = new LinkedList<>();
+        messages.add( new RunMessage( "RETURN $padding",
+                Collections.singletonMap( "padding", value( new String( padding ) ) ) ) );
+        messages.add( PULL_ALL );
+        encrypted.send( messages );
+
+        // Then another connection on the same event loop still gets its replies
+        Map<String,Value> header = new HashMap<>();
+        header.put( "fields", value( Collections.singletonList( "x" ) ) );
+        FakeServer plainServer = new FakeServer( serialize(
+                new SuccessMessage( header ),
+                new RecordMessage( values( 42 ) ),
+                new SuccessMessage( new HashMap<String,Value>() ) ), 2 );
+        NioSocketClient plain = new NioSocketClient( plainServer.address(), SecurityPlan.insecure(),
+                DevNullLogger.DEV_NULL_LOGGER, eventLoops );
+        plain.start();
+        SocketResponseHandler handler = new SocketResponseHandler();
+        RecordingCollector pull = new RecordingCollector();
+        handler.appendResultCollector( new RecordingCollector() );
+        handler.appendResultCollector( pull );
+        Queue<Message> plainMessages = new LinkedList<>();
+        plainMessages.add( new RunMessage( "RETURN 42 AS x", Collections.<String,Value>emptyMap() ) );
+        plainMessages.add( PULL_ALL );
+        plain.send( plainMessages );
+        plain.receiveOneAsync( handler );
+        plain.receiveOneAsync( handler );
+        plain.receiveOneAsync( handler ).toCompletableFuture().get( 10, SECONDS );
+        assertThat( pull.records, equalTo( 1 ) );
+        plain.stop();
+
+        // And the rest of the encrypted messages are written once the server reads again
+        tlsServer.resume();
+        assertThat( tlsServer.await(), equalTo( 2 ) );
+        encrypted.stop();
+    }
+
+    private static byte[] serialize( Message... messages ) throws IOException
+    {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ChunkedOutput output = new ChunkedOutput( Channels.newChannel( bytes ) );
+        PackStreamMessageFormatV1.Writer writer =
+                new PackStreamMessageFormatV1.Writer( output, output.messageBoundaryHook() );
+        for ( Message message : messages )
+        {
+            writer.write( message );
+        }
+        writer.flush();
+        return bytes.toByteArray();
+    }
+
+    private static class RecordingCollector extends Collector.NoOperationCollector
+    {
+        private volatile String[] keys;
+        private volatile int records;
+        private volatile boolean done;
+
+        @Override
+        public void keys( String[] names )
+        {
+            keys = names;
+        }
+
+        @Override
+        public void record( Value[] fields )
+        {
+            records++;
+        }
+
+        @Override
+        public void done()
+        {
+            done = true;
+        }
+    }
+
+    /**
+     * Accepts a single connection, agrees on protocol version 1, waits for the given number of messages and then
+     * replies with the given bytes, a few bytes at a time, before closing the connection.
+     */
+    private static class FakeServer implements Runnable
+    {
+        private final ServerSocketChannel serverChannel;
+        private final byte[] reply;
+        private final int expectedMessages;
+        private final int writeSize;
+        private final Thread thread;
+        private volatile int receivedMessages;
+        private volatile Throwable error;
+
+        FakeServer( byte[] reply, int expectedMessages ) throws IOException
+        {
+            this( reply, expectedMessages, 1 );
+        }
+
+        FakeServer( byte[] reply, int expectedMessages, int writeSize ) throws IOException
+        {
+            this.writeSize = writeSize;
+            this.serverChannel = ServerSocketChannel.open();
+            this.serverChannel.bind( new InetSocketAddress( "localhost", 0 ) );
+            this.reply = reply;
+            this.expectedMessages = expectedMessages;
+            this.thread = new Thread( this );
+            this.thread.start();
+        }
+
+        BoltServerAddress address() throws IOException
+        {
+            return new BoltServerAddress( "localhost",
+                    ((InetSocketAddress) serverChannel.getLocalAddress()).getPort() );
+        }
+
+        int await() throws Throwable
+        {
+            thread.join( 10_000 );
+            if ( error != null )
+            {
+                throw error;
+            }
+            return receivedMessages;
+        }
+
+        @Override
+        public void run()
+        {
+            try ( ServerSocketChannel server = serverChannel; SocketChannel channel = server.accept() )
+            {
+                readFully( channel, ByteBuffer.allocate( 20 ) );
+                ByteBuffer version = ByteBuffer.allocate( 4 ).putInt( 1 );
+                version.flip();
+                channel.write( version );
+
+                while ( receivedMessages < expectedMessages )
+                {
+                    ByteBuffer chunkHeader = ByteBuffer.allocate( 2 );
+                    readFully( channel, chunkHeader );
+                    int chunkSize = chunkHeader.getShort( 0 ) & 0xFFFF;
+                    if ( chunkSize == 0 )
+                    {
+                        receivedMessages++;
+                    }
+                    else
+                    {
+                        readFully( channel, ByteBuffer.allocate( chunkSize ) );
+                    }
+                }
+
+                for ( int offset = 0; offset < reply.length; offset += writeSize )
+                {
+                    ByteBuffer part = ByteBuffer.wrap( reply, offset, Math.min( writeSize, reply.length - offset ) );
+                    while ( part.hasRemaining() )
+                    {
+                        channel.write( part );
+                    }
+                }
+            }
+            catch ( Throwable e )
+            {
+                error = e;
+            }
+        }
+
+        private static void readFully( SocketChannel channel, ByteBuffer buffer ) throws IOException
+        {
+            while ( buffer.hasRemaining() )
+            {
+                if ( channel.read( buffer ) < 0 )
+                {
+                    throw new IOException( "Client disconnected" );
+                }
+            }
+        }
+    }
+
+    /**
+     * Accepts a single encrypted connection and agrees on protocol version 1, then reads nothing until resumed, and
+     * then waits for the given number of messages before closing the connection.
+     */
+    private static class TlsServer implements Runnable
+    {
+        private final SSLServerSocket serverSocket;
+        private final int expectedMessages;
+        private final CountDownLatch resumed = new CountDownLatch( 1 );
+        private final Thread thread;
+        private volatile int receivedMessages;
+        private volatile Throwable error;
+
+        TlsServer( int expectedMessages ) throws Exception
+        {
+            KeyStore keyStore = KeyStore.getInstance( "JKS" );
+            char[] password = "password".toCharArray();
+            keyStore.load( getClass().getResourceAsStream( "/keystore.jks" ), password );
+            KeyManagerFactory keyManagers = KeyManagerFactory.getInstance( "SunX509" );
+            keyManagers.init( keyStore, password );
+            SSLContext context = SSLContext.getInstance( "TLS" );
+            context.init( keyManagers.getKeyManagers(), null, null );
+
+            this.serverSocket = (SSLServerSocket) context.getServerSocketFactory().createServerSocket( 0 );
+            this.serverSocket.setReceiveBufferSize( 4096 );
+            this.expectedMessages = expectedMessages;
+            this.thread = new Thread( this );
+            this.thread.start();
+        }
+
+        BoltServerAddress address()
+        {
+            return new BoltServerAddress( "localhost", serverSocket.getLocalPort() );
+        }
+
+        void resume()
+        {
+            resumed.countDown();
+        }
+
+        int await() throws Throwable
+        {
+            thread.join( 30_000 );
+            if ( error != null )
+            {
+                throw error;
+            }
+            return receivedMessages;
+        }
+
+        @Override
+        public void run()
+        {
+            try ( SSLServerSocket server = serverSocket; SSLSocket socket = (SSLSocket) server.accept() )
+            {
+                DataInputStream in = new DataInputStream( socket.getInputStream() );
+                OutputStream out = socket.getOutputStream();
+                in.readFully( new byte[20] );
+                out.write( new byte[]{0, 0, 0, 1} );
+                out.flush();
+
+                resumed.await();
+                while ( receivedMessages < expectedMessages )
+                {
+                    int chunkSize = in.readUnsignedShort();
+                    if ( chunkSize == 0 )
+                    {
+                        receivedMessages++;
+                    }
+                    else
+                    {
+                        in.readFully( new byte[chunkSize] );
+                    }
+                }
+            }
+            catch ( Throwable e )
+            {
+                error = e;
+            }
+        }
+    }
+}
@@ -21,14 +21,28 @@ package org.neo4j.driver.internal.net.pooling;
 
 import org.junit.Test;
 
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.neo4j.driver.internal.util.Supplier;
+import org.neo4j.driver.v1.exceptions.ClientException;
+import org.neo4j.driver.v1.util.Function;
 
+import static java.util.Arrays.asList;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -105,4 +119,213 @@ public class BlockingPooledConnectionQueueTest
         assertTrue(queue.offer( connection1 ));
         assertFalse(queue.offer( connection2 ));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldReserveFillsUpToMinSizeCountingPendingOnes()
+    {
+        // Given
+        BlockingPooledConnectionQueue queue = new BlockingPooledConnectionQueue( 10 );
+        queue.offer( mock( PooledConnection.class ) );
+
+        // When
+        int first = queue.reserveFills( 4 );
+        int second = queue.reserveFills( 4 );
+        queue.fillCompleted( true );
+        int third = queue.reserveFills( 4 );
+
+        // Then
+        assertThat( first, equalTo( 3 ) );
+        assertThat( second, equalTo( 0 ) );
+        assertThat( third, equalTo( 1 ) );
+    }
+
+    @Test
+    public void shouldNotReserveFillsWhenTerminating()
+    {
+        // Given
+        BlockingPooledConnectionQueue queue = new BlockingPooledConnectionQueue( 10 );
+        queue.terminate();
+
+        // When
+        int reserved = queue.reserveFills( 4 );
+
+        // Then
+        assertThat( reserved, equalTo( 0 ) );
+    }
+
+    @Test
+    public void shouldHandReleasedConnectionToWaitingThreadWhenFull() throws Throwable
+    {
+        // Given
+        PooledConnection connection = mock( PooledConnection.class );
+        final Supplier<PooledConnection> supplier = mock( Supplier.class );
+        when( supplier.get() ).thenReturn( connection );
+        final BlockingPooledConnectionQueue queue =
+                new BlockingPooledConnectionQueue( 1, 1, 10_000, new AcquisitionMetrics() );
+        queue.acquire( supplier );
+
+        // When
+        Future<PooledConnection> waiting = acquireAsync( queue, supplier );
+        Thread.sleep( 100 );
+        queue.offer( connection );
+
+        // Then
+        assertThat( waiting.get( 10, SECONDS ), equalTo( connection ) );
+        verify( supplier, times( 1 ) ).get();
+    }
+
+    @Test
+    public void shouldLetWaitingThreadConnectWhenConnectionIsDisposed() throws Throwable
+    {
+        // Given
+        PooledConnection connection1 = mock( PooledConnection.class );
+        PooledConnection connection2 = mock( PooledConnection.class );
+        final Supplier<PooledConnection> supplier = mock( Supplier.class );
+        when( supplier.get() ).thenReturn( connection1 ).thenReturn( connection2 );
+        final BlockingPooledConnectionQueue queue =
+                new BlockingPooledConnectionQueue( 1, 1, 10_000, new AcquisitionMetrics() );
+        queue.acquire( supplier );
+
+        // When
+        Future<PooledConnection> waiting = acquireAsync( queue, supplier );
+        Thread.sleep( 100 );
+        queue.dispose( connection1 );
+
+        // Then
+        assertThat( waiting.get( 10, SECONDS ), equalTo( connection2 ) );
+        verify( connection1 ).dispose();
+    }
+
+    @Test
+    public void shouldFailToAcquireAfterTimeoutWhenFull() throws Throwable
+    {
+        // Given
+        Supplier<PooledConnection> supplier = mock( Supplier.class );
+        when( supplier.get() ).thenReturn( mock( PooledConnection.class ) );
+        AcquisitionMetrics metrics = new AcquisitionMetrics();
+        BlockingPooledConnectionQueue queue = new BlockingPooledConnectionQueue( 1, 1, 50, metrics );
+        queue.acquire( supplier );
+
+        // When
+        try
+        {
+            queue.acquire( supplier );
+            fail( "Should not be able to acquire a second connection" );
+        }
+        catch ( ClientException e )
+        {
+            // Then
+            assertThat( e.getMessage(), containsString( "50 ms" ) );
+        }
+        assertThat( metrics.waits(), equalTo( 1L ) );
+        assertThat( metrics.timeouts(), equalTo( 1L ) );
+        verify( supplier, times( 1 ) ).get();
+    }
+
+    @SuppressWarnings( "unchecked" )
+    @Test
+    public void shouldEvictInvalidAndLongIdleConnectionsButKeepMinIdle()
+    {
+        // Given
+        PooledConnection invalid = mock( PooledConnection.class );
+        PooledConnection longIdle = mock( PooledConnection.class );
+        PooledConnection alsoLongIdle = mock( PooledConnection.class );
+        PooledConnection recent = mock( PooledConnection.class );
+        when( longIdle.idleTime() ).thenReturn( 2000L );
+        when( alsoLongIdle.idleTime() ).thenReturn( 2000L );
+        Function<PooledConnection,Boolean> valid = mock( Function.class );
+        when( valid.apply( any( PooledConnection.class ) ) ).thenReturn( true );
+        when( valid.apply( invalid ) ).thenReturn( false );
+        BlockingPooledConnectionQueue queue = new BlockingPooledConnectionQueue( 10 );
+        queue.offer( invalid );
+        queue.offer( longIdle );
+        queue.offer( alsoLongIdle );
+        queue.offer( recent );
+
+        // When
+        int evicted = queue.evict( valid, 1000, 2 );
+
+        // Then the oldest idle connection is closed, until two are left
+        assertThat( evicted, equalTo( 2 ) );
+        verify( longIdle ).dispose();
+        verify( invalid ).dispose();
+        verify( alsoLongIdle, never() ).dispose();
+        assertThat( queue.toList(), equalTo( asList( recent, alsoLongIdle ) ) );
+    }
+
+    @Test
+    public void shouldNotMissConnectionReleasedWhileStartingToWait() throws Throwable
+    {
+        final PooledConnection connection = mock( PooledConnection.class );
+        final Supplier<PooledConnection> supplier = new Supplier<PooledConnection>()
+        {
+            @Override
+            public PooledConnection get()
+            {
+                return connection;
+            }
+        };
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try
+        {
+            for ( int i = 0; i < 2000; i++ )
+            {
+                // Given
+                final BlockingPooledConnectionQueue queue =
+                        new BlockingPooledConnectionQueue( 1, 1, 1000, new AcquisitionMetrics() );
+                queue.acquire( supplier );
+                final AtomicInteger ready = new AtomicInteger();
+
+                // When a release races an acquire at max size
+                Future<PooledConnection> acquired = executor.submit( new Callable<PooledConnection>()
+                {
+                    @Override
+                    public PooledConnection call() throws Exception
+                    {
+                        awaitBoth( ready );
+                        return queue.acquire( supplier );
+                    }
+                } );
+                awaitBoth( ready );
+                queue.offer( connection );
+
+                // Then
+                assertThat( acquired.get( 10, SECONDS ), equalTo( connection ) );
+            }
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void awaitBoth( AtomicInteger ready )
+    {
+        ready.incrementAndGet();
+        while ( ready.get() < 2 )
+        {
+            // spin, so that both threads go on at the same time
+        }
+    }
+
+    private static Future<PooledConnection> acquireAsync( final BlockingPooledConnectionQueue queue,
+            final Supplier<PooledConnection> supplier )
+    {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try
+        {
+            return executor.submit( new Callable<PooledConnection>()
+            {
+                @Override
+                public PooledConnection call() throws Exception
+                {
+                    return queue.acquire( supplier );
+                }
+            } );
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+    }
+}
@@ -69,19 +69,76 @@ public class ConnectionInvalidationTest
                 .when( delegate ).run( anyString(), anyMap(), any( Collector.class ) );
         PoolSettings poolSettings = PoolSettings.defaultSettings();
         when( clock.millis() ).thenReturn( 0L, poolSettings.idleTimeBeforeConnectionTest() + 1L );
+        when( delegate.isOpen() ).thenReturn( true );
         PooledConnection conn = new PooledConnection( delegate, Consumers.<PooledConnection>noOp(), clock );
 
         // When/Then
+        PooledConnectionValidator validator =
+                new PooledConnectionValidator( pool( true ), poolSettings );
+
+        assertFalse( validator.isIdleConnectionValid( conn ) );
+    }
+
+    @SuppressWarnings( "unchecked" )
+    @Test
+    public void shouldNotTestConnectionOnRelease() throws Throwable
+    {
+        // Given a connection that's broken and old
+        Mockito.doThrow( new ClientException( "That didn't work" ) )
+                .when( delegate ).run( anyString(), anyMap(), any( Collector.class ) );
+        PoolSettings poolSettings = PoolSettings.defaultSettings();
+        when( clock.millis() ).thenReturn( 0L, poolSettings.idleTimeBeforeConnectionTest() + 1L );
+        PooledConnection conn = new PooledConnection( delegate, Consumers.<PooledConnection>noOp(), clock );
+        PooledConnectionValidator validator =
+                new PooledConnectionValidator( pool( true ), poolSettings );
+
+        // When
         BlockingPooledConnectionQueue
                 queue = mock( BlockingPooledConnectionQueue.class );
+        PooledConnectionReleaseConsumer consumer =
+                new PooledConnectionReleaseConsumer( queue, validator );
+        consumer.accept( conn );
+
+        // Then it is left to the background validation
+        verify( delegate, never() ).run( anyString(), anyMap(), any( Collector.class ) );
+        verify( queue ).offer( conn );
+    }
+
+    @Test
+    public void shouldInvalidateConnectionOlderThanMaxLifetime() throws Throwable
+    {
+        // Given
+        PoolSettings poolSettings = new PoolSettings( 10, 200, 0, 10, 1000, 1000, 0, 0 );
+        when( clock.millis() ).thenReturn( 0L, 1001L );
+        when( delegate.isOpen() ).thenReturn( true );
+        PooledConnection conn = new PooledConnection( delegate, Consumers.<PooledConnection>noOp(), clock );
         PooledConnectionValidator validator =
                 new PooledConnectionValidator( pool( true ), poolSettings );
 
+        // When
+        BlockingPooledConnectionQueue
+                queue = mock( BlockingPooledConnectionQueue.class );
         PooledConnectionReleaseConsumer consumer =
-                new PooledConnectionReleaseConsumer( queue, validator);
+                new PooledConnectionReleaseConsumer( queue, validator );
         consumer.accept( conn );
 
+        // Then
         verify( queue, never() ).offer( conn );
+        verify( delegate, never() ).reset();
+        assertFalse( validator.isReusable( conn ) );
+    }
+
+    @Test
+    public void shouldNotReuseClosedConnection() throws Throwable
+    {
+        // Given
+        when( delegate.isOpen() ).thenReturn( false );
+        PooledConnectionValidator validator =
+                new PooledConnectionValidator( pool( true ), PoolSettings.defaultSettings() );
+
+        // When/Then
+        assertFalse( validator.isReusable( conn ) );
+        assertFalse( validator.isIdleConnectionValid( conn ) );
     }
 
     @SuppressWarnings( "unchecked" )
@@ -94,18 +151,13 @@ public class ConnectionInvalidationTest
         Config config = Config.defaultConfig();
         PoolSettings poolSettings = PoolSettings.defaultSettings();
         when( clock.millis() ).thenReturn( 0L, poolSettings.idleTimeBeforeConnectionTest() - 1L );
+        when( delegate.isOpen() ).thenReturn( true );
         PooledConnection conn = new PooledConnection( delegate, Consumers.<PooledConnection>noOp(), clock );
         PooledConnectionValidator validator =
                 new PooledConnectionValidator( pool( true ), poolSettings );
 
         // When/Then
-        BlockingPooledConnectionQueue
-                queue = mock( BlockingPooledConnectionQueue.class );
-        PooledConnectionReleaseConsumer consumer =
-                new PooledConnectionReleaseConsumer( queue,validator );
-        consumer.accept( conn );
-
-        verify( queue ).offer( conn );
+        assertTrue( validator.isIdleConnectionValid( conn ) );
     }
 
     @Test
@@ -127,6 +179,29 @@ public class ConnectionInvalidationTest
         verify( queue, never() ).offer( conn );
     }
 
+    @Test
+    public void shouldQueueResetWithoutSyncWhenResetIsDeferred() throws Throwable
+    {
+        // Given
+        PoolSettings poolSettings = new PoolSettings( 10, 200, 0, 10, 1000, 0, 0, 0, true );
+        PooledConnection conn = new PooledConnection( delegate, Consumers.<PooledConnection>noOp(), clock );
+        PooledConnectionValidator validator =
+                new PooledConnectionValidator( pool( true ), poolSettings );
+
+        // When
+        BlockingPooledConnectionQueue
+                queue = mock( BlockingPooledConnectionQueue.class );
+        PooledConnectionReleaseConsumer consumer =
+                new PooledConnectionReleaseConsumer( queue, validator );
+        consumer.accept( conn );
+
+        // Then
+        verify( delegate ).reset();
+        verify( delegate, never() ).sync();
+        verify( delegate, never() ).flush();
+        verify( queue ).offer( conn );
+    }
+
     @Test
     public void shouldInvalidateOnUnrecoverableProblems() throws Throwable
     {
@@ -0,0 +1,187 @@
+/**
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.net.pooling;
+
+import org.junit.Test;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.neo4j.driver.internal.spi.Connection;
+import org.neo4j.driver.internal.util.Clock;
+import org.neo4j.driver.internal.util.Consumers;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public class IdleConnectionStackTest
+{
+    @Test
+    public void shouldHandOutMostRecentlyReleasedConnectionFirst() throws Exception
+    {
+        // Given
+        final IdleConnectionStack stack = new IdleConnectionStack( 10 );
+        final PooledConnection first = mock( PooledConnection.class );
+        final PooledConnection second = mock( PooledConnection.class );
+
+        // When released by another thread, so no thread local connection applies
+        onOtherThread( new Callable<Void>()
+        {
+            @Override
+            public Void call()
+            {
+                stack.offer( first );
+                stack.offer( second );
+                return null;
+            }
+        } );
+
+        // Then
+        assertThat( stack.poll(), sameInstance( second ) );
+        assertThat( stack.poll(), sameInstance( first ) );
+        assertThat( stack.poll(), nullValue() );
+    }
+
+    @Test
+    public void shouldPreferConnectionReleasedByTheSameThread() throws Exception
+    {
+        // Given
+        final IdleConnectionStack stack = new IdleConnectionStack( 10 );
+        PooledConnection own = mock( PooledConnection.class );
+        final PooledConnection other = mock( PooledConnection.class );
+        stack.offer( own );
+
+        // When
+        onOtherThread( new Callable<Void>()
+        {
+            @Override
+            public Void call()
+            {
+                stack.offer( other );
+                return null;
+            }
+        } );
+
+        // Then
+        assertThat( stack.poll(), sameInstance( own ) );
+        assertThat( stack.poll(), sameInstance( other ) );
+    }
+
+    @Test
+    public void shouldTakeTopConnectionWhenOwnConnectionWasTakenByAnotherThread() throws Exception
+    {
+        // Given
+        final IdleConnectionStack stack = new IdleConnectionStack( 10 );
+        PooledConnection own = mock( PooledConnection.class );
+        PooledConnection other = mock( PooledConnection.class );
+        stack.offer( other );
+        stack.offer( own );
+
+        // When
+        PooledConnection stolen = onOtherThread( new Callable<PooledConnection>()
+        {
+            @Override
+            public PooledConnection call()
+            {
+                return stack.poll();
+            }
+        } );
+
+        // Then
+        assertThat( stolen, sameInstance( own ) );
+        assertThat( stack.poll(), sameInstance( other ) );
+        assertTrue( stack.isEmpty() );
+    }
+
+    @Test
+    public void shouldRejectConnectionsBeyondCapacity()
+    {
+        // Given
+        IdleConnectionStack stack = new IdleConnectionStack( 2 );
+        PooledConnection rejected = mock( PooledConnection.class );
+
+        // When
+        stack.offer( mock( PooledConnection.class ) );
+        stack.offer( mock( PooledConnection.class ) );
+
+        // Then
+        assertFalse( stack.offer( rejected ) );
+        assertFalse( stack.contains( rejected ) );
+        assertThat( stack.size(), equalTo( 2 ) );
+        assertThat( stack.toList().size(), equalTo( 2 ) );
+
+        // And once a connection is taken, there is room again
+        stack.poll();
+        assertTrue( stack.offer( rejected ) );
+        assertTrue( stack.contains( rejected ) );
+    }
+
+    @Test
+    public void shouldNotKeepConnectionTakenByAnotherThreadReachable() throws Exception
+    {
+        // Given
+        final IdleConnectionStack stack = new IdleConnectionStack( 10 );
+        PooledConnection released = new PooledConnection( mock( Connection.class ),
+                Consumers.<PooledConnection>noOp(), Clock.SYSTEM );
+        WeakReference<PooledConnection> reference = new WeakReference<>( released );
+        stack.offer( released );
+        released = null;
+
+        // When taken and disposed of by another thread
+        onOtherThread( new Callable<Void>()
+        {
+            @Override
+            public Void call()
+            {
+                stack.poll().dispose();
+                return null;
+            }
+        } );
+
+        // Then
+        for ( int i = 0; i < 100 && reference.get() != null; i++ )
+        {
+            System.gc();
+            Thread.sleep( 10 );
+        }
+        assertThat( reference.get(), nullValue() );
+        assertThat( stack.poll(), nullValue() );
+    }
+
+    private static <T> T onOtherThread( Callable<T> task ) throws Exception
+    {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try
+        {
+            return executor.submit( task ).get( 10, SECONDS );
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+}
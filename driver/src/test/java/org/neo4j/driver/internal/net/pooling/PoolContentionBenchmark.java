@@ -0,0 +1,203 @@
+/**
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.net.pooling;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.driver.internal.util.Clock;
+import org.neo4j.driver.internal.util.Supplier;
+
+/**
+ * Measures how many acquire and release pairs per second the idle connection store of a pool sustains when many
+ * threads borrow a few connections at the same time, comparing the {@link LinkedBlockingQueue} the pool used to
+ * keep idle connections in with the {@link IdleConnectionStack} it uses now, both on their own and through the
+ * {@link BlockingPooledConnectionQueue} that acquires and releases connections for the pool.
+ */
+public class PoolContentionBenchmark
+{
+    private static final int CONNECTIONS = 16;
+
+    public static void main( String... args ) throws Exception
+    {
+        long iterations = 200_000;
+
+        for ( int concurrency : new int[]{8, 64, 128} )
+        {
+            bench( "LinkedBlockingQueue", new QueueStore(), iterations / concurrency, concurrency );
+            bench( "IdleConnectionStack", new StackStore(), iterations / concurrency, concurrency );
+            bench( "BlockingPooledConnectionQueue", new PoolStore(), iterations / concurrency, concurrency );
+        }
+    }
+
+    interface IdleStore
+    {
+        boolean offer( PooledConnection connection );
+
+        PooledConnection poll();
+    }
+
+    static class QueueStore implements IdleStore
+    {
+        private final BlockingQueue<PooledConnection> queue = new LinkedBlockingQueue<>( CONNECTIONS );
+
+        QueueStore()
+        {
+            for ( int i = 0; i < CONNECTIONS; i++ )
+            {
+                queue.offer( newConnection() );
+            }
+        }
+
+        @Override
+        public boolean offer( PooledConnection connection )
+        {
+            return queue.offer( connection );
+        }
+
+        @Override
+        public PooledConnection poll()
+        {
+            return queue.poll();
+        }
+    }
+
+    static class StackStore implements IdleStore
+    {
+        private final IdleConnectionStack stack = new IdleConnectionStack( CONNECTIONS );
+
+        StackStore()
+        {
+            for ( int i = 0; i < CONNECTIONS; i++ )
+            {
+                stack.offer( newConnection() );
+            }
+        }
+
+        @Override
+        public boolean offer( PooledConnection connection )
+        {
+            return stack.offer( connection );
+        }
+
+        @Override
+        public PooledConnection poll()
+        {
+            return stack.poll();
+        }
+    }
+
+    /**
+     * Acquires through the pool as a session does, so that the connections are opened by the pool itself, up to its
+     * max size, and threads wait for them once all are in use.
+     */
+    static class PoolStore implements IdleStore
+    {
+        private final BlockingPooledConnectionQueue pool = new BlockingPooledConnectionQueue(
+                CONNECTIONS, CONNECTIONS, TimeUnit.MINUTES.toMillis( 1 ), new AcquisitionMetrics() );
+        private final Supplier<PooledConnection> connect = new Supplier<PooledConnection>()
+        {
+            @Override
+            public PooledConnection get()
+            {
+                return newConnection();
+            }
+        };
+
+        @Override
+        public boolean offer( PooledConnection connection )
+        {
+            return pool.offer( connection );
+        }
+
+        @Override
+        public PooledConnection poll()
+        {
+            return pool.acquire( connect );
+        }
+    }
+
+    private static PooledConnection newConnection()
+    {
+        return new PooledConnection( null, null, Clock.SYSTEM );
+    }
+
+    private static void bench( String name, IdleStore store, long iterations, int concurrency ) throws Exception
+    {
+        ExecutorService executorService = Executors.newFixedThreadPool( concurrency );
+        try
+        {
+            // Warmup
+            awaitAll( executorService.invokeAll( workers( store, iterations, concurrency ) ) );
+
+            long start = System.nanoTime();
+            awaitAll( executorService.invokeAll( workers( store, iterations, concurrency ) ) );
+            long delta = System.nanoTime() - start;
+
+            System.out.printf( "%s with %d threads: %s ops/s%n",
+                    name, concurrency, (iterations * concurrency) / (delta / 1_000_000_000.0) );
+        }
+        finally
+        {
+            executorService.shutdownNow();
+            executorService.awaitTermination( 10, TimeUnit.SECONDS );
+        }
+    }
+
+    private static void awaitAll( List<Future<Object>> futures ) throws Exception
+    {
+        for ( Future<Object> future : futures )
+        {
+            future.get();
+        }
+    }
+
+    private static List<Callable<Object>> workers( final IdleStore store, final long iterations, int numWorkers )
+    {
+        List<Callable<Object>> workers = new ArrayList<>();
+        for ( int i = 0; i < numWorkers; i++ )
+        {
+            workers.add( new Callable<Object>()
+            {
+                @Override
+                public Object call() throws Exception
+                {
+                    for ( long i = 0; i < iterations; i++ )
+                    {
+                        PooledConnection connection;
+                        while ( (connection = store.poll()) == null )
+                        {
+                            Thread.yield();
+                        }
+                        store.offer( connection );
+                    }
+                    return null;
+                }
+            } );
+        }
+        return workers;
+    }
+}
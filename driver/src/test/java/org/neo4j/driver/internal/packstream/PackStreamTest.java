@@ -40,6 +40,8 @@ import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Arrays.asList;
 import static junit.framework.TestCase.assertFalse;
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.junit.Assert.assertArrayEquals;
@@ -416,6 +418,37 @@ public class PackStreamTest
 
     }
 
+    @Test
+    public void testCanUnpackRecurringStringsAsTheSameInstance() throws Throwable
+    {
+        // Given
+        Machine machine = new Machine();
+        String longString = new String( new char[StringInterner.MAX_LENGTH + 1] ).replace( '\0', 'a' );
+
+        // When
+        PackStream.Packer packer = machine.packer();
+        for ( int i = 0; i < 2; i++ )
+        {
+            packer.pack( "Person" );
+            packer.pack( "Mjölnir" );
+            packer.pack( longString );
+        }
+        packer.flush();
+
+        // Then
+        PackStream.Unpacker unpacker = newUnpacker( machine.output() );
+        StringInterner interner = new StringInterner();
+        String person = unpacker.unpackString( interner );
+        String code = unpacker.unpackString( interner );
+        String notInterned = unpacker.unpackString( interner );
+        assertThat( person, equalTo( "Person" ) );
+        assertThat( code, equalTo( "Mjölnir" ) );
+        assertThat( notInterned, equalTo( longString ) );
+        assertThat( unpacker.unpackString( interner ), sameInstance( person ) );
+        assertThat( unpacker.unpackString( interner ), sameInstance( code ) );
+        assertThat( unpacker.unpackString( interner ), not( sameInstance( notInterned ) ) );
+    }
+
     @Test
     public void testCanPackAndUnpackSpecialString() throws Throwable
     {
@@ -0,0 +1,48 @@
+/**
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.security;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class TLSHandshakeMetricsTest
+{
+    private final TLSHandshakeMetrics metrics = new TLSHandshakeMetrics();
+
+    @Test
+    public void shouldCountHandshakesAndAverageTheirTime() throws Throwable
+    {
+        // When
+        metrics.handshakeCompleted( 4_000_000 );
+        metrics.handshakeCompleted( 2_000_000 );
+        metrics.handshakeCompleted( 6_000_000 );
+
+        // Then
+        assertEquals( 3, metrics.handshakes() );
+        assertEquals( 4.0, metrics.averageHandshakeMillis(), 0.001 );
+    }
+
+    @Test
+    public void shouldAverageNothingBeforeTheFirstHandshake() throws Throwable
+    {
+        assertEquals( 0, metrics.handshakes() );
+        assertEquals( 0.0, metrics.averageHandshakeMillis(), 0.001 );
+    }
+}
@@ -0,0 +1,180 @@
+/**
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.security;
+
+import org.junit.Test;
+import org.mockito.InOrder;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.ByteChannel;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.SSLEngineResult;
+import javax.net.ssl.SSLSession;
+
+import org.neo4j.driver.internal.logging.DevNullLogger;
+
+import static javax.net.ssl.SSLEngineResult.HandshakeStatus.NOT_HANDSHAKING;
+import static javax.net.ssl.SSLEngineResult.Status.BUFFER_OVERFLOW;
+import static javax.net.ssl.SSLEngineResult.Status.OK;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.same;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class TLSSocketChannelTest
+{
+    @Test
+    public void shouldCopyAsMuchAsFitsAndKeepTheSourceLimit() throws Throwable
+    {
+        // Given
+        ByteBuffer from = ByteBuffer.allocateDirect( 16 );
+        from.put( new byte[]{1, 2, 3, 4, 5, 6, 7, 8} ).flip();
+        from.position( 2 );
+        ByteBuffer to = ByteBuffer.allocate( 4 );
+        to.put( (byte) 0 );
+
+        // When
+        int copied = TLSSocketChannel.bufferCopy( from, to );
+
+        // Then
+        assertEquals( 3, copied );
+        assertEquals( 5, from.position() );
+        assertEquals( 8, from.limit() );
+        assertEquals( 4, to.position() );
+        assertEquals( 3, to.get( 1 ) );
+        assertEquals( 5, to.get( 3 ) );
+    }
+
+    @Test
+    public void shouldDecipherStraightIntoLargeDestination() throws Throwable
+    {
+        // Given
+        byte[] record = bytes( 10 );
+        ByteBuffer plainIn = ByteBuffer.allocate( APPLICATION_BUFFER_SIZE );
+        SSLEngine engine = engineCopying( record.length );
+        TLSSocketChannel channel = new TLSSocketChannel( channelReading( record ), DevNullLogger.DEV_NULL_LOGGER,
+                engine, plainIn, ByteBuffer.allocate( 64 ), ByteBuffer.allocate( 64 ), ByteBuffer.allocate( 64 ) );
+        ByteBuffer dst = ByteBuffer.allocate( 64 );
+
+        // When
+        int read = channel.read( dst );
+
+        // Then
+        assertEquals( record.length, read );
+        assertEquals( ByteBuffer.wrap( record ), (ByteBuffer) dst.flip() );
+        verify( engine ).unwrap( any( ByteBuffer.class ), same( dst ) );
+        verify( engine, never() ).unwrap( any( ByteBuffer.class ), same( plainIn ) );
+    }
+
+    @Test
+    public void shouldFallBackToPlainInWhenRecordDoesNotFitDestination() throws Throwable
+    {
+        // Given a record larger than the application buffer size the engine announces
+        byte[] record = bytes( 24 );
+        ByteBuffer plainIn = ByteBuffer.allocate( 32 );
+        SSLEngine engine = engineCopying( record.length );
+        TLSSocketChannel channel = new TLSSocketChannel( channelReading( record ), DevNullLogger.DEV_NULL_LOGGER,
+                engine, plainIn, ByteBuffer.allocate( 64 ), ByteBuffer.allocate( 64 ), ByteBuffer.allocate( 64 ) );
+        ByteBuffer dst = ByteBuffer.allocate( 20 );
+
+        // When
+        int first = channel.read( dst );
+        ByteBuffer rest = ByteBuffer.allocate( 20 );
+        int second = channel.read( rest );
+
+        // Then
+        assertEquals( 20, first );
+        assertEquals( 4, second );
+        assertEquals( ByteBuffer.wrap( record, 0, 20 ), (ByteBuffer) dst.flip() );
+        assertEquals( ByteBuffer.wrap( record, 20, 4 ), (ByteBuffer) rest.flip() );
+        InOrder unwraps = inOrder( engine );
+        unwraps.verify( engine ).unwrap( any( ByteBuffer.class ), same( dst ) );
+        unwraps.verify( engine ).unwrap( any( ByteBuffer.class ), same( plainIn ) );
+    }
+
+    private static final int APPLICATION_BUFFER_SIZE = 16;
+
+    private static byte[] bytes( int length )
+    {
+        byte[] bytes = new byte[length];
+        for ( int i = 0; i < length; i++ )
+        {
+            bytes[i] = (byte) (i + 1);
+        }
+        return bytes;
+    }
+
+    /**
+     * An engine that does not handshake, and deciphers a record by copying it, overflowing unless the destination
+     * has room for the whole record.
+     */
+    private static SSLEngine engineCopying( final int recordLength ) throws Throwable
+    {
+        SSLSession session = mock( SSLSession.class );
+        when( session.getApplicationBufferSize() ).thenReturn( APPLICATION_BUFFER_SIZE );
+        SSLEngine engine = mock( SSLEngine.class );
+        when( engine.getSession() ).thenReturn( session );
+        when( engine.getHandshakeStatus() ).thenReturn( NOT_HANDSHAKING );
+        when( engine.unwrap( any( ByteBuffer.class ), any( ByteBuffer.class ) ) ).thenAnswer(
+                new Answer<SSLEngineResult>()
+                {
+                    @Override
+                    public SSLEngineResult answer( InvocationOnMock invocation ) throws Throwable
+                    {
+                        ByteBuffer src = (ByteBuffer) invocation.getArguments()[0];
+                        ByteBuffer dst = (ByteBuffer) invocation.getArguments()[1];
+                        if ( dst.remaining() < recordLength )
+                        {
+                            return new SSLEngineResult( BUFFER_OVERFLOW, NOT_HANDSHAKING, 0, 0 );
+                        }
+                        dst.put( src );
+                        return new SSLEngineResult( OK, NOT_HANDSHAKING, recordLength, recordLength );
+                    }
+                } );
+        return engine;
+    }
+
+    private static ByteChannel channelReading( final byte[] record ) throws Throwable
+    {
+        ByteChannel channel = mock( ByteChannel.class );
+        when( channel.read( any( ByteBuffer.class ) ) ).thenAnswer( new Answer<Integer>()
+        {
+            private boolean read;
+
+            @Override
+            public Integer answer( InvocationOnMock invocation )
+            {
+                if ( read )
+                {
+                    return 0;
+                }
+                read = true;
+                ((ByteBuffer) invocation.getArguments()[0]).put( record );
+                return record.length;
+            }
+        } );
+        return channel;
+    }
+}
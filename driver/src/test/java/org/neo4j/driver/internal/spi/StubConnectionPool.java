@@ -176,6 +176,11 @@ public class StubConnectionPool implements ConnectionPool
         return connection;
     }
 
+    @Override
+    public void warmUp( BoltServerAddress address )
+    {
+    }
+
     @Override
     public void purge( BoltServerAddress address )
     {
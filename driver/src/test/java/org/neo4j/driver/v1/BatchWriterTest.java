@@ -0,0 +1,151 @@
+/**
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.v1;
+
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Matchers;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.driver.v1.exceptions.ClientException;
+import org.neo4j.driver.v1.summary.ResultSummary;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class BatchWriterTest
+{
+    private final Driver driver = mock( Driver.class );
+    private final Session session = mock( Session.class );
+    private final StatementResult result = mock( StatementResult.class );
+    private final ResultSummary summary = mock( ResultSummary.class );
+    private final BatchWriter.Listener listener = mock( BatchWriter.Listener.class );
+
+    public BatchWriterTest()
+    {
+        when( driver.session() ).thenReturn( session );
+        when( session.run( anyString(), any( Value.class ) ) ).thenReturn( result );
+        when( result.consume() ).thenReturn( summary );
+    }
+
+    @Test
+    public void shouldWriteFullBatchesAndTheRestOnClose()
+    {
+        // Given
+        BatchWriter writer = new BatchWriter( driver, "MERGE (n {id: row.id})", 3, 1, TimeUnit.HOURS, 2, listener );
+
+        // When
+        for ( int i = 0; i < 7; i++ )
+        {
+            writer.write( row( i ) );
+        }
+        writer.close();
+
+        // Then
+        ArgumentCaptor<Value> batches = ArgumentCaptor.forClass( Value.class );
+        verify( session, times( 3 ) ).run( eq( "UNWIND {batch} AS row MERGE (n {id: row.id})" ), batches.capture() );
+        verify( session, times( 3 ) ).close();
+        int rows = 0;
+        for ( Value batch : batches.getAllValues() )
+        {
+            rows += batch.get( "batch" ).size();
+        }
+        assertThat( rows, equalTo( 7 ) );
+        verify( listener, times( 2 ) ).written( 3, summary );
+        verify( listener ).written( 1, summary );
+    }
+
+    @Test
+    public void shouldWriteBatchOnceMaxDelayHasPassed()
+    {
+        // Given
+        BatchWriter writer = new BatchWriter( driver, "CREATE (n {id: row.id})", 100, 20, TimeUnit.MILLISECONDS, 1,
+                listener );
+
+        // When
+        writer.write( row( 1 ) );
+
+        // Then
+        verify( listener, timeout( 10_000 ) ).written( 1, summary );
+        writer.close();
+        verify( session ).run( anyString(), any( Value.class ) );
+    }
+
+    @Test
+    public void shouldReportFailedBatches()
+    {
+        // Given
+        ClientException error = new ClientException( "Neo.ClientError.Statement.SyntaxError", "Oops" );
+        when( session.run( anyString(), any( Value.class ) ) ).thenThrow( error );
+        BatchWriter writer = new BatchWriter( driver, "CREAT (n)", 2, 1, TimeUnit.HOURS, 1, listener );
+
+        // When
+        writer.write( row( 1 ) );
+        writer.write( row( 2 ) );
+        writer.flush();
+
+        // Then
+        verify( listener ).failed( Arrays.<Map<String,Object>>asList( row( 1 ), row( 2 ) ), error );
+        verify( listener, never() ).written( any( Integer.class ), any( ResultSummary.class ) );
+        writer.close();
+    }
+
+    @Test
+    public void shouldWriteDelayedBatchesThatRaceClose() throws Exception
+    {
+        int writers = 1000;
+        for ( int i = 0; i < writers; i++ )
+        {
+            // Given
+            BatchWriter writer = new BatchWriter( driver, "CREATE (n {id: row.id})", 100, 1, TimeUnit.MILLISECONDS,
+                    1, listener );
+            writer.write( row( i ) );
+
+            // When
+            if ( i % 2 == 0 )
+            {
+                Thread.sleep( 1 );
+            }
+            writer.close();
+        }
+
+        // Then
+        verify( listener, never() ).failed( Matchers.<List<Map<String,Object>>>any(), any( Throwable.class ) );
+        verify( listener, times( writers ) ).written( 1, summary );
+    }
+
+    private static Map<String,Object> row( int id )
+    {
+        return Collections.<String,Object>singletonMap( "id", id );
+    }
+}
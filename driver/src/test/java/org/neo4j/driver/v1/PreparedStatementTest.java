@@ -0,0 +1,98 @@
+/**
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.v1;
+
+import org.junit.Test;
+
+import org.neo4j.driver.v1.exceptions.ClientException;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.fail;
+import static org.neo4j.driver.v1.Values.parameters;
+
+public class PreparedStatementTest
+{
+    @Test
+    public void shouldBindValuesToParametersInOrder()
+    {
+        // Given
+        PreparedStatement prepared = new PreparedStatement( "CREATE (p:Person {name: {name}, age: {age}})",
+                "name", "age" );
+
+        // When
+        Statement statement = prepared.bind( "Bob", 42 );
+
+        // Then
+        assertThat( statement.parameters(), equalTo( parameters( "name", "Bob", "age", 42 ) ) );
+        assertThat( prepared.parameterNames(), equalTo( asList( "name", "age" ) ) );
+    }
+
+    @Test
+    public void shouldShareTextBetweenBoundStatements()
+    {
+        // Given
+        PreparedStatement prepared = new PreparedStatement( "MATCH (n) WHERE id(n) = {id} RETURN n", "id" );
+
+        // When
+        Statement first = prepared.bind( 1 );
+        Statement second = prepared.bind( 2 );
+
+        // Then
+        assertThat( first.text(), sameInstance( second.text() ) );
+        assertThat( first.parameters().get( "id" ).asInt(), equalTo( 1 ) );
+        assertThat( second.parameters().get( "id" ).asInt(), equalTo( 2 ) );
+    }
+
+    @Test
+    public void shouldFailToBindWrongNumberOfValues()
+    {
+        // Given
+        PreparedStatement prepared = new PreparedStatement( "RETURN {a} + {b}", "a", "b" );
+
+        // When
+        try
+        {
+            prepared.bind( 1 );
+            fail( "Should not bind a single value to two parameters" );
+        }
+        catch ( ClientException e )
+        {
+            // Then
+            assertThat( e.getMessage(), containsString( "Expected 2 parameter values" ) );
+        }
+    }
+
+    @Test
+    public void shouldFailToPrepareWithDuplicateParameterNames()
+    {
+        try
+        {
+            new PreparedStatement( "RETURN {a}", "a", "a" );
+            fail( "Should not prepare a statement with the same parameter twice" );
+        }
+        catch ( ClientException e )
+        {
+            assertThat( e.getMessage(), containsString( "must be unique" ) );
+        }
+    }
+}
@@ -31,6 +31,7 @@ import org.neo4j.driver.internal.net.ChunkedInput;
 import org.neo4j.driver.internal.messaging.ResetMessage;
 import org.neo4j.driver.internal.messaging.AckFailureMessage;
 import org.neo4j.driver.internal.messaging.DiscardAllMessage;
+import org.neo4j.driver.internal.messaging.EncodedRecord;
 import org.neo4j.driver.internal.messaging.FailureMessage;
 import org.neo4j.driver.internal.messaging.IgnoredMessage;
 import org.neo4j.driver.internal.messaging.InitMessage;
@@ -272,6 +273,15 @@ public class DumpMessage
             return packInput;
         }
 
+        @Override
+        public String readString( int size ) throws IOException
+        {
+            prePos = curPos;
+            String read = delegate.readString( size );
+            curPos += size;
+            return read;
+        }
+
         @Override
         public byte peekByte()
         {
@@ -326,6 +336,12 @@ public class DumpMessage
             outcome.add( new RunMessage( statement, parameters ) );
         }
 
+        @Override
+        public void handleRunMessage( String statement, Value parameters )
+        {
+            outcome.add( new RunMessage( statement, parameters ) );
+        }
+
         @Override
         public void handleDiscardAllMessage()
         {
@@ -356,6 +372,12 @@ public class DumpMessage
             outcome.add( new RecordMessage( fields ) );
         }
 
+        @Override
+        public void handleRecordMessage( EncodedRecord record )
+        {
+            outcome.add( new RecordMessage( record.values() ) );
+        }
+
         @Override
         public void handleFailureMessage( String code, String message )
         {
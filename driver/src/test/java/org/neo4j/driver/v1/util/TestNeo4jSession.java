@@ -21,13 +21,17 @@ package org.neo4j.driver.v1.util;
 import org.junit.runner.Description;
 import org.junit.runners.model.Statement;
 
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
 
 import org.neo4j.driver.v1.Record;
 import org.neo4j.driver.v1.Session;
 import org.neo4j.driver.v1.StatementResult;
+import org.neo4j.driver.v1.StatementResultCursor;
 import org.neo4j.driver.v1.Transaction;
 import org.neo4j.driver.v1.Value;
+import org.neo4j.driver.v1.summary.ResultSummary;
 import org.neo4j.driver.v1.types.TypeSystem;
 
 /**
@@ -94,6 +98,12 @@ public class TestNeo4jSession extends TestNeo4j implements Session
         throw new UnsupportedOperationException( "Disallowed on this test session" );
     }
 
+    @Override
+    public CompletionStage<Void> closeAsync()
+    {
+        throw new UnsupportedOperationException( "Disallowed on this test session" );
+    }
+
     @Override
     public String server()
     {
@@ -112,6 +122,30 @@ public class TestNeo4jSession extends TestNeo4j implements Session
         return realSession.beginTransaction( bookmark );
     }
 
+    @Override
+    public List<StatementResult> runInTransaction( List<org.neo4j.driver.v1.Statement> statements )
+    {
+        return realSession.runInTransaction( statements );
+    }
+
+    @Override
+    public List<StatementResult> runInTransaction( List<org.neo4j.driver.v1.Statement> statements, String bookmark )
+    {
+        return realSession.runInTransaction( statements, bookmark );
+    }
+
+    @Override
+    public ResultSummary execute( org.neo4j.driver.v1.Statement statement )
+    {
+        return realSession.execute( statement );
+    }
+
+    @Override
+    public ResultSummary execute( String statementTemplate, Value parameters )
+    {
+        return realSession.execute( statementTemplate, parameters );
+    }
+
     @Override
     public String lastBookmark()
     {
@@ -154,6 +188,31 @@ public class TestNeo4jSession extends TestNeo4j implements Session
         return realSession.run( statement.text(), statement.parameters() );
     }
 
+    @Override
+    public CompletionStage<StatementResultCursor> runAsync( String statementText,
+            Map<String,Object> statementParameters )
+    {
+        return realSession.runAsync( statementText, statementParameters );
+    }
+
+    @Override
+    public CompletionStage<StatementResultCursor> runAsync( String statementText, Value parameters )
+    {
+        return realSession.runAsync( statementText, parameters );
+    }
+
+    @Override
+    public CompletionStage<StatementResultCursor> runAsync( String statementTemplate )
+    {
+        return realSession.runAsync( statementTemplate );
+    }
+
+    @Override
+    public CompletionStage<StatementResultCursor> runAsync( org.neo4j.driver.v1.Statement statement )
+    {
+        return realSession.runAsync( statement.text(), statement.parameters() );
+    }
+
     @Override
     public TypeSystem typeSystem()
     {